@@ -0,0 +1,76 @@
+package com.boardbuddies.boardbuddiesserver.benchmark;
+
+import com.boardbuddies.boardbuddiesserver.config.JwtProperties;
+import com.boardbuddies.boardbuddiesserver.domain.Role;
+import com.boardbuddies.boardbuddiesserver.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 필터의 액세스 토큰 처리 비용 비교 (요청 1건 기준)
+ *
+ * validateThenParse: 요청마다 서명 키와 파서를 새로 만들고, 검증(validateToken)과 클레임 추출(getClaimsFromToken)로 두 번 파싱하는 기존 방식
+ * parseOnce: 시작 시 만든 파서로 한 번만 파싱 (검증 보관 없이, 처음 보는 토큰)
+ * verifiedCacheHit: 같은 토큰의 반복 요청 - 검증해 둔 클레임을 그대로 사용
+ *
+ * 실행: ./gradlew jmh (결과: build/results/jmh/results.json)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtParseBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key";
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+        jwtUtil = new JwtUtil(jwtProperties, new SimpleMeterRegistry());
+        jwtUtil.init();
+        token = jwtUtil.generateAccessToken(1L, 10L, Role.MEMBER, 1L);
+        jwtUtil.parseAccessToken(token);
+    }
+
+    @Benchmark
+    public void validateThenParse(Blackhole blackhole) {
+        blackhole.consume(parseWithNewParser(token));
+        blackhole.consume(parseWithNewParser(token).getSubject());
+    }
+
+    @Benchmark
+    public Claims parseOnce() {
+        return jwtUtil.parseToken(token);
+    }
+
+    @Benchmark
+    public Claims verifiedCacheHit() {
+        return jwtUtil.parseAccessToken(token);
+    }
+
+    private Claims parseWithNewParser(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
@@ -0,0 +1,104 @@
+package com.boardbuddies.boardbuddiesserver.benchmark;
+
+import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationMultiResponse;
+import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationOutcome;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 날짜별 예약 실패 처리 비용 비교
+ *
+ * exceptionMessage: 실패마다 RuntimeException을 만들고 메시지를 문자열 검색해 상태를 정하는 기존 방식
+ * typedOutcome: 실패를 ReservationOutcome 값으로 반환하는 방식
+ *
+ * 오픈 직후처럼 대부분의 날짜가 실패하는 상황을 가정하여, 14일치 요청 중 failurePercent 만큼 실패시킵니다.
+ * 실행: ./gradlew jmh (결과: build/results/jmh/results.json)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReservationOutcomeBenchmark {
+
+    private static final int DATES = 14;
+
+    private static final String[] FAILURE_MESSAGES = {
+            "이미 해당 날짜에 예약이 존재합니다.",
+            "접속량이 많아 처리가 지연되고 있습니다. 잠시 후 다시 시도해주세요.",
+            "과거 날짜는 예약할 수 없습니다."
+    };
+
+    private static final ReservationOutcome[] FAILURE_OUTCOMES = {
+            ReservationOutcome.DUPLICATED,
+            ReservationOutcome.RETRY,
+            ReservationOutcome.INVALID
+    };
+
+    @Param({ "0", "50", "90" })
+    private int failurePercent;
+
+    private LocalDate[] dates;
+    private int[] failures;
+
+    @Setup
+    public void setUp() {
+        dates = new LocalDate[DATES];
+        failures = new int[DATES];
+        LocalDate start = LocalDate.of(2025, 1, 6);
+        for (int i = 0; i < DATES; i++) {
+            dates[i] = start.plusDays(i);
+            // -1: 성공, 0 이상: FAILURE_* 인덱스
+            failures[i] = i * 100 < failurePercent * DATES ? i % FAILURE_MESSAGES.length : -1;
+        }
+    }
+
+    @Benchmark
+    public void exceptionMessage(Blackhole blackhole) {
+        for (int i = 0; i < DATES; i++) {
+            String status;
+            try {
+                reserveOrThrow(i);
+                status = "created";
+            } catch (Exception e) {
+                status = "invalid";
+                String reason = e.getMessage();
+                if (reason.contains("잔여 수량"))
+                    status = "sold_out";
+                else if (reason.contains("오픈 전") || reason.contains("마감"))
+                    status = "closed";
+                else if (reason.contains("이미 예약"))
+                    status = "duplicated";
+                else if (reason.contains("잠시 후"))
+                    status = "retry_lazily";
+            }
+            blackhole.consume(status);
+        }
+    }
+
+    @Benchmark
+    public void typedOutcome(Blackhole blackhole) {
+        for (int i = 0; i < DATES; i++) {
+            blackhole.consume(reserveOrOutcome(i));
+        }
+    }
+
+    private void reserveOrThrow(int index) {
+        if (failures[index] >= 0) {
+            throw new RuntimeException(FAILURE_MESSAGES[failures[index]]);
+        }
+    }
+
+    private ReservationMultiResponse.ReservationResult reserveOrOutcome(int index) {
+        ReservationOutcome outcome = failures[index] >= 0 ? FAILURE_OUTCOMES[failures[index]] : ReservationOutcome.CREATED;
+        return ReservationMultiResponse.ReservationResult.of(dates[index], outcome);
+    }
+}
@@ -5,14 +5,19 @@ import com.boardbuddies.boardbuddiesserver.dto.crew.*;
 import com.boardbuddies.boardbuddiesserver.dto.common.ApiResponse;
 import com.boardbuddies.boardbuddiesserver.service.CrewApplicationService;
 import com.boardbuddies.boardbuddiesserver.service.CrewService;
+import com.boardbuddies.boardbuddiesserver.service.CrewVersionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.Base64;
 import java.util.List;
 
 /**
@@ -26,20 +31,42 @@ public class CrewController {
 
     private final CrewService crewService;
     private final CrewApplicationService crewApplicationService;
+    private final CrewVersionService crewVersionService;
 
     /**
-     * 모든 크루 목록 조회
+     * 크루 목록 조회 (커서 페이지네이션)
      * 
-     * GET /api/crews
+     * GET /api/crews?univ={univ}&cursor={cursor}&size={size}
      * 
-     * @return 크루 목록
+     * 크루 목록 버전과 조회 조건으로 ETag를 만들어, If-None-Match가 같으면 조회 없이 304를 응답합니다.
+     * 
+     * @param univ   대학교 (선택)
+     * @param cursor 이전 페이지의 next_cursor (선택, 없으면 첫 페이지)
+     * @param size   페이지 크기 (선택, 기본 20, 최대 100)
+     * @return 크루 목록 페이지
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<CrewListResponse>>> getAllCrews() {
+    public ResponseEntity<ApiResponse<CrewPageResponse>> getCrews(
+            @RequestParam(required = false) String univ,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest webRequest) {
         try {
-            List<CrewListResponse> crews = crewService.getAllCrews();
-            return ResponseEntity.ok(
-                    ApiResponse.success(200, "크루 목록 조회 성공", crews));
+            // 조회 조건별 ETag (대학교는 따옴표 등이 들어가지 않도록 URL-safe Base64로 표기)
+            String etag = "\"crews-v" + crewVersionService.crewListVersion()
+                    + "-c" + (cursor == null ? "" : cursor)
+                    + "-s" + (size == null ? "" : size)
+                    + "-u" + (univ == null ? "" : Base64.getUrlEncoder().withoutPadding()
+                            .encodeToString(univ.getBytes(StandardCharsets.UTF_8)))
+                    + "\"";
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
+
+            CrewPageResponse crews = crewService.getCrews(univ, cursor, size);
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(ApiResponse.success(200, "크루 목록 조회 성공", crews));
         } catch (RuntimeException e) {
             log.error("크루 목록 조회 중 에러 발생", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -298,20 +325,33 @@ public class CrewController {
      * @param userId 현재 로그인한 사용자 ID
      * @param crewId 크루 ID
      * @param date   조회할 날짜 (월 단위 조회를 위해 해당 월의 아무 날짜나 가능)
-     * @return 크루 달력 응답
+     * @return 크루 달력 응답 (크루 데이터 버전이 같으면 304)
      */
     @GetMapping("/{crewId}/calendar")
     public ResponseEntity<ApiResponse<CrewCalendarWrapperResponse>> getCrewCalendar(
             @CurrentUser Long userId,
             @PathVariable Long crewId,
             @RequestParam LocalDate date,
-            @RequestParam(required = false, defaultValue = "false") boolean showMySchedule) {
+            @RequestParam(required = false, defaultValue = "false") boolean showMySchedule,
+            WebRequest webRequest) {
 
         try {
+            // 크루 확인 후 ETag 비교 (없는 크루는 304가 아닌 404)
+            crewService.checkCalendarAccess(userId, crewId);
+
+            // 내 예약을 포함하면 사용자별로 응답이 달라지므로 ETag에 사용자 ID 포함
+            String etag = "\"crew-" + crewId + "-v" + crewVersionService.crewVersion(crewId)
+                    + "-" + java.time.YearMonth.from(date)
+                    + "-" + (showMySchedule ? "u" + userId : "all") + "\"";
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
+
             CrewCalendarWrapperResponse response = crewService.getCrewCalendar(userId, crewId, date, showMySchedule);
 
-            return ResponseEntity.ok(
-                    ApiResponse.success(200, "크루 달력 조회 성공", response));
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(ApiResponse.success(200, "크루 달력 조회 성공", response));
         } catch (RuntimeException e) {
             log.error("크루 달력 조회 중 에러 발생", e);
             String errorMessage = e.getMessage();
@@ -367,22 +407,35 @@ public class CrewController {
      * @param userId 현재 로그인한 사용자 ID
      * @param crewId 크루 ID
      * @param date   조회할 날짜 (기본값: 오늘)
-     * @return 주간 달력 응답
+     * @return 주간 달력 응답 (크루 데이터 버전이 같으면 304)
      */
     @GetMapping("/{crewId}/calendar/week")
     public ResponseEntity<ApiResponse<List<CrewCalendarResponse>>> getCrewBriefCalendar(
             @CurrentUser Long userId,
             @PathVariable Long crewId,
-            @RequestParam(required = false) LocalDate date) {
+            @RequestParam(required = false) LocalDate date,
+            WebRequest webRequest) {
 
         if (date == null) {
             date = LocalDate.now();
         }
 
         try {
+            // 크루 확인 후 ETag 비교 (없는 크루는 304가 아닌 404)
+            crewService.checkCalendarAccess(userId, crewId);
+
+            // 같은 주의 날짜는 같은 응답이므로 해당 주 월요일 기준
+            LocalDate monday = date.with(
+                    java.time.temporal.TemporalAdjusters.previousOrSame(java.time.DayOfWeek.MONDAY));
+            String etag = "\"crew-" + crewId + "-v" + crewVersionService.crewVersion(crewId) + "-w" + monday + "\"";
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
+
             List<CrewCalendarResponse> response = crewService.getCrewBriefCalendar(userId, crewId, date);
-            return ResponseEntity.ok(
-                    ApiResponse.success(200, "주간 달력 조회 성공", response));
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(ApiResponse.success(200, "주간 달력 조회 성공", response));
         } catch (RuntimeException e) {
             log.error("주간 달력 조회 중 에러 발생", e);
             String errorMessage = e.getMessage();
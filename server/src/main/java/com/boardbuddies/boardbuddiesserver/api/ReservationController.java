@@ -5,11 +5,16 @@ import com.boardbuddies.boardbuddiesserver.dto.common.ApiResponse;
 import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationDayDetailResponse;
 import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationMultiResponse;
 import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationRequest;
+import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationTicketResponse;
+import com.boardbuddies.boardbuddiesserver.service.ReservationAdmissionService;
+import com.boardbuddies.boardbuddiesserver.service.ReservationIdempotencyService;
+import com.boardbuddies.boardbuddiesserver.service.ReservationSeatStream;
 import com.boardbuddies.boardbuddiesserver.service.ReservationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/crews")
@@ -17,6 +22,9 @@ import org.springframework.web.bind.annotation.*;
 public class ReservationController {
 
         private final ReservationService reservationService;
+        private final ReservationAdmissionService reservationAdmissionService;
+        private final ReservationIdempotencyService reservationIdempotencyService;
+        private final ReservationSeatStream reservationSeatStream;
 
         /**
          * 시즌방 예약 (일괄 신청)
@@ -26,35 +34,71 @@ public class ReservationController {
          * @param userId  현재 로그인한 사용자 ID
          * @param crewId  크루 ID
          * @param request 예약 요청 (날짜 목록)
-         * @return 예약 결과
+         * @param idempotencyKey 재시도 식별 키 (같은 키로 다시 요청하면 처음 응답을 그대로 반환)
+         * @return 예약 결과 (예약 오픈 직후에는 202와 대기열 티켓)
          */
         @PostMapping("/{crewId}/reservations")
-        public ResponseEntity<ApiResponse<ReservationMultiResponse>> reserve(
+        public ResponseEntity<?> reserve(
                         @CurrentUser Long userId,
                         @PathVariable Long crewId,
-                        @RequestBody ReservationRequest request) {
+                        @RequestBody ReservationRequest request,
+                        @RequestHeader(value = ReservationIdempotencyService.HEADER, required = false) String idempotencyKey) {
 
-                ReservationMultiResponse response = reservationService.reserve(userId, crewId, request);
+                return reservationIdempotencyService.execute(userId, "reserve:" + crewId, idempotencyKey, request,
+                                () -> {
+                                        if (reservationAdmissionService.shouldQueue(crewId)) {
+                                                ReservationTicketResponse ticket = reservationAdmissionService
+                                                                .enqueue(userId, crewId, request);
 
-                return ResponseEntity.status(HttpStatus.CREATED)
-                                .body(ApiResponse.success(201, "예약 신청 완료", response));
+                                                return ResponseEntity.status(HttpStatus.ACCEPTED)
+                                                                .body(ApiResponse.success(202, "예약 대기열 등록", ticket));
+                                        }
+
+                                        ReservationMultiResponse response = reservationService.reserve(userId, crewId,
+                                                        request);
+
+                                        return ResponseEntity.status(HttpStatus.CREATED)
+                                                        .body(ApiResponse.success(201, "예약 신청 완료", response));
+                                });
+        }
+
+        /**
+         * 대기열 티켓 조회 (대기 순번 또는 예약 결과)
+         * 
+         * GET /api/crews/{crewId}/reservations/tickets/{ticketId}
+         */
+        @GetMapping("/{crewId}/reservations/tickets/{ticketId}")
+        public ResponseEntity<ApiResponse<ReservationTicketResponse>> getTicket(
+                        @CurrentUser Long userId,
+                        @PathVariable Long crewId,
+                        @PathVariable String ticketId) {
+
+                ReservationTicketResponse response = reservationAdmissionService.getTicket(userId, crewId, ticketId);
+
+                return ResponseEntity.ok(
+                                ApiResponse.success(200, "대기열 티켓 조회 완료", response));
         }
 
         /**
          * 예약 취소 (일괄 취소)
          * 
          * DELETE /api/crews/{crewId}/reservations
+         * Idempotency-Key 헤더를 보내면 재시도 시 처음 응답을 그대로 반환합니다.
          */
         @DeleteMapping("/{crewId}/reservations")
-        public ResponseEntity<ApiResponse<Void>> cancel(
+        public ResponseEntity<?> cancel(
                         @CurrentUser Long userId,
                         @PathVariable Long crewId,
-                        @RequestBody ReservationRequest request) {
+                        @RequestBody ReservationRequest request,
+                        @RequestHeader(value = ReservationIdempotencyService.HEADER, required = false) String idempotencyKey) {
 
-                reservationService.cancel(userId, crewId, request);
+                return reservationIdempotencyService.execute(userId, "cancel:" + crewId, idempotencyKey, request,
+                                () -> {
+                                        reservationService.cancel(userId, crewId, request);
 
-                return ResponseEntity.ok(
-                                ApiResponse.success(200, "예약 취소 완료"));
+                                        return ResponseEntity.ok(
+                                                        ApiResponse.success(200, "예약 취소 완료"));
+                                });
         }
 
         /**
@@ -75,6 +119,21 @@ public class ReservationController {
                                 ApiResponse.success(200, "예약 상세 조회 완료", response));
         }
 
+        /**
+         * 날짜별 좌석 현황 구독 (Server-Sent Events)
+         * 연결 직후와 예약/취소/승격이 반영될 때마다 "seats" 이벤트로 확정/대기/정원을 받습니다.
+         * 
+         * GET /api/crews/{crewId}/reservations/stream?date=2023-11-01
+         */
+        @GetMapping("/{crewId}/reservations/stream")
+        public SseEmitter streamSeats(
+                        @CurrentUser Long userId,
+                        @PathVariable Long crewId,
+                        @RequestParam java.time.LocalDate date) {
+
+                return reservationSeatStream.subscribe(userId, crewId, date);
+        }
+
         /**
          * 내 예약 내역 (이번주 + 다음주) 조회 - 메인 화면용
          * 
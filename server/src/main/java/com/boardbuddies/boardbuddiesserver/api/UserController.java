@@ -17,7 +17,10 @@ import com.boardbuddies.boardbuddiesserver.domain.Reservation;
 import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationResponse;
 import com.boardbuddies.boardbuddiesserver.repository.ReservationRepository;
 import com.boardbuddies.boardbuddiesserver.dto.crew.MyApplicationResponse;
+import com.boardbuddies.boardbuddiesserver.service.AuthVersionService;
 import com.boardbuddies.boardbuddiesserver.service.CrewApplicationService;
+import com.boardbuddies.boardbuddiesserver.service.CrewDayStatsService;
+import com.boardbuddies.boardbuddiesserver.service.ReservationService;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -40,6 +43,9 @@ public class UserController {
     private final ReservationRepository reservationRepository;
     private final RedisTokenService redisTokenService;
     private final CrewApplicationService crewApplicationService;
+    private final CrewDayStatsService crewDayStatsService;
+    private final AuthVersionService authVersionService;
+    private final ReservationService reservationService;
 
     /**
      * 내 정보 조회 (JWT 인증 필요)
@@ -139,11 +145,16 @@ public class UserController {
             throw new RuntimeException("동아리 회장은 회원 탈퇴를 할 수 없습니다. 회장을 변경한 후 다시 시도해주세요.");
         }
 
-        // 1. 해당 사용자의 모든 예약 삭제 (일반 예약 + 게스트 예약 모두 포함)
-        reservationRepository.deleteAllByUser(user);
+        // 1. 날짜별 예약 현황, 이용 횟수 일괄 반영 후 해당 사용자의 모든 예약 삭제 (일반 예약 + 게스트 예약 모두 포함)
+        List<Reservation> reservations = reservationRepository.findAllByUserOrderByCreatedAtDesc(user);
+        crewDayStatsService.userRemoved(userId, reservations);
+        reservationRepository.deleteAll(reservations);
+        // 대기열, 좌석 카운터에서 삭제한 예약 제외 (커밋 후 재구성)
+        reservationService.reservationsRemoved(reservations);
 
         // 2. 사용자 삭제
         userRepository.delete(user);
+        authVersionService.bumpOnCommit(userId);
 
         // 3. 리프레시 토큰 삭제
         redisTokenService.deleteRefreshToken(userId);
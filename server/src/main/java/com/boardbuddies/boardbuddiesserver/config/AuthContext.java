@@ -0,0 +1,85 @@
+package com.boardbuddies.boardbuddiesserver.config;
+
+import com.boardbuddies.boardbuddiesserver.domain.Role;
+import com.boardbuddies.boardbuddiesserver.domain.User;
+import com.boardbuddies.boardbuddiesserver.repository.UserRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+
+/**
+ * 권한 확인용 사용자 정보 (사용자 ID, 소속 크루 ID, 크루 내 역할)
+ *
+ * JwtAuthenticationFilter가 액세스 토큰의 서명된 클레임(crewId, role)으로 만들어 인증 정보(details)에 담습니다.
+ * 토큰 발급 후 소속/역할이 바뀌었으면(사용자별 권한 버전 불일치) 담지 않으므로, 서비스는 이 경우 DB에서 사용자를 조회해 확인합니다.
+ *
+ * 사용 예시:
+ * AuthContext auth = AuthContext.resolve(userId, userRepository);
+ * if (!auth.isManagerOf(crewId)) { ... }
+ */
+@Getter
+@AllArgsConstructor
+public class AuthContext {
+
+    private final Long userId;
+
+    /**
+     * 소속 크루 ID (없으면 null)
+     */
+    private final Long crewId;
+
+    private final Role role;
+
+    /**
+     * 현재 요청의 권한 정보 (토큰 클레임이 최신이고 같은 사용자일 때만)
+     */
+    public static Optional<AuthContext> current(Long userId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null
+                && authentication.getDetails() instanceof AuthContext context
+                && context.getUserId().equals(userId)) {
+            return Optional.of(context);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 권한 확인용 사용자 정보 (토큰 클레임이 최신이면 그대로, 아니면 DB 조회)
+     */
+    public static AuthContext resolve(Long userId, UserRepository userRepository) {
+        return current(userId)
+                .orElseGet(() -> from(userRepository.findById(userId)
+                        .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."))));
+    }
+
+    /**
+     * DB에서 조회한 사용자로 생성
+     */
+    public static AuthContext from(User user) {
+        return new AuthContext(user.getId(), user.getCrew() == null ? null : user.getCrew().getId(), user.getRole());
+    }
+
+    /**
+     * 크루 소속 여부
+     */
+    public boolean isMemberOf(Long crewId) {
+        return this.crewId != null && this.crewId.equals(crewId);
+    }
+
+    /**
+     * 크루 운영진 여부 (PRESIDENT 또는 MANAGER)
+     */
+    public boolean isManagerOf(Long crewId) {
+        return isMemberOf(crewId) && (role == Role.PRESIDENT || role == Role.MANAGER);
+    }
+
+    /**
+     * 크루 회장 여부
+     */
+    public boolean isPresidentOf(Long crewId) {
+        return isMemberOf(crewId) && role == Role.PRESIDENT;
+    }
+}
@@ -1,8 +1,12 @@
 package com.boardbuddies.boardbuddiesserver.config;
 
+import com.boardbuddies.boardbuddiesserver.domain.Role;
 import com.boardbuddies.boardbuddiesserver.dto.common.ApiResponse;
 import com.boardbuddies.boardbuddiesserver.exception.JwtTokenExpiredException;
+import com.boardbuddies.boardbuddiesserver.service.AuthVersionService;
 import com.boardbuddies.boardbuddiesserver.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,6 +19,7 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -33,6 +38,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final com.boardbuddies.boardbuddiesserver.service.RedisTokenService redisTokenService;
+    private final AuthVersionService authVersionService;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
@@ -52,15 +58,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // Authorization 헤더에서 JWT 토큰 추출
             String token = extractTokenFromRequest(request);
 
-            if (token != null && jwtUtil.validateToken(token)) {
-                // 블랙리스트 확인
-                if (redisTokenService.isBlackListed(token)) {
+            if (token != null) {
+                // 토큰 검증 (한 번만 파싱, 최근 검증한 토큰은 서명 검증 생략) - 이후 클레임만 사용
+                Claims claims = jwtUtil.parseAccessToken(token);
+
+                // 블랙리스트 확인 (로그아웃된 토큰은 인증 정보 없이 진행)
+                if (redisTokenService.isBlackListed(jwtUtil.getTokenId(claims, token))) {
                     log.warn("블랙리스트에 등록된 토큰입니다.");
-                    throw new RuntimeException("로그아웃된 사용자입니다.");
+                    filterChain.doFilter(request, response);
+                    return;
                 }
 
                 // 토큰에서 사용자 ID 추출
-                Long userId = jwtUtil.getUserIdFromToken(token);
+                Long userId = Long.parseLong(claims.getSubject());
 
                 // 인증 정보 생성 및 SecurityContext에 설정
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
@@ -68,22 +78,44 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                         null,
                         Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
 
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                // 권한 정보 (토큰 클레임이 최신일 때만, 아니면 서비스에서 DB 조회)
+                AuthContext authContext = resolveAuthContext(userId, claims);
+                authentication.setDetails(authContext != null
+                        ? authContext
+                        : new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authentication);
 
                 log.debug("JWT 인증 성공: userId={}", userId);
             }
         } catch (JwtTokenExpiredException e) {
-            log.warn("만료된 JWT 토큰입니다.", e);
+            log.debug("만료된 JWT 토큰입니다.");
             writeErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED, "만료된 JWT 토큰입니다.");
             return;
-        } catch (Exception e) {
-            log.error("JWT 인증 처리 중 에러 발생", e);
+        } catch (JwtException e) {
+            // 위조/손상된 토큰은 요청마다 반복될 수 있으므로 스택 트레이스 없이 기록하고 인증 정보 없이 진행
+            log.warn("유효하지 않은 JWT 토큰입니다: {}", e.getMessage());
         }
 
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 토큰 클레임으로 권한 정보 생성
+     * 권한 클레임이 없거나(이전 발급 토큰), 발급 후 소속/역할이 바뀌었으면(권한 버전 불일치) null
+     */
+    private AuthContext resolveAuthContext(Long userId, Claims claims) {
+        Long authVersion = claims.get(JwtUtil.CLAIM_AUTH_VERSION, Long.class);
+        String role = claims.get(JwtUtil.CLAIM_ROLE, String.class);
+        if (authVersion == null || role == null) {
+            return null;
+        }
+        if (!authVersion.equals(authVersionService.findVersion(userId))) {
+            log.debug("권한 클레임이 최신이 아닙니다: userId={}", userId);
+            return null;
+        }
+        return new AuthContext(userId, claims.get(JwtUtil.CLAIM_CREW_ID, Long.class), Role.valueOf(role));
+    }
+
     /**
      * 요청에서 JWT 토큰 추출
      */
@@ -91,7 +123,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String bearerToken = request.getHeader("Authorization");
 
         if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
+            String token = bearerToken.substring(7);
+            return StringUtils.hasText(token) ? token : null;
         }
 
         return null;
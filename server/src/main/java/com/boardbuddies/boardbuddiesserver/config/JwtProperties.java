@@ -28,4 +28,19 @@ public class JwtProperties {
      * 리프레시 토큰 만료 시간 (밀리초) - 기본값 14일
      */
     private Long refreshTokenExpiration = 1209600000L;
+
+    /**
+     * 검증한 액세스 토큰 보관 개수 (인증 필터의 서명 검증 생략용, 토큰 만료 시각까지 보관)
+     */
+    private Long verifiedTokenCacheSize = 10000L;
+
+    /**
+     * 블랙리스트 로컬 필터 예상 토큰 수 (액세스 토큰 유효 시간 동안의 로그아웃 수)
+     */
+    private Long blacklistFilterExpectedInsertions = 100000L;
+
+    /**
+     * 블랙리스트 로컬 필터 오탐률 (오탐 시 Redis에서 확인)
+     */
+    private Double blacklistFilterFalsePositiveRate = 0.01;
 }
@@ -0,0 +1,99 @@
+package com.boardbuddies.boardbuddiesserver.config;
+
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 시즌방 예약 병렬 처리용 스레드 풀 설정
+ * Java 17 환경이므로 가상 스레드 대신 크기가 제한된 전용 풀을 사용합니다.
+ *
+ * Executor 빈을 직접 등록하면 Spring Boot가 기본 실행기(applicationTaskExecutor)를 만들지 않으므로,
+ * MVC 비동기 처리 등이 예약 전용 풀을 쓰지 않도록 기본 실행기도 이름을 지정해 함께 등록합니다.
+ */
+@Configuration
+public class ReservationExecutorConfig {
+
+    /**
+     * Spring Boot 기본 실행기 (spring.task.execution.* 설정 적용)
+     */
+    @Lazy
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor reservationExecutor(ReservationProperties reservationProperties) {
+        int parallelism = reservationProperties.getParallelism();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(parallelism * 32);
+        executor.setThreadNamePrefix("reservation-");
+        // 큐가 가득 차면 요청 스레드에서 직접 처리 (순차 처리로 후퇴)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    /**
+     * 대기열 처리용 스레드 풀
+     * 대기열에서 꺼낸 예약은 이 풀에서 처리하고, 병렬 모드의 날짜별 처리는 예약 전용 풀에 맡기므로
+     * 두 풀이 서로를 기다리며 멈추지 않습니다.
+     * 큐가 가득 차면 거절하고(스케줄러 스레드에서 직접 처리하지 않음) 티켓을 대기열에 되돌립니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor reservationAdmissionExecutor(ReservationProperties reservationProperties) {
+        int workers = reservationProperties.getAdmission().getWorkers();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(workers * 4);
+        executor.setThreadNamePrefix("reservation-admission-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    /**
+     * 좌석 현황(SSE) 전송용 스레드 풀
+     * 느린 클라이언트에 쓰는 동안 스케줄러 스레드가 막히지 않도록 전송만 맡습니다.
+     * 구독자별로 대기 작업이 최대 1개이므로 큐 크기는 구독 연결 수 상한입니다. 넘치면 거절하고 해당 연결을 종료합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor reservationStreamExecutor(ReservationProperties reservationProperties) {
+        ReservationProperties.Stream stream = reservationProperties.getStream();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(stream.getSenders());
+        executor.setMaxPoolSize(stream.getSenders());
+        executor.setQueueCapacity(stream.getSendQueueCapacity());
+        executor.setThreadNamePrefix("reservation-stream-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    /**
+     * 예약 변경 이벤트 처리용 단일 스레드 (서버별 수신 순서대로 처리)
+     * 큐에 쌓인 건수가 서버별 처리 대기량(reservation.bus.backlog)입니다.
+     * 큐가 가득 차면 거절하고 버스가 메시지를 버립니다. (Redis 수신 스레드를 막지 않음)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor reservationChangeExecutor(ReservationProperties reservationProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(reservationProperties.getBus().getQueueCapacity());
+        executor.setThreadNamePrefix("reservation-change-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
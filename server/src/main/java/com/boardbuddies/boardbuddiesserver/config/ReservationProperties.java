@@ -0,0 +1,205 @@
+package com.boardbuddies.boardbuddiesserver.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시즌방 예약 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "reservation")
+public class ReservationProperties {
+
+    /**
+     * 날짜별 확정/대기 판정 방식 - 기본값 LOCK
+     */
+    private Engine engine = Engine.LOCK;
+
+    /**
+     * 여러 날짜 동시 신청 처리 방식 - 기본값 SEQUENTIAL
+     */
+    private MultiDate multiDate = MultiDate.SEQUENTIAL;
+
+    /**
+     * PARALLEL 처리 시 예약 전용 스레드 수 - 기본값 8
+     */
+    private int parallelism = 8;
+
+    /**
+     * 좌석 카운터 설정 (COUNTER 엔진)
+     */
+    private Counter counter = new Counter();
+
+    /**
+     * 예약 오픈 시각 대기열 설정
+     */
+    private Admission admission = new Admission();
+
+    /**
+     * 예약/취소 멱등 키 설정
+     */
+    private Idempotency idempotency = new Idempotency();
+
+    /**
+     * 좌석 현황 실시간 전송(SSE) 설정
+     */
+    private Stream stream = new Stream();
+
+    /**
+     * 날짜별 예약 상세 스냅샷 캐시 설정
+     */
+    private DetailCache detailCache = new DetailCache();
+
+    /**
+     * 예약 변경 이벤트 버스 설정
+     */
+    private Bus bus = new Bus();
+
+    public enum Engine {
+        /**
+         * 크루-날짜별 분산 락 획득 후 DB COUNT로 판정
+         */
+        LOCK,
+
+        /**
+         * Redis 좌석 카운터를 Lua 스크립트로 원자적으로 증감하여 판정 (락, COUNT 없음)
+         */
+        COUNTER
+    }
+
+    public enum MultiDate {
+        /**
+         * 날짜마다 락/카운터 판정과 트랜잭션을 따로 수행
+         */
+        SEQUENTIAL,
+
+        /**
+         * 전체 날짜 락을 날짜 순 MultiLock으로 한 번에 획득하고 단일 트랜잭션에서 일괄 저장 (LOCK 엔진 전용)
+         */
+        BATCH,
+
+        /**
+         * 날짜별 처리를 예약 전용 스레드 풀에서 동시에 수행 (요청 지연 = 가장 느린 날짜)
+         */
+        PARALLEL
+    }
+
+    @Getter
+    @Setter
+    public static class Counter {
+
+        /**
+         * 정합성 복구 주기 (cron) - 기본값 매일 새벽 4시
+         */
+        private String reconcileCron = "0 0 4 * * *";
+
+        /**
+         * 획득한 좌석을 재구성 시 유지하는 시간 (초) - 획득부터 예약 저장 커밋까지 걸릴 수 있는 최대 시간보다 길어야 함, 기본값 60초
+         */
+        private long inFlightSeconds = 60;
+    }
+
+    @Getter
+    @Setter
+    public static class Admission {
+
+        /**
+         * 대기열 사용 여부 - 기본값 false
+         */
+        private boolean enabled = false;
+
+        /**
+         * 크루별 초당 처리 건수 - 기본값 20
+         */
+        private int drainRate = 20;
+
+        /**
+         * 예약 오픈 시각 이후 대기열을 거치는 시간 (초) - 기본값 10분
+         */
+        private long windowSeconds = 600;
+
+        /**
+         * 티켓 보관 시간 (초) - 기본값 10분
+         */
+        private long ticketTtlSeconds = 600;
+
+        /**
+         * 대기열 처리 전용 스레드 수 - 기본값 4
+         */
+        private int workers = 4;
+
+        /**
+         * 처리 제한 시간 (초) - 넘도록 처리 중인 티켓은 실패로 정리, 기본값 2분
+         */
+        private long processingTimeoutSeconds = 120;
+    }
+
+    @Getter
+    @Setter
+    public static class Idempotency {
+
+        /**
+         * 처리 완료된 응답 보관 시간 (초) - 기본값 24시간
+         */
+        private long ttlSeconds = 86400;
+
+        /**
+         * 처리 중 표시 유지 시간 (초) - 서버가 처리 도중 종료되어도 이후 재시도가 가능하도록 짧게 유지하고, 처리 중에는 1/3 간격으로 연장, 기본값 30초
+         */
+        private long pendingTtlSeconds = 30;
+    }
+
+    @Getter
+    @Setter
+    public static class Stream {
+
+        /**
+         * 구독 연결 유지 시간 (초) - 만료되면 클라이언트(EventSource)가 다시 연결, 기본값 10분
+         */
+        private long timeoutSeconds = 600;
+
+        /**
+         * 전송 스레드 수 - 스케줄러 스레드는 전송을 맡기기만 하고 기다리지 않음, 기본값 2
+         */
+        private int senders = 2;
+
+        /**
+         * 전송 대기 작업 수 상한 (구독자별 최대 1개) - 넘치면 해당 연결 종료, 기본값 10000
+         */
+        private int sendQueueCapacity = 10000;
+
+        /**
+         * 전송 한 건 최대 대기 시간 (밀리초) - 넘긴 연결은 느린 클라이언트로 보고 종료, 기본값 5000
+         */
+        private long sendTimeoutMillis = 5000;
+    }
+
+    @Getter
+    @Setter
+    public static class DetailCache {
+
+        /**
+         * 캐시 사용 여부 - 기본값 true
+         */
+        private boolean enabled = true;
+
+        /**
+         * 스냅샷 유지 시간 (밀리초) - 변경 이벤트를 놓친 경우의 최대 지연, 기본값 500
+         */
+        private long ttlMillis = 500;
+    }
+
+    @Getter
+    @Setter
+    public static class Bus {
+
+        /**
+         * 서버별 처리 대기 메시지 수 상한 - 넘치면 버림(리스너는 값을 다시 읽으므로 다음 변경 또는 캐시 만료로 복구), 기본값 10000
+         */
+        private int queueCapacity = 10000;
+    }
+}
@@ -1,5 +1,6 @@
 package com.boardbuddies.boardbuddiesserver.config;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -32,6 +33,9 @@ public class SecurityConfig {
             
             // 권한 설정
             .authorizeHttpRequests(auth -> auth
+                // 비동기 응답(SSE) 재디스패치는 최초 요청에서 이미 인증됨
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                 // 인증 없이 접근 가능한 경로
                 .requestMatchers(
                     "/api/auth/**",      // 로그인, 회원가입
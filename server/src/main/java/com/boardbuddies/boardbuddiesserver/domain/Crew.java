@@ -2,6 +2,8 @@ package com.boardbuddies.boardbuddiesserver.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -10,8 +12,12 @@ import java.time.LocalTime;
 
 /**
  * 크루 엔티티
+ *
+ * 2차 캐시(region: crew) 대상 - 비즈니스 메서드로 변경하면 커밋 시 캐시도 갱신되고, 다른 서버의 캐시는 EntityCacheInvalidator가 삭제합니다.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "crew")
 @Table(name = "crew")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -81,6 +87,12 @@ public class Crew {
     @Builder.Default
     private Boolean isCapacityLimited = true;
 
+    /**
+     * 추첨 접수 시간 (초) - 예약 오픈 후 이 시간 동안 받은 신청은 추첨으로 배정 (null 또는 0이면 선착순)
+     */
+    @Column(nullable = true)
+    private Integer lotteryWindowSeconds;
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -146,4 +158,18 @@ public class Crew {
     public void updateCapacityLimit(Boolean isCapacityLimited) {
         this.isCapacityLimited = isCapacityLimited;
     }
+
+    /**
+     * 추첨 접수 시간 수정
+     */
+    public void updateLotteryWindowSeconds(Integer lotteryWindowSeconds) {
+        this.lotteryWindowSeconds = lotteryWindowSeconds;
+    }
+
+    /**
+     * 추첨 모드 여부
+     */
+    public boolean isLotteryEnabled() {
+        return lotteryWindowSeconds != null && lotteryWindowSeconds > 0;
+    }
 }
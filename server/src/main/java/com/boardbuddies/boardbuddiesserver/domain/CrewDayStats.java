@@ -0,0 +1,47 @@
+package com.boardbuddies.boardbuddiesserver.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 크루-날짜별 예약 현황 (조회 전용 집계 테이블)
+ * 예약/취소/승격 시 같은 트랜잭션에서 증감하며, 달력 조회는 예약 테이블 집계 대신 이 테이블을 범위 조회합니다.
+ * 어긋난 경우 CrewDayStatsService.rebuild로 예약 테이블 기준 재계산합니다.
+ */
+@Entity
+@Table(name = "crew_day_stats")
+@IdClass(CrewDayStatsId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class CrewDayStats {
+
+    @Id
+    @Column(name = "crew_id")
+    private Long crewId;
+
+    @Id
+    private LocalDate date;
+
+    /**
+     * 확정 인원
+     */
+    @Column(nullable = false)
+    private int confirmedCount;
+
+    /**
+     * 대기 인원
+     */
+    @Column(nullable = false)
+    private int waitingCount;
+
+    /**
+     * 전체 예약 수 (확정 + 대기)
+     */
+    public int getTotalCount() {
+        return confirmedCount + waitingCount;
+    }
+}
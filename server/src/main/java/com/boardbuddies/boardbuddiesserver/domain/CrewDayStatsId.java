@@ -0,0 +1,23 @@
+package com.boardbuddies.boardbuddiesserver.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 크루-날짜별 예약 현황 식별자 (crew_id, date)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class CrewDayStatsId implements Serializable {
+
+    private Long crewId;
+
+    private LocalDate date;
+}
@@ -0,0 +1,46 @@
+package com.boardbuddies.boardbuddiesserver.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 크루-부원별 시즌방 이용 횟수 (조회 전용 집계 테이블)
+ * 예약 확정/취소/승격 시 같은 트랜잭션에서 증감하며, 이용 통계와 나의 달력은 예약 테이블 집계 대신 이 테이블을 조회합니다.
+ * 어긋난 경우 MemberUsageStatsService.rebuild로 예약 테이블 기준 재계산합니다.
+ */
+@Entity
+@Table(name = "member_usage_stats")
+@IdClass(MemberUsageStatsId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class MemberUsageStats {
+
+    @Id
+    @Column(name = "crew_id")
+    private Long crewId;
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    /**
+     * 확정된 일반 예약 수 (게스트 예약 제외)
+     */
+    @Column(nullable = false)
+    private int confirmedCount;
+
+    /**
+     * 부원이 신청한 게스트 예약 중 확정된 수
+     */
+    @Column(nullable = false)
+    private int guestConfirmedCount;
+
+    /**
+     * 전체 이용 횟수 (일반 + 게스트)
+     */
+    public int getTotalCount() {
+        return confirmedCount + guestConfirmedCount;
+    }
+}
@@ -0,0 +1,22 @@
+package com.boardbuddies.boardbuddiesserver.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 크루-부원별 이용 횟수 식별자 (crew_id, user_id)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class MemberUsageStatsId implements Serializable {
+
+    private Long crewId;
+
+    private Long userId;
+}
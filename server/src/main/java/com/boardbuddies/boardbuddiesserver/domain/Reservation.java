@@ -8,6 +8,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(name = "reservation", indexes = {
+        @Index(name = "idx_reservation_crew_date_status_created", columnList = "crew_id, date, status, created_at"),
+        @Index(name = "idx_reservation_user_date", columnList = "user_id, date")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -36,8 +40,9 @@ public class Reservation {
     @Column(nullable = false)
     private LocalDate date;
 
+    @Convert(converter = ReservationStatusConverter.class)
     @Column(nullable = false)
-    private String status;
+    private ReservationStatus status;
 
     /**
      * 강습 신청 여부 (예약 확정된 날에만 신청 가능)
@@ -50,12 +55,20 @@ public class Reservation {
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    public boolean isConfirmed() {
+        return status == ReservationStatus.CONFIRMED;
+    }
+
+    public boolean isWaiting() {
+        return status == ReservationStatus.WAITING;
+    }
+
     public void confirm() {
-        this.status = "confirmed";
+        this.status = ReservationStatus.CONFIRMED;
     }
 
     public void applyTeaching() {
-        if (!"confirmed".equals(this.status)) {
+        if (this.status != ReservationStatus.CONFIRMED) {
             throw new IllegalStateException("예약이 확정된 경우에만 강습을 신청할 수 있습니다.");
         }
         this.teaching = true;
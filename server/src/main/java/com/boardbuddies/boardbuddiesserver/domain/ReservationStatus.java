@@ -0,0 +1,29 @@
+package com.boardbuddies.boardbuddiesserver.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 시즌방 예약 상태
+ *
+ * DB에는 code(smallint)로 저장되고, API 응답에는 value 문자열로 내려갑니다.
+ * 코드 값은 마이그레이션과 네이티브 쿼리에서 그대로 사용하므로 변경하지 않습니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ReservationStatus {
+    CONFIRMED((short) 1, "confirmed"),  // 예약 확정
+    WAITING((short) 2, "waiting");      // 대기
+
+    private final short code;
+    private final String value;
+
+    public static ReservationStatus fromCode(short code) {
+        for (ReservationStatus status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 예약 상태 코드입니다: " + code);
+    }
+}
@@ -0,0 +1,21 @@
+package com.boardbuddies.boardbuddiesserver.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 예약 상태 <-> smallint 코드 변환
+ */
+@Converter(autoApply = true)
+public class ReservationStatusConverter implements AttributeConverter<ReservationStatus, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(ReservationStatus status) {
+        return status != null ? status.getCode() : null;
+    }
+
+    @Override
+    public ReservationStatus convertToEntityAttribute(Short code) {
+        return code != null ? ReservationStatus.fromCode(code) : null;
+    }
+}
@@ -3,6 +3,8 @@ package com.boardbuddies.boardbuddiesserver.domain;
 import com.boardbuddies.boardbuddiesserver.dto.auth.SocialProvider;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -11,8 +13,12 @@ import java.time.LocalDateTime;
 
 /**
  * 사용자 엔티티
+ *
+ * 2차 캐시(region: user) 대상 - 비즈니스 메서드로 변경하면 커밋 시 캐시도 갱신되고, 다른 서버의 캐시는 EntityCacheInvalidator가 삭제합니다.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
 @Table(name = "users")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -98,6 +98,12 @@ public class CrewDetailResponse {
     @JsonProperty("isCapacityLimited")
     private Boolean isCapacityLimited;
 
+    /**
+     * 추첨 접수 시간 (초, 0이면 선착순)
+     */
+    @JsonProperty("lottery_window_seconds")
+    private Integer lotteryWindowSeconds;
+
     public static CrewDetailResponse from(Crew crew) {
         return CrewDetailResponse.builder()
                 .crewId(crew.getId())
@@ -111,6 +117,7 @@ public class CrewDetailResponse {
                 .updatedAt(crew.getUpdatedAt())
                 .profileImageUrl(crew.getProfileImageUrl())
                 .isCapacityLimited(crew.getIsCapacityLimited())
+                .lotteryWindowSeconds(crew.getLotteryWindowSeconds())
                 .build();
     }
 
@@ -137,6 +144,7 @@ public class CrewDetailResponse {
                 .memberCount(memberCount)
                 .profileImageUrl(crew.getProfileImageUrl())
                 .isCapacityLimited(crew.getIsCapacityLimited())
+                .lotteryWindowSeconds(crew.getLotteryWindowSeconds())
                 .build();
     }
 }
@@ -0,0 +1,37 @@
+package com.boardbuddies.boardbuddiesserver.dto.crew;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 크루 목록 페이지 응답 (크루 ID 기준 커서 페이지네이션)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CrewPageResponse {
+
+    /**
+     * 크루 목록 (크루 ID 오름차순)
+     */
+    @JsonProperty("crews")
+    private List<CrewListResponse> crews;
+
+    /**
+     * 다음 페이지 조회용 커서 (마지막 크루 ID, 다음 페이지가 없으면 null)
+     */
+    @JsonProperty("next_cursor")
+    private Long nextCursor;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    @JsonProperty("has_next")
+    private boolean hasNext;
+}
@@ -69,4 +69,13 @@ public class CrewUpdateRequest {
      */
     @JsonProperty("isCapacityLimited")
     private Boolean isCapacityLimited;
+
+    /**
+     * 추첨 접수 시간 (초, 선택사항)
+     * 0: 선착순, 그 외: 예약 오픈 후 해당 시간 동안 받은 신청을 추첨으로 배정
+     */
+    @Min(value = 0, message = "추첨 접수 시간은 0초 이상이어야 합니다.")
+    @Max(value = 3600, message = "추첨 접수 시간은 3600초 이하여야 합니다.")
+    @JsonProperty("lottery_window_seconds")
+    private Integer lotteryWindowSeconds;
 }
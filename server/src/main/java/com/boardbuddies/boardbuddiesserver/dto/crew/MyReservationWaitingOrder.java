@@ -0,0 +1,25 @@
+package com.boardbuddies.boardbuddiesserver.dto.crew;
+
+import java.time.LocalDate;
+
+/**
+ * 내 예약 + 대기 번호 조회 결과 (네이티브 쿼리 프로젝션)
+ */
+public interface MyReservationWaitingOrder {
+
+    Long getId();
+
+    LocalDate getDate();
+
+    /**
+     * 예약 상태 코드 (ReservationStatus.code)
+     */
+    Short getStatus();
+
+    Boolean getTeaching();
+
+    /**
+     * 대기 번호 (대기 중인 예약만, 그 외 null)
+     */
+    Integer getWaitingOrder();
+}
@@ -0,0 +1,17 @@
+package com.boardbuddies.boardbuddiesserver.dto.reservation;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 크루-날짜별 예약 수 집계 결과 (JPQL 생성자 프로젝션)
+ */
+@Getter
+@AllArgsConstructor
+public class CrewDayReservationCount {
+    private Long crewId;
+    private LocalDate date;
+    private Long count;
+}
@@ -0,0 +1,81 @@
+package com.boardbuddies.boardbuddiesserver.dto.reservation;
+
+import com.boardbuddies.boardbuddiesserver.domain.Reservation;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 예약 변경 이벤트 (서버 간 전파용)
+ * 커밋된 예약 생성/취소/승격/강습 변경을 크루-날짜 단위 증감으로 전달합니다.
+ */
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ReservationChangeEvent {
+
+    private Type type;
+    private Long crewId;
+    private LocalDate date;
+    private Long reservationId;
+
+    /**
+     * 확정 인원 증감
+     */
+    private int confirmedDelta;
+
+    /**
+     * 대기 인원 증감
+     */
+    private int waitingDelta;
+
+    /**
+     * 발행 시각 (epoch 밀리초, 전달 지연 측정용)
+     */
+    private long publishedAt;
+
+    public enum Type {
+        CREATED,
+        CANCELLED,
+        PROMOTED,
+
+        /**
+         * 강습 신청/취소 (인원 변동 없음)
+         */
+        TEACHING
+    }
+
+    public static ReservationChangeEvent created(Reservation reservation) {
+        return of(Type.CREATED, reservation, reservation.isConfirmed() ? 1 : 0, reservation.isWaiting() ? 1 : 0);
+    }
+
+    public static ReservationChangeEvent cancelled(Reservation reservation) {
+        return of(Type.CANCELLED, reservation, reservation.isConfirmed() ? -1 : 0, reservation.isWaiting() ? -1 : 0);
+    }
+
+    public static ReservationChangeEvent promoted(Reservation reservation) {
+        return of(Type.PROMOTED, reservation, 1, -1);
+    }
+
+    public static ReservationChangeEvent teaching(Reservation reservation) {
+        return of(Type.TEACHING, reservation, 0, 0);
+    }
+
+    private static ReservationChangeEvent of(Type type, Reservation reservation, int confirmedDelta,
+            int waitingDelta) {
+        return ReservationChangeEvent.builder()
+                .type(type)
+                .crewId(reservation.getCrew().getId())
+                .date(reservation.getDate())
+                .reservationId(reservation.getId())
+                .confirmedDelta(confirmedDelta)
+                .waitingDelta(waitingDelta)
+                .build();
+    }
+}
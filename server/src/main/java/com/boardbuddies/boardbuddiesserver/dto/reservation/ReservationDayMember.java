@@ -0,0 +1,28 @@
+package com.boardbuddies.boardbuddiesserver.dto.reservation;
+
+import com.boardbuddies.boardbuddiesserver.domain.ReservationStatus;
+import com.boardbuddies.boardbuddiesserver.domain.Role;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 날짜별 예약 상세 조회 결과 (JPQL 생성자 프로젝션)
+ * 예약/부원/게스트 엔티티를 읽지 않고 응답에 필요한 컬럼만 조회합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ReservationDayMember {
+    private Long reservationId;
+    private ReservationStatus status;
+    private Boolean teaching;
+    private Long userId;
+    private String userName;
+    private String profileImageUrl;
+    private Role role;
+
+    /**
+     * 게스트 예약인 경우 게스트 ID/이름 (일반 예약인 경우 null)
+     */
+    private Long guestId;
+    private String guestName;
+}
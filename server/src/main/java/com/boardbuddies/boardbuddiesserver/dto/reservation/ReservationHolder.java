@@ -0,0 +1,20 @@
+package com.boardbuddies.boardbuddiesserver.dto.reservation;
+
+import com.boardbuddies.boardbuddiesserver.domain.ReservationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 크루-날짜별 예약자 조회 결과 (JPQL 생성자 프로젝션, 좌석 카운터 재구성용)
+ */
+@Getter
+@AllArgsConstructor
+public class ReservationHolder {
+    private Long userId;
+
+    /**
+     * 게스트 예약인 경우 게스트 ID (일반 예약인 경우 null)
+     */
+    private Long guestId;
+    private ReservationStatus status;
+}
@@ -23,15 +23,33 @@ public class ReservationMultiResponse {
     private ReservationSummary summary;
 
     @Getter
-    @Builder
+    @Builder(toBuilder = true)
     @NoArgsConstructor
     @AllArgsConstructor
     public static class ReservationResult {
         private LocalDate date;
-        private String status; // created | duplicated | sold_out | closed | invalid | conflict
+        private ReservationOutcome status;
 
         @JsonProperty("reservation_id")
         private Long reservationId;
+
+        /**
+         * 대기 번호 (대기 예약인 경우)
+         */
+        @JsonProperty("waiting_order")
+        private Integer waitingOrder;
+
+        public static ReservationResult of(LocalDate date, ReservationOutcome status) {
+            return of(date, status, null);
+        }
+
+        public static ReservationResult of(LocalDate date, ReservationOutcome status, Long reservationId) {
+            return ReservationResult.builder()
+                    .date(date)
+                    .status(status)
+                    .reservationId(reservationId)
+                    .build();
+        }
     }
 
     @Getter
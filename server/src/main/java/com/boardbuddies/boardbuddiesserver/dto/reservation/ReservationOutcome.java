@@ -0,0 +1,29 @@
+package com.boardbuddies.boardbuddiesserver.dto.reservation;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 날짜별 예약 처리 결과
+ *
+ * 예상 가능한 실패(중복, 마감, 락 대기 초과 등)는 예외 대신 이 값으로 반환합니다.
+ * 응답에는 value 문자열로 직렬화됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ReservationOutcome {
+    CREATED("created", true),           // 예약 확정
+    WAITING("waiting", true),           // 대기 등록
+    ENTERED("entered", true),           // 추첨 접수
+    DUPLICATED("duplicated", false),    // 이미 예약됨
+    SOLD_OUT("sold_out", false),        // 잔여 수량 없음
+    CLOSED("closed", false),            // 오픈 전 또는 마감
+    INVALID("invalid", false),          // 과거 날짜 등 잘못된 요청
+    RETRY("retry_lazily", false);       // 요청 폭주로 락 획득 실패 (잠시 후 재시도)
+
+    @JsonValue
+    private final String value;
+
+    private final boolean succeeded;
+}
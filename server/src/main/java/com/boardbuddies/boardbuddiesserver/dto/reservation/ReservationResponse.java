@@ -36,7 +36,7 @@ public class ReservationResponse {
                 .reservationId(reservation.getId())
                 .crewId(reservation.getCrew().getId())
                 .date(reservation.getDate())
-                .status(reservation.getStatus())
+                .status(reservation.getStatus().getValue())
                 .createdAt(reservation.getCreatedAt())
                 .teaching(reservation.getTeaching())
                 .build();
@@ -0,0 +1,19 @@
+package com.boardbuddies.boardbuddiesserver.dto.reservation;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 크루-날짜별 좌석 현황 (SSE 이벤트)
+ * 변경분이 아닌 최신 값을 보내므로, 중간 이벤트를 놓쳐도 다음 이벤트로 맞춰집니다.
+ */
+@Getter
+@Builder
+public class ReservationSeatEvent {
+    private LocalDate date;
+    private int booked;
+    private int waitingCount;
+    private int capacity;
+}
@@ -0,0 +1,47 @@
+package com.boardbuddies.boardbuddiesserver.dto.reservation;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 예약 대기열 티켓 응답
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationTicketResponse {
+
+    @JsonProperty("ticket_id")
+    private String ticketId;
+
+    @JsonProperty("crew_id")
+    private Long crewId;
+
+    /**
+     * QUEUED: 대기 중
+     * PROCESSING: 처리 중
+     * DONE: 처리 완료 (result 포함)
+     * FAILED: 처리 실패 (message 포함)
+     * EXPIRED: 대기 시간 초과로 처리하지 않음 (message 포함)
+     */
+    private String status;
+
+    /**
+     * 대기 순번 (1부터 시작, QUEUED 상태에서만 제공)
+     */
+    private Long position;
+
+    /**
+     * 예약 처리 결과 (DONE 상태에서만 제공)
+     */
+    private ReservationMultiResponse result;
+
+    /**
+     * 실패 사유 (FAILED, EXPIRED 상태에서만 제공)
+     */
+    private String message;
+}
@@ -20,6 +20,13 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(401, "만료된 JWT 토큰입니다."));
     }
 
+    @ExceptionHandler(IdempotencyConflictException.class)
+    public ResponseEntity<ApiResponse<Void>> handleIdempotencyConflictException(IdempotencyConflictException e) {
+        log.warn("Idempotency Conflict: {}", e.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error(409, e.getMessage()));
+    }
 
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ApiResponse<Void>> handleRuntimeException(RuntimeException e) {
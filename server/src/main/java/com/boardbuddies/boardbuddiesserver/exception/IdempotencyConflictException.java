@@ -0,0 +1,11 @@
+package com.boardbuddies.boardbuddiesserver.exception;
+
+/**
+ * 멱등 키 충돌 예외 (같은 키의 요청이 처리 중이거나, 같은 키로 다른 요청을 보낸 경우)
+ */
+public class IdempotencyConflictException extends RuntimeException {
+
+    public IdempotencyConflictException(String message) {
+        super(message);
+    }
+}
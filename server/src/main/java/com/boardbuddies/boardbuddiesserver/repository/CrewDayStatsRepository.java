@@ -0,0 +1,112 @@
+package com.boardbuddies.boardbuddiesserver.repository;
+
+import com.boardbuddies.boardbuddiesserver.domain.CrewDayStats;
+import com.boardbuddies.boardbuddiesserver.domain.CrewDayStatsId;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 크루-날짜별 예약 현황 Repository
+ *
+ * 네이티브 변경 쿼리는 변경 테이블(HINT_NATIVE_SPACES)을 지정합니다. 지정하지 않으면 Hibernate가 2차 캐시(Crew, User) 전체를 비웁니다.
+ */
+@Repository
+public interface CrewDayStatsRepository extends JpaRepository<CrewDayStats, CrewDayStatsId> {
+
+        /**
+         * 기간별 현황 조회 (기본 키 범위 조회)
+         */
+        List<CrewDayStats> findByCrewIdAndDateBetweenOrderByDateAsc(Long crewId, LocalDate startDate,
+                        LocalDate endDate);
+
+        /**
+         * 확정/대기 인원 증감
+         *
+         * @return 갱신된 행 수 (행이 없으면 0)
+         */
+        @Modifying
+        @Query("UPDATE CrewDayStats s " +
+                        "SET s.confirmedCount = s.confirmedCount + :confirmed, " +
+                        "s.waitingCount = s.waitingCount + :waiting " +
+                        "WHERE s.crewId = :crewId AND s.date = :date")
+        int increment(@Param("crewId") Long crewId,
+                        @Param("date") LocalDate date,
+                        @Param("confirmed") int confirmed,
+                        @Param("waiting") int waiting);
+
+        /**
+         * 빈 현황 행 생성 (없을 때만)
+         * 동시에 같은 행을 만들면 먼저 만든 트랜잭션이 끝날 때까지 기다린 뒤 무시하므로, 호출하는 쪽 트랜잭션 안에서 실행합니다.
+         */
+        @Modifying
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "crew_day_stats"))
+        @Query(value = "INSERT INTO crew_day_stats (crew_id, date, confirmed_count, waiting_count) " +
+                        "VALUES (:crewId, :date, 0, 0) " +
+                        "ON CONFLICT DO NOTHING",
+                        nativeQuery = true)
+        int insertIfAbsent(@Param("crewId") Long crewId, @Param("date") LocalDate date);
+
+        /**
+         * 사용자 예약 일괄 차감 (회원 탈퇴, 예약 삭제 전에 호출)
+         * 사용자 예약이 있는 크루-날짜 행을 한 번에 차감합니다. (상태 코드: 1 = 확정, 2 = 대기)
+         */
+        @Modifying
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "crew_day_stats"))
+        @Query(value = "UPDATE crew_day_stats s SET " +
+                        "confirmed_count = confirmed_count - (SELECT COUNT(*) FROM reservation r " +
+                        "WHERE r.user_id = :userId AND r.crew_id = s.crew_id AND r.date = s.date AND r.status = 1), " +
+                        "waiting_count = waiting_count - (SELECT COUNT(*) FROM reservation r " +
+                        "WHERE r.user_id = :userId AND r.crew_id = s.crew_id AND r.date = s.date AND r.status = 2) " +
+                        "WHERE EXISTS (SELECT 1 FROM reservation r " +
+                        "WHERE r.user_id = :userId AND r.crew_id = s.crew_id AND r.date = s.date)",
+                        nativeQuery = true)
+        int decrementAllByUserId(@Param("userId") Long userId);
+
+        @Modifying
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "crew_day_stats"))
+        @Query(value = "DELETE FROM crew_day_stats", nativeQuery = true)
+        int deleteAllStats();
+
+        @Modifying
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "crew_day_stats"))
+        @Query(value = "DELETE FROM crew_day_stats WHERE crew_id = :crewId", nativeQuery = true)
+        int deleteAllStatsByCrewId(@Param("crewId") Long crewId);
+
+        /**
+         * 예약 테이블 기준 전체 재계산 (상태 코드: 1 = 확정, 2 = 대기)
+         */
+        @Modifying
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "crew_day_stats"))
+        @Query(value = "INSERT INTO crew_day_stats (crew_id, date, confirmed_count, waiting_count) " +
+                        "SELECT r.crew_id, r.date, " +
+                        "SUM(CASE WHEN r.status = 1 THEN 1 ELSE 0 END), " +
+                        "SUM(CASE WHEN r.status = 2 THEN 1 ELSE 0 END) " +
+                        "FROM reservation r " +
+                        "GROUP BY r.crew_id, r.date",
+                        nativeQuery = true)
+        int insertAllFromReservations();
+
+        /**
+         * 예약 테이블 기준 크루 재계산
+         */
+        @Modifying
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "crew_day_stats"))
+        @Query(value = "INSERT INTO crew_day_stats (crew_id, date, confirmed_count, waiting_count) " +
+                        "SELECT r.crew_id, r.date, " +
+                        "SUM(CASE WHEN r.status = 1 THEN 1 ELSE 0 END), " +
+                        "SUM(CASE WHEN r.status = 2 THEN 1 ELSE 0 END) " +
+                        "FROM reservation r " +
+                        "WHERE r.crew_id = :crewId " +
+                        "GROUP BY r.crew_id, r.date",
+                        nativeQuery = true)
+        int insertAllFromReservationsByCrewId(@Param("crewId") Long crewId);
+}
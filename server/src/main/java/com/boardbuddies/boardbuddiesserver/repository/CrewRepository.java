@@ -1,12 +1,16 @@
 package com.boardbuddies.boardbuddiesserver.repository;
 
 import com.boardbuddies.boardbuddiesserver.domain.Crew;
+import com.boardbuddies.boardbuddiesserver.dto.crew.CrewListResponse;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -18,4 +22,39 @@ public interface CrewRepository extends JpaRepository<Crew, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT c FROM Crew c WHERE c.id = :id")
     Optional<Crew> findByIdWithLock(Long id);
+
+    /**
+     * 전체 크루 행 잠금 (크루 ID 순, 예약 현황 전체 재계산용)
+     */
+    @Query(value = "SELECT id FROM crew ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<Long> lockAllIds();
+
+    /**
+     * 크루 목록 페이지 조회 (커서 이후 크루 ID 순, 회장 ID 포함 단일 쿼리)
+     * 조회 건수는 Pageable의 크기로 제한합니다.
+     * 회장이 여러 명인 크루(회장 변경 중 등)도 한 번만 나오도록 회장은 가장 작은 사용자 ID 한 명만 조인합니다.
+     */
+    @Query("SELECT new com.boardbuddies.boardbuddiesserver.dto.crew.CrewListResponse(" +
+            "c.id, c.name, c.univ, u.id, c.reservationDay, c.reservationTime, c.status, c.createdAt, c.updatedAt) " +
+            "FROM Crew c " +
+            "LEFT JOIN User u ON u.crew = c AND u.role = com.boardbuddies.boardbuddiesserver.domain.Role.PRESIDENT " +
+            "AND u.id = (SELECT MIN(p.id) FROM User p WHERE p.crew = c " +
+            "AND p.role = com.boardbuddies.boardbuddiesserver.domain.Role.PRESIDENT) " +
+            "WHERE c.id > :cursor " +
+            "ORDER BY c.id ASC")
+    List<CrewListResponse> findPageAfter(@Param("cursor") Long cursor, Pageable pageable);
+
+    /**
+     * 대학교별 크루 목록 페이지 조회 ((univ, id) 인덱스 범위 조회)
+     */
+    @Query("SELECT new com.boardbuddies.boardbuddiesserver.dto.crew.CrewListResponse(" +
+            "c.id, c.name, c.univ, u.id, c.reservationDay, c.reservationTime, c.status, c.createdAt, c.updatedAt) " +
+            "FROM Crew c " +
+            "LEFT JOIN User u ON u.crew = c AND u.role = com.boardbuddies.boardbuddiesserver.domain.Role.PRESIDENT " +
+            "AND u.id = (SELECT MIN(p.id) FROM User p WHERE p.crew = c " +
+            "AND p.role = com.boardbuddies.boardbuddiesserver.domain.Role.PRESIDENT) " +
+            "WHERE c.univ = :univ AND c.id > :cursor " +
+            "ORDER BY c.id ASC")
+    List<CrewListResponse> findPageByUnivAfter(@Param("univ") String univ, @Param("cursor") Long cursor,
+            Pageable pageable);
 }
@@ -0,0 +1,108 @@
+package com.boardbuddies.boardbuddiesserver.repository;
+
+import com.boardbuddies.boardbuddiesserver.domain.MemberUsageStats;
+import com.boardbuddies.boardbuddiesserver.domain.MemberUsageStatsId;
+import com.boardbuddies.boardbuddiesserver.dto.crew.MemberUsageResponse;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 크루-부원별 이용 횟수 Repository
+ *
+ * 네이티브 변경 쿼리는 변경 테이블(HINT_NATIVE_SPACES)을 지정합니다. 지정하지 않으면 Hibernate가 2차 캐시(Crew, User) 전체를 비웁니다.
+ */
+@Repository
+public interface MemberUsageStatsRepository extends JpaRepository<MemberUsageStats, MemberUsageStatsId> {
+
+        /**
+         * 크루별 부원 이용 횟수 (일반 + 게스트, 이용 기록이 있는 부원만, 이름순)
+         */
+        @Query("SELECT new com.boardbuddies.boardbuddiesserver.dto.crew.MemberUsageResponse(" +
+                        "u.id, u.name, CAST(s.confirmedCount + s.guestConfirmedCount AS Long)) " +
+                        "FROM MemberUsageStats s JOIN User u ON u.id = s.userId " +
+                        "WHERE s.crewId = :crewId AND s.confirmedCount + s.guestConfirmedCount > 0 " +
+                        "ORDER BY u.name")
+        List<MemberUsageResponse> findUsageByCrewId(@Param("crewId") Long crewId);
+
+        /**
+         * 이용 횟수 증감
+         *
+         * @return 갱신된 행 수 (행이 없으면 0)
+         */
+        @Modifying
+        @Query("UPDATE MemberUsageStats s " +
+                        "SET s.confirmedCount = s.confirmedCount + :confirmed, " +
+                        "s.guestConfirmedCount = s.guestConfirmedCount + :guestConfirmed " +
+                        "WHERE s.crewId = :crewId AND s.userId = :userId")
+        int increment(@Param("crewId") Long crewId,
+                        @Param("userId") Long userId,
+                        @Param("confirmed") int confirmed,
+                        @Param("guestConfirmed") int guestConfirmed);
+
+        /**
+         * 빈 이용 횟수 행 생성 (없을 때만, 호출하는 쪽 트랜잭션 안에서 실행)
+         */
+        @Modifying
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "member_usage_stats"))
+        @Query(value = "INSERT INTO member_usage_stats (crew_id, user_id, confirmed_count, guest_confirmed_count) " +
+                        "VALUES (:crewId, :userId, 0, 0) " +
+                        "ON CONFLICT DO NOTHING",
+                        nativeQuery = true)
+        int insertIfAbsent(@Param("crewId") Long crewId, @Param("userId") Long userId);
+
+        @Modifying
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "member_usage_stats"))
+        @Query(value = "DELETE FROM member_usage_stats", nativeQuery = true)
+        int deleteAllStats();
+
+        @Modifying
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "member_usage_stats"))
+        @Query(value = "DELETE FROM member_usage_stats WHERE crew_id = :crewId", nativeQuery = true)
+        int deleteAllStatsByCrewId(@Param("crewId") Long crewId);
+
+        /**
+         * 사용자 이용 횟수 일괄 삭제 (회원 탈퇴)
+         */
+        @Modifying
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "member_usage_stats"))
+        @Query(value = "DELETE FROM member_usage_stats WHERE user_id = :userId", nativeQuery = true)
+        int deleteAllStatsByUserId(@Param("userId") Long userId);
+
+        /**
+         * 예약 테이블 기준 전체 재계산 (확정 예약만, 상태 코드 1)
+         */
+        @Modifying
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "member_usage_stats"))
+        @Query(value = "INSERT INTO member_usage_stats (crew_id, user_id, confirmed_count, guest_confirmed_count) " +
+                        "SELECT r.crew_id, r.user_id, " +
+                        "SUM(CASE WHEN r.guest_id IS NULL THEN 1 ELSE 0 END), " +
+                        "SUM(CASE WHEN r.guest_id IS NOT NULL THEN 1 ELSE 0 END) " +
+                        "FROM reservation r " +
+                        "WHERE r.status = 1 " +
+                        "GROUP BY r.crew_id, r.user_id",
+                        nativeQuery = true)
+        int insertAllFromReservations();
+
+        /**
+         * 예약 테이블 기준 크루 재계산
+         */
+        @Modifying
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "member_usage_stats"))
+        @Query(value = "INSERT INTO member_usage_stats (crew_id, user_id, confirmed_count, guest_confirmed_count) " +
+                        "SELECT r.crew_id, r.user_id, " +
+                        "SUM(CASE WHEN r.guest_id IS NULL THEN 1 ELSE 0 END), " +
+                        "SUM(CASE WHEN r.guest_id IS NOT NULL THEN 1 ELSE 0 END) " +
+                        "FROM reservation r " +
+                        "WHERE r.status = 1 AND r.crew_id = :crewId " +
+                        "GROUP BY r.crew_id, r.user_id",
+                        nativeQuery = true)
+        int insertAllFromReservationsByCrewId(@Param("crewId") Long crewId);
+}
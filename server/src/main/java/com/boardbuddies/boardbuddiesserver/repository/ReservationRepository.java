@@ -2,15 +2,22 @@ package com.boardbuddies.boardbuddiesserver.repository;
 
 import com.boardbuddies.boardbuddiesserver.domain.Reservation;
 import com.boardbuddies.boardbuddiesserver.domain.Crew;
+import com.boardbuddies.boardbuddiesserver.domain.ReservationStatus;
 import com.boardbuddies.boardbuddiesserver.domain.Guest;
 import com.boardbuddies.boardbuddiesserver.domain.User;
 import com.boardbuddies.boardbuddiesserver.dto.crew.DailyReservationCount;
+import com.boardbuddies.boardbuddiesserver.dto.crew.MyReservationWaitingOrder;
+import com.boardbuddies.boardbuddiesserver.dto.reservation.CrewDayReservationCount;
+import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationDayMember;
+import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationHolder;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -62,7 +69,17 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
 
         Long countByCrewAndDate(Crew crew, LocalDate date);
 
-        List<Reservation> findByCrewAndDateAndStatusOrderByCreatedAtAsc(Crew crew, LocalDate date, String status);
+        /**
+         * 크루-날짜별 상태별 예약 조회 (등록 시각, ID 순 - 대기열 재구성용)
+         */
+        List<Reservation> findByCrewIdAndDateAndStatusOrderByCreatedAtAscIdAsc(Long crewId, LocalDate date,
+                        ReservationStatus status);
+
+        /**
+         * 가장 오래된 대기 예약 조회 (대기열이 비어 있을 때 승격 대상 확인용)
+         */
+        Optional<Reservation> findFirstByCrewAndDateAndStatusOrderByCreatedAtAscIdAsc(Crew crew, LocalDate date,
+                        ReservationStatus status);
 
         Optional<Reservation> findByUserAndCrewAndDate(User user, Crew crew, LocalDate date);
 
@@ -73,6 +90,38 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
 
         List<Reservation> findByCrewAndDate(Crew crew, LocalDate date);
 
+        /**
+         * 특정 날짜 이후 크루-날짜별 예약 수 집계 (좌석 카운터 정합성 복구용)
+         */
+        @Query("SELECT new com.boardbuddies.boardbuddiesserver.dto.reservation.CrewDayReservationCount(" +
+                "r.crew.id, r.date, COUNT(r)) " +
+                "FROM Reservation r " +
+                "WHERE r.date >= :date " +
+                "GROUP BY r.crew.id, r.date")
+        List<CrewDayReservationCount> findCrewDayCountsFrom(@Param("date") LocalDate date);
+
+        /**
+         * 특정 날짜 이후 크루-날짜별 상태별 예약 수 집계 (대기열 재구성용)
+         */
+        @Query("SELECT new com.boardbuddies.boardbuddiesserver.dto.reservation.CrewDayReservationCount(" +
+                "r.crew.id, r.date, COUNT(r)) " +
+                "FROM Reservation r " +
+                "WHERE r.status = :status AND r.date >= :date " +
+                "GROUP BY r.crew.id, r.date")
+        List<CrewDayReservationCount> findCrewDayCountsByStatusFrom(@Param("status") ReservationStatus status,
+                        @Param("date") LocalDate date);
+
+        /**
+         * 크루-날짜별 예약자 조회 (좌석 카운터 재구성용, 엔티티를 읽지 않음)
+         */
+        @Query("SELECT new com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationHolder(" +
+                "r.user.id, g.id, r.status) " +
+                "FROM Reservation r " +
+                "LEFT JOIN r.guest g " +
+                "WHERE r.crew.id = :crewId AND r.date = :date")
+        List<ReservationHolder> findHoldersByCrewIdAndDate(@Param("crewId") Long crewId,
+                        @Param("date") LocalDate date);
+
         /**
          * 크루와 날짜로 예약 조회 (User, Guest Fetch Join으로 N+1 문제 방지)
          */
@@ -83,31 +132,90 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
                 "ORDER BY r.createdAt ASC")
         List<Reservation> findByCrewAndDateWithFetch(@Param("crew") Crew crew, @Param("date") LocalDate date);
 
-        List<Reservation> findByCrewAndStatus(Crew crew, String status);
+        List<Reservation> findByCrewAndStatus(Crew crew, ReservationStatus status);
+
+        /**
+         * 승격 대상 대기 예약 ID 조회 (용량 변경 시)
+         * 날짜별 확정 인원 집계와 대기 순번(ROW_NUMBER)을 한 번에 계산하여, 날짜마다 남은 자리만큼 오래된 대기부터 반환
+         * 상태 코드: 1 = 확정, 2 = 대기 (ReservationStatus)
+         */
+        @Query(value = "SELECT ranked.id FROM (" +
+                "SELECT w.id, w.date, ROW_NUMBER() OVER (PARTITION BY w.date ORDER BY w.created_at, w.id) AS rn " +
+                "FROM reservation w " +
+                "WHERE w.crew_id = :crewId AND w.status = 2) ranked " +
+                "LEFT JOIN (SELECT c.date, COUNT(*) AS confirmed FROM reservation c " +
+                "WHERE c.crew_id = :crewId AND c.status = 1 " +
+                "GROUP BY c.date) counts ON counts.date = ranked.date " +
+                "WHERE ranked.rn <= :capacity - COALESCE(counts.confirmed, 0)",
+                nativeQuery = true)
+        List<Long> findPromotableWaitingIds(@Param("crewId") Long crewId, @Param("capacity") long capacity);
+
+        /**
+         * 대기 예약 일괄 확정
+         */
+        @Modifying(flushAutomatically = true)
+        @Query("UPDATE Reservation r " +
+                "SET r.status = com.boardbuddies.boardbuddiesserver.domain.ReservationStatus.CONFIRMED " +
+                "WHERE r.id IN :ids AND r.status = com.boardbuddies.boardbuddiesserver.domain.ReservationStatus.WAITING")
+        int confirmAllByIdIn(@Param("ids") Collection<Long> ids);
+
+        /**
+         * ID 목록으로 예약 조회 (User Fetch Join)
+         */
+        @Query("SELECT r FROM Reservation r " +
+                "JOIN FETCH r.user " +
+                "WHERE r.id IN :ids " +
+                "ORDER BY r.date ASC, r.createdAt ASC")
+        List<Reservation> findAllByIdInWithUser(@Param("ids") Collection<Long> ids);
 
         List<Reservation> findAllByCrewAndDateBetween(Crew crew, LocalDate startDate, LocalDate endDate);
 
         List<Reservation> findAllByCrewAndDateOrderByCreatedAtAsc(Crew crew, LocalDate date);
 
         /**
-         * 크루와 날짜로 예약 조회 (User, Guest Fetch Join으로 N+1 문제 방지) - 정렬 포함
+         * 날짜별 예약 상세 조회 (응답에 필요한 컬럼만 프로젝션, 신청 순)
+         * 엔티티를 영속성 컨텍스트에 올리지 않으므로 인원이 많아도 스냅샷/더티 체킹 비용이 없습니다.
          */
-        @Query("SELECT r FROM Reservation r " +
-                "LEFT JOIN FETCH r.user " +
-                "LEFT JOIN FETCH r.guest " +
-                "WHERE r.crew = :crew AND r.date = :date " +
+        @Query("SELECT new com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationDayMember(" +
+                "r.id, r.status, r.teaching, u.id, u.name, u.profileImageUrl, u.role, g.id, g.name) " +
+                "FROM Reservation r " +
+                "JOIN r.user u " +
+                "LEFT JOIN r.guest g " +
+                "WHERE r.crew.id = :crewId AND r.date = :date " +
                 "ORDER BY r.createdAt ASC")
-        List<Reservation> findAllByCrewAndDateOrderByCreatedAtAscWithFetch(@Param("crew") Crew crew, @Param("date") LocalDate date);
+        List<ReservationDayMember> findDayMembersByCrewIdAndDate(@Param("crewId") Long crewId,
+                        @Param("date") LocalDate date);
 
+        /**
+         * 날짜 목록 기준 일별 예약 수 집계 (일괄 예약 용량 체크용)
+         */
         @Query("SELECT new com.boardbuddies.boardbuddiesserver.dto.crew.DailyReservationCount(r.date, COUNT(r)) " +
                         "FROM Reservation r " +
                         "WHERE r.crew = :crew " +
-                        "AND r.date BETWEEN :startDate AND :endDate " +
+                        "AND r.date IN :dates " +
                         "GROUP BY r.date")
-        List<DailyReservationCount> findDailyCountsByCrewAndDateBetween(
+        List<DailyReservationCount> findDailyCountsByCrewAndDateIn(
                         @Param("crew") Crew crew,
-                        @Param("startDate") LocalDate startDate,
-                        @Param("endDate") LocalDate endDate);
+                        @Param("dates") Collection<LocalDate> dates);
+
+        /**
+         * 사용자가 이미 예약한 날짜 조회 (일괄 예약 중복 체크용)
+         */
+        @Query("SELECT DISTINCT r.date FROM Reservation r " +
+                "WHERE r.user = :user AND r.date IN :dates")
+        List<LocalDate> findReservedDatesByUserAndDateIn(
+                @Param("user") User user,
+                @Param("dates") Collection<LocalDate> dates);
+
+        /**
+         * 게스트가 이미 예약된 날짜 조회 (일괄 예약 중복 체크용)
+         */
+        @Query("SELECT DISTINCT r.date FROM Reservation r " +
+                "WHERE r.crew = :crew AND r.guest = :guest AND r.date IN :dates")
+        List<LocalDate> findReservedDatesByCrewAndGuestAndDateIn(
+                @Param("crew") Crew crew,
+                @Param("guest") Guest guest,
+                @Param("dates") Collection<LocalDate> dates);
 
         List<Reservation> findAllByCrewAndUserAndDateBetween(Crew crew, User user, LocalDate startDate,
                         LocalDate endDate);
@@ -125,33 +233,28 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
                 @Param("startDate") LocalDate startDate,
                 @Param("endDate") LocalDate endDate);
 
-        Long countByUserAndCrewAndStatus(User user, Crew crew, String status);
-
-        /**
-         * 일반 예약만 카운트 (게스트 예약 제외)
-         * guest IS NULL을 먼저 체크하여 게스트 예약을 빠르게 제외
-         */
-        @Query("SELECT COUNT(r) FROM Reservation r " +
-                "WHERE r.guest IS NULL AND r.user = :user AND r.crew = :crew AND r.status = :status")
-        Long countByUserAndCrewAndStatusAndGuestIsNull(
-                @Param("user") User user,
-                @Param("crew") Crew crew,
-                @Param("status") String status);
-
-        Long countByCrewAndDateAndStatusAndCreatedAtBefore(Crew crew, LocalDate date, String status,
-                        java.time.LocalDateTime createdAt);
+        Long countByUserAndCrewAndStatus(User user, Crew crew, ReservationStatus status);
 
         /**
-         * 크루별 회원 사용 통계 조회 (confirmed 상태만)
+         * 내 일반 예약 + 대기 번호 조회 (게스트 예약 제외) - 크루, 날짜 범위
+         * 크루의 날짜별 대기 순번(ROW_NUMBER)을 계산한 뒤 내 예약만 남겨 대기 번호까지 한 번에 조회
          */
-        @Query("SELECT new com.boardbuddies.boardbuddiesserver.dto.crew.MemberUsageResponse(" +
-                        "r.user.id, r.user.name, COUNT(r)) " +
-                        "FROM Reservation r " +
-                        "WHERE r.crew = :crew AND r.status = 'confirmed' " +
-                        "GROUP BY r.user.id, r.user.name " +
-                        "ORDER BY r.user.name")
-        List<com.boardbuddies.boardbuddiesserver.dto.crew.MemberUsageResponse> findUsageCountsByCrew(
-                        @Param("crew") Crew crew);
+        @Query(value = "SELECT ranked.id AS \"id\", ranked.date AS \"date\", ranked.status AS \"status\", " +
+                "ranked.teaching AS \"teaching\", ranked.waiting_order AS \"waitingOrder\" " +
+                "FROM (SELECT r.id, r.date, r.status, r.teaching, r.user_id, r.guest_id, " +
+                "CASE WHEN r.status = 2 " +
+                "THEN ROW_NUMBER() OVER (PARTITION BY r.date, r.status ORDER BY r.created_at, r.id) " +
+                "END AS waiting_order " +
+                "FROM reservation r " +
+                "WHERE r.crew_id = :crewId AND r.date BETWEEN :startDate AND :endDate) ranked " +
+                "WHERE ranked.user_id = :userId AND ranked.guest_id IS NULL " +
+                "ORDER BY ranked.date",
+                nativeQuery = true)
+        List<MyReservationWaitingOrder> findMyReservationsWithWaitingOrder(
+                @Param("crewId") Long crewId,
+                @Param("userId") Long userId,
+                @Param("startDate") LocalDate startDate,
+                @Param("endDate") LocalDate endDate);
 
         /**
          * 특정 게스트 목록과 연관된 모든 예약 삭제
@@ -4,7 +4,11 @@ import com.boardbuddies.boardbuddiesserver.domain.Crew;
 import com.boardbuddies.boardbuddiesserver.domain.Role;
 import com.boardbuddies.boardbuddiesserver.domain.User;
 import com.boardbuddies.boardbuddiesserver.dto.auth.SocialProvider;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,6 +20,13 @@ import java.util.Optional;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    /**
+     * ID로 사용자 조회 (2차 캐시를 거치지 않고 DB에서 조회 - 토큰 발급 시 최신 소속/역할 사용)
+     */
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    @QueryHints(@QueryHint(name = "jakarta.persistence.cache.retrieveMode", value = "BYPASS"))
+    Optional<User> findFreshById(@Param("id") Long id);
+
     /**
      * 소셜 제공자와 소셜 ID로 사용자 조회
      */
@@ -52,11 +63,6 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     Optional<User> findByCrewAndRole(Crew crew, Role role);
 
-    /**
-     * 역할로 모든 사용자 조회
-     */
-    List<User> findAllByRole(Role role);
-
     /**
      * 크루로 모든 사용자 조회
      */
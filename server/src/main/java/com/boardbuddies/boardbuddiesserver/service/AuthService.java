@@ -23,6 +23,7 @@ public class AuthService {
     private final JwtUtil jwtUtil;
     private final RedisTokenService redisTokenService;
     private final com.boardbuddies.boardbuddiesserver.config.JwtProperties jwtProperties;
+    private final AuthVersionService authVersionService;
 
     /**
      * 소셜 로그인 처리
@@ -43,11 +44,8 @@ public class AuthService {
             log.info("기존 회원 로그인: userId={}", user.getId());
 
             // JWT 토큰 생성
-            String accessToken = jwtUtil.generateAccessToken(user.getId());
-            String refreshToken = jwtUtil.generateRefreshToken(user.getId());
-
-            // 리프레시 토큰 Redis 저장
-            redisTokenService.saveRefreshToken(user.getId(), refreshToken, jwtProperties.getRefreshTokenExpiration());
+            String accessToken = generateAccessToken(user, authVersionService.currentVersion(user.getId()));
+            String refreshToken = issueRefreshToken(user.getId());
 
             return SocialLoginResponse.builder()
                     .type(AuthType.Login)
@@ -82,11 +80,11 @@ public class AuthService {
     @Transactional
     public SocialLoginResponse completeSignup(String tempToken, SignupCompleteRequest request) {
         // 임시 토큰 검증 및 정보 추출
-        if (!jwtUtil.validateToken(tempToken)) {
+        Claims claims = jwtUtil.parseTokenOrNull(tempToken);
+        if (claims == null) {
             throw new RuntimeException("유효하지 않은 토큰입니다.");
         }
 
-        Claims claims = jwtUtil.getClaimsFromToken(tempToken);
         String type = claims.get("type", String.class);
         if (!"temp".equals(type)) {
             throw new RuntimeException("임시 토큰이 아닙니다.");
@@ -132,11 +130,8 @@ public class AuthService {
         log.info("회원가입 완료 및 저장: userId={}, name={}", user.getId(), user.getName());
 
         // JWT 토큰 생성
-        String accessToken = jwtUtil.generateAccessToken(user.getId());
-        String refreshToken = jwtUtil.generateRefreshToken(user.getId());
-
-        // 리프레시 토큰 Redis 저장
-        redisTokenService.saveRefreshToken(user.getId(), refreshToken, jwtProperties.getRefreshTokenExpiration());
+        String accessToken = generateAccessToken(user, authVersionService.currentVersion(user.getId()));
+        String refreshToken = issueRefreshToken(user.getId());
 
         return SocialLoginResponse.builder()
                 .type(AuthType.Signup)
@@ -153,38 +148,40 @@ public class AuthService {
      */
     @Transactional
     public SocialLoginResponse refreshToken(String refreshToken) {
-        // 리프레시 토큰 검증
-        if (!jwtUtil.validateToken(refreshToken)) {
+        // 리프레시 토큰 검증 (한 번만 파싱)
+        Claims claims = jwtUtil.parseTokenOrNull(refreshToken);
+        if (claims == null) {
             throw new RuntimeException("유효하지 않은 리프레시 토큰입니다.");
         }
 
         // 토큰 타입 확인
-        String tokenType = jwtUtil.getTokenType(refreshToken);
+        String tokenType = claims.get("type", String.class);
         if (!"refresh".equals(tokenType)) {
             throw new RuntimeException("리프레시 토큰이 아닙니다.");
         }
 
         // 사용자 ID 추출
-        Long userId = jwtUtil.getUserIdFromToken(refreshToken);
+        Long userId = Long.parseLong(claims.getSubject());
+
+        // 권한 버전을 먼저 읽고 사용자(소속/역할)를 조회 - 그 사이 변경이 커밋되면 버전이 올라 새 토큰의 클레임은 쓰이지 않음
+        long authVersion = authVersionService.currentVersion(userId);
 
-        // 사용자 조회
-        User user = userRepository.findById(userId)
+        // 사용자 조회 (2차 캐시를 거치지 않음)
+        User user = userRepository.findFreshById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
         // DB 조회 대신 Redis 조회
-        String savedRefreshToken = redisTokenService.getRefreshToken(userId);
+        String savedRefreshTokenId = redisTokenService.getRefreshToken(userId);
 
-        // Redis에 저장된 리프레시 토큰과 비교
-        if (!refreshToken.equals(savedRefreshToken)) {
+        // Redis에 저장된 리프레시 토큰 ID(jti)와 비교
+        if (!jwtUtil.getTokenId(claims, refreshToken).equals(savedRefreshTokenId)) {
             throw new RuntimeException("유효하지 않은 리프레시 토큰입니다.");
         }
 
         // 새로운 토큰 생성
-        String newAccessToken = jwtUtil.generateAccessToken(user.getId());
-        String newRefreshToken = jwtUtil.generateRefreshToken(user.getId());
-
+        String newAccessToken = generateAccessToken(user, authVersion);
         // 새로운 리프레시 토큰 저장 (기존 삭제 후 저장과 동일 효과)
-        redisTokenService.saveRefreshToken(user.getId(), newRefreshToken, jwtProperties.getRefreshTokenExpiration());
+        String newRefreshToken = issueRefreshToken(user.getId());
 
         log.info("토큰 재발급 완료: userId={}", user.getId());
 
@@ -202,23 +199,42 @@ public class AuthService {
      */
     public void logout(String accessToken) {
         // 토큰 유효성 검증은 필터 또는 앞단에서 이미 수행되었지만 안전을 위해 확인
-        if (!jwtUtil.validateToken(accessToken)) {
+        Claims claims = jwtUtil.parseTokenOrNull(accessToken);
+        if (claims == null) {
             throw new RuntimeException("유효하지 않은 토큰입니다.");
         }
 
-        Long userId = jwtUtil.getUserIdFromToken(accessToken);
+        Long userId = Long.parseLong(claims.getSubject());
 
         // 1. Refresh Token 삭제
         redisTokenService.deleteRefreshToken(userId);
 
         // 2. Access Token 블랙리스트 등록
         // 남은 유효 시간 계산
-        long expiration = jwtUtil.getExpiration(accessToken);
+        long expiration = claims.getExpiration().getTime();
         long now = System.currentTimeMillis();
         long ttl = expiration - now;
 
         if (ttl > 0) {
-            redisTokenService.setBlackList(accessToken, ttl);
+            redisTokenService.setBlackList(jwtUtil.getTokenId(claims, accessToken), ttl);
         }
     }
+
+    /**
+     * 리프레시 토큰 생성 및 Redis 저장 (토큰 ID만 저장)
+     */
+    private String issueRefreshToken(Long userId) {
+        String tokenId = jwtUtil.newTokenId();
+        String refreshToken = jwtUtil.generateRefreshToken(userId, tokenId);
+        redisTokenService.saveRefreshToken(userId, tokenId, jwtProperties.getRefreshTokenExpiration());
+        return refreshToken;
+    }
+
+    /**
+     * 액세스 토큰 생성 (소속 크루 ID, 역할, 권한 버전 포함)
+     */
+    private String generateAccessToken(User user, long authVersion) {
+        Long crewId = user.getCrew() == null ? null : user.getCrew().getId();
+        return jwtUtil.generateAccessToken(user.getId(), crewId, user.getRole(), authVersion);
+    }
 }
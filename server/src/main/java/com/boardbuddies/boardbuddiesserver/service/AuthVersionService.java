@@ -0,0 +1,81 @@
+package com.boardbuddies.boardbuddiesserver.service;
+
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 사용자별 권한 버전 (액세스 토큰의 crewId/role 클레임 무효화용)
+ *
+ * 액세스 토큰에는 발급 시점의 권한 버전(av)을 함께 서명합니다.
+ * 크루 가입/탈퇴, 역할 변경 시 버전을 올려, 이전 토큰의 crewId/role 클레임을 더 이상 믿지 않도록 합니다.
+ * (토큰 자체는 유효하며, 권한 확인만 DB 조회로 돌아갑니다. 토큰 재발급 시 새 클레임을 받습니다.)
+ *
+ * key: "auth:ver:{userId}"
+ */
+@Service
+@RequiredArgsConstructor
+public class AuthVersionService {
+
+    private static final String KEY_PREFIX = "auth:ver:";
+
+    private final RedissonClient redissonClient;
+
+    /**
+     * 현재 버전 (토큰 발급용, 없으면 새로 시작)
+     */
+    public long currentVersion(Long userId) {
+        return RedisVersions.get(redissonClient, KEY_PREFIX + userId);
+    }
+
+    /**
+     * 현재 버전 조회 (토큰 확인용, 없으면 null)
+     */
+    public Long findVersion(Long userId) {
+        String version = redissonClient.<String>getBucket(KEY_PREFIX + userId, StringCodec.INSTANCE).get();
+        return version == null ? null : Long.valueOf(version);
+    }
+
+    /**
+     * 버전 증가 (크루 가입/탈퇴, 역할 변경, 탈퇴)
+     *
+     * 커밋 직전에 올려 실패하면 변경도 롤백되고, 커밋 직후 한 번 더 올려 그 사이 재발급된 토큰(이전 소속/역할)도 무효화합니다.
+     */
+    public void bumpOnCommit(Long userId) {
+        bumpOnCommit(List.of(userId));
+    }
+
+    /**
+     * 여러 사용자 버전 증가
+     */
+    public void bumpOnCommit(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<Long> targets = List.copyOf(userIds);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bumpAll(targets);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                bumpAll(targets);
+            }
+        });
+        // 커밋 직전 증가는 성공했으므로, 실패 시 그 사이 재발급된 토큰만 만료까지 이전 클레임을 가질 수 있음
+        RedisVersions.afterCommit(() -> bumpAll(targets), "권한 버전 증가 실패: userIds=" + targets);
+    }
+
+    private void bumpAll(List<Long> userIds) {
+        for (Long userId : userIds) {
+            RedisVersions.bump(redissonClient, KEY_PREFIX + userId);
+        }
+    }
+}
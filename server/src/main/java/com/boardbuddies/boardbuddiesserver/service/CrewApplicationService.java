@@ -1,5 +1,6 @@
 package com.boardbuddies.boardbuddiesserver.service;
 
+import com.boardbuddies.boardbuddiesserver.config.AuthContext;
 import com.boardbuddies.boardbuddiesserver.domain.*;
 import com.boardbuddies.boardbuddiesserver.dto.crew.ApplicationDecisionRequest;
 import com.boardbuddies.boardbuddiesserver.dto.crew.CrewApplicationRequest;
@@ -27,6 +28,7 @@ public class CrewApplicationService {
     private final CrewRepository crewRepository;
     private final UserRepository userRepository;
     private final ApplicationRepository applicationRepository;
+    private final AuthVersionService authVersionService;
 
     /**
      * 크루 가입 신청
@@ -86,11 +88,8 @@ public class CrewApplicationService {
         Crew crew = crewRepository.findById(crewId)
                 .orElseThrow(() -> new RuntimeException("크루를 찾을 수 없습니다."));
 
-        // 권한 확인 (운영진 이상만 조회 가능)
-        User manager = userRepository.findById(managerId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-
-        if (manager.getRole() != Role.MANAGER && manager.getRole() != Role.PRESIDENT) {
+        // 권한 확인 (해당 크루 운영진 이상만 조회 가능)
+        if (!AuthContext.resolve(managerId, userRepository).isManagerOf(crew.getId())) {
             throw new RuntimeException("가입 신청 목록을 조회할 권한이 없습니다.");
         }
 
@@ -120,11 +119,8 @@ public class CrewApplicationService {
         Crew crew = crewRepository.findById(crewId)
                 .orElseThrow(() -> new RuntimeException("크루를 찾을 수 없습니다."));
 
-        // 권한 확인 (운영진 이상만 처리 가능)
-        User manager = userRepository.findById(managerId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-
-        if (manager.getRole() != Role.MANAGER && manager.getRole() != Role.PRESIDENT) {
+        // 권한 확인 (해당 크루 운영진 이상만 처리 가능)
+        if (!AuthContext.resolve(managerId, userRepository).isManagerOf(crew.getId())) {
             throw new RuntimeException("가입 승인/거절 권한이 없습니다.");
         }
 
@@ -148,6 +144,7 @@ public class CrewApplicationService {
             // 승인 처리
             application.approve();
             applicant.joinCrew(crew, Role.MEMBER); // 기본 역할: MEMBER
+            authVersionService.bumpOnCommit(applicant.getId());
 
             log.info("크루 가입 승인: userId={}, crewId={}, applicationId={}",
                     applicant.getId(), crewId, applicationId);
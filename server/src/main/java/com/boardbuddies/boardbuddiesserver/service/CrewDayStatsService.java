@@ -0,0 +1,167 @@
+package com.boardbuddies.boardbuddiesserver.service;
+
+import com.boardbuddies.boardbuddiesserver.domain.CrewDayStats;
+import com.boardbuddies.boardbuddiesserver.domain.CrewDayStatsId;
+import com.boardbuddies.boardbuddiesserver.domain.Reservation;
+import com.boardbuddies.boardbuddiesserver.domain.ReservationStatus;
+import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationChangeEvent;
+import com.boardbuddies.boardbuddiesserver.repository.CrewDayStatsRepository;
+import com.boardbuddies.boardbuddiesserver.repository.CrewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 크루-날짜별 예약 현황 (crew_day_stats) 관리
+ *
+ * 예약 생성/취소/승격 시 호출하는 쪽의 트랜잭션 안에서 확정/대기 인원을 증감합니다.
+ * 행이 없는 날짜는 같은 트랜잭션에서 빈 행을 먼저 만든 뒤 증감합니다. (StatsCounters)
+ * 재계산은 크루 행을 잠가 같은 크루의 예약 생성(크루 외래 키 잠금), 취소(크루 행 잠금)와 순서대로 실행합니다.
+ * 부원별 이용 횟수도 함께 반영하고, 반영한 변경은 커밋 후 예약 변경 이벤트로 모든 서버에 발행합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CrewDayStatsService {
+
+    private final CrewDayStatsRepository crewDayStatsRepository;
+    private final CrewRepository crewRepository;
+    private final CrewVersionService crewVersionService;
+    private final ReservationChangeBus reservationChangeBus;
+    private final MemberUsageStatsService memberUsageStatsService;
+
+    /**
+     * 기간별 현황 조회 (예약이 없는 날짜는 포함되지 않음)
+     */
+    @Transactional(readOnly = true)
+    public List<CrewDayStats> findBetween(Long crewId, LocalDate startDate, LocalDate endDate) {
+        return crewDayStatsRepository.findByCrewIdAndDateBetweenOrderByDateAsc(crewId, startDate, endDate);
+    }
+
+    /**
+     * 예약 생성 반영
+     */
+    public void reserved(Reservation reservation) {
+        reservedAll(List.of(reservation));
+    }
+
+    /**
+     * 예약 일괄 생성 반영 (날짜별로 모아 한 번씩 증감)
+     */
+    public void reservedAll(Collection<Reservation> reservations) {
+        applyAll(reservations, 1);
+        memberUsageStatsService.reservedAll(reservations);
+        publish(reservations, ReservationChangeEvent::created);
+    }
+
+    /**
+     * 예약 삭제 반영
+     */
+    public void removed(Reservation reservation) {
+        removedAll(List.of(reservation));
+    }
+
+    /**
+     * 예약 일괄 삭제 반영
+     */
+    public void removedAll(Collection<Reservation> reservations) {
+        applyAll(reservations, -1);
+        memberUsageStatsService.removedAll(reservations);
+        publish(reservations, ReservationChangeEvent::cancelled);
+    }
+
+    /**
+     * 회원 탈퇴 반영 (사용자 예약 삭제 전에 호출)
+     * 크루-날짜 현황은 한 번의 UPDATE로 차감하고, 부원 이용 횟수 행은 사용자 기준으로 한 번에 삭제합니다.
+     */
+    public void userRemoved(Long userId, Collection<Reservation> reservations) {
+        if (!reservations.isEmpty()) {
+            crewDayStatsRepository.decrementAllByUserId(userId);
+            reservations.stream()
+                    .map(reservation -> reservation.getCrew().getId())
+                    .distinct()
+                    .forEach(crewVersionService::bumpCrewAfterCommit);
+        }
+        memberUsageStatsService.deleteAllByUserId(userId);
+        publish(reservations, ReservationChangeEvent::cancelled);
+    }
+
+    /**
+     * 대기 -> 확정 승격 반영
+     */
+    public void promoted(Reservation reservation) {
+        promotedAll(List.of(reservation));
+    }
+
+    /**
+     * 대기 -> 확정 일괄 승격 반영 (날짜별로 모아 한 번씩 증감)
+     */
+    public void promotedAll(Collection<Reservation> reservations) {
+        StatsCounters.sumDeltas(reservations, this::statsId, reservation -> true, 1)
+                .forEach((id, delta) -> apply(id.getCrewId(), id.getDate(), delta[0], -delta[0]));
+        memberUsageStatsService.promotedAll(reservations);
+        publish(reservations, ReservationChangeEvent::promoted);
+    }
+
+    /**
+     * 확정/대기 인원 증감 (커밋 후 크루 데이터 버전도 증가)
+     */
+    public void apply(Long crewId, LocalDate date, int confirmedDelta, int waitingDelta) {
+        if (confirmedDelta == 0 && waitingDelta == 0) {
+            return;
+        }
+        crewVersionService.bumpCrewAfterCommit(crewId);
+        StatsCounters.increment(
+                () -> crewDayStatsRepository.increment(crewId, date, confirmedDelta, waitingDelta),
+                () -> crewDayStatsRepository.insertIfAbsent(crewId, date));
+    }
+
+    /**
+     * 전체 재계산 (예약 테이블 기준)
+     * 복구용이므로 예약이 적은 시간에 실행합니다.
+     */
+    @Transactional
+    public int rebuild() {
+        List<Long> crewIds = crewRepository.lockAllIds();
+        crewDayStatsRepository.deleteAllStats();
+        int rows = crewDayStatsRepository.insertAllFromReservations();
+        crewIds.forEach(crewVersionService::bumpCrewAfterCommit);
+        log.info("예약 현황 재계산 완료: rows={}", rows);
+        return rows;
+    }
+
+    /**
+     * 크루 재계산 (예약 테이블 기준)
+     */
+    @Transactional
+    public int rebuild(Long crewId) {
+        crewRepository.findByIdWithLock(crewId)
+                .orElseThrow(() -> new RuntimeException("크루를 찾을 수 없습니다."));
+        crewDayStatsRepository.deleteAllStatsByCrewId(crewId);
+        int rows = crewDayStatsRepository.insertAllFromReservationsByCrewId(crewId);
+        crewVersionService.bumpCrewAfterCommit(crewId);
+        log.info("예약 현황 재계산 완료: crewId={}, rows={}", crewId, rows);
+        return rows;
+    }
+
+    private void publish(Collection<Reservation> reservations,
+            Function<Reservation, ReservationChangeEvent> toEvent) {
+        reservationChangeBus.publishAfterCommit(reservations.stream().map(toEvent).toList());
+    }
+
+    private void applyAll(Collection<Reservation> reservations, int sign) {
+        StatsCounters.sumDeltas(reservations, this::statsId,
+                        reservation -> reservation.getStatus() == ReservationStatus.CONFIRMED, sign)
+                .forEach((id, delta) -> apply(id.getCrewId(), id.getDate(), delta[0], delta[1]));
+    }
+
+    private CrewDayStatsId statsId(Reservation reservation) {
+        return new CrewDayStatsId(reservation.getCrew().getId(), reservation.getDate());
+    }
+}
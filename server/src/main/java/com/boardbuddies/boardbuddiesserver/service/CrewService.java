@@ -1,5 +1,6 @@
 package com.boardbuddies.boardbuddiesserver.service;
 
+import com.boardbuddies.boardbuddiesserver.config.AuthContext;
 import com.boardbuddies.boardbuddiesserver.domain.*;
 import com.boardbuddies.boardbuddiesserver.dto.crew.*;
 import com.boardbuddies.boardbuddiesserver.repository.CrewRepository;
@@ -9,6 +10,7 @@ import jakarta.persistence.EntityNotFoundException;
 import org.springframework.security.access.AccessDeniedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,7 +18,9 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -32,6 +36,19 @@ public class CrewService {
     private final ReservationRepository reservationRepository;
     private final ReservationService reservationService;
     private final FileStorageService fileStorageService;
+    private final CrewDayStatsService crewDayStatsService;
+    private final CrewVersionService crewVersionService;
+    private final MemberUsageStatsService memberUsageStatsService;
+    private final AuthVersionService authVersionService;
+
+    private static final int DEFAULT_CREW_PAGE_SIZE = 20;
+    private static final int MAX_CREW_PAGE_SIZE = 100;
+    private static final int MAX_CACHED_FIRST_PAGES = 256;
+
+    /**
+     * 크루 목록 첫 페이지 캐시 ("{univ}|{size}" -> 버전별 페이지)
+     */
+    private final Map<String, CachedCrewPage> firstPageCache = new ConcurrentHashMap<>();
 
     /**
      * 크루 생성
@@ -74,6 +91,8 @@ public class CrewService {
 
         // 생성자를 PRESIDENT로 설정
         president.joinCrew(crew, Role.PRESIDENT);
+        authVersionService.bumpOnCommit(userId);
+        crewVersionService.bumpCrewListAfterCommit();
 
         log.info("크루 생성 완료: crewId={}, presidentId={}", crew.getId(), userId);
 
@@ -91,32 +110,60 @@ public class CrewService {
     }
 
     /**
-     * 모든 크루 목록 조회
+     * 크루 목록 페이지 조회 (크루 ID 기준 커서 페이지네이션)
      * 
-     * @return 크루 목록
+     * 첫 페이지는 크루 목록 버전이 같은 동안 서버 메모리에 보관하며, 크루 생성/수정/삭제/회장 변경 시 버전이 바뀌어 다시 조회합니다.
+     * 
+     * @param univ   대학교 (null 또는 빈 값이면 전체)
+     * @param cursor 이전 페이지의 next_cursor (null이면 첫 페이지)
+     * @param size   페이지 크기 (1 ~ 100, null이면 20)
+     * @return 크루 목록 페이지
      */
     @Transactional(readOnly = true)
-    public List<CrewListResponse> getAllCrews() {
-        List<Crew> crews = crewRepository.findAll();
-
-        // 모든 회장(PRESIDENT) 조회
-        List<User> presidents = userRepository.findAllByRole(Role.PRESIDENT);
-
-        // crewId -> presidentId 맵 생성
-        java.util.Map<Long, Long> crewPresidentMap = presidents.stream()
-                .filter(user -> user.getCrew() != null)
-                .collect(Collectors.toMap(
-                        user -> user.getCrew().getId(),
-                        User::getId,
-                        (existing, replacement) -> existing // 중복 시 기존 값 유지
-                ));
-
-        return crews.stream()
-                .map(crew -> {
-                    Long presidentId = crewPresidentMap.get(crew.getId());
-                    return CrewListResponse.from(crew, presidentId);
-                })
-                .collect(Collectors.toList());
+    public CrewPageResponse getCrews(String univ, Long cursor, Integer size) {
+        String univFilter = (univ == null || univ.isBlank()) ? null : univ.trim();
+        int pageSize = size == null ? DEFAULT_CREW_PAGE_SIZE : Math.max(1, Math.min(size, MAX_CREW_PAGE_SIZE));
+
+        if (cursor != null) {
+            return loadCrewPage(univFilter, cursor, pageSize);
+        }
+
+        long version = crewVersionService.crewListVersion();
+        String key = (univFilter == null ? "" : univFilter) + "|" + pageSize;
+        CachedCrewPage cached = firstPageCache.get(key);
+        if (cached != null && cached.version() == version) {
+            return cached.page();
+        }
+
+        CrewPageResponse page = loadCrewPage(univFilter, 0L, pageSize);
+        if (firstPageCache.size() >= MAX_CACHED_FIRST_PAGES) {
+            // 대학교 값이 제각각이어도 메모리가 늘지 않도록 비움
+            firstPageCache.clear();
+        }
+        firstPageCache.put(key, new CachedCrewPage(version, page));
+        return page;
+    }
+
+    private CrewPageResponse loadCrewPage(String univ, Long cursor, int pageSize) {
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+        List<CrewListResponse> rows = univ == null
+                ? crewRepository.findPageAfter(cursor, limit)
+                : crewRepository.findPageByUnivAfter(univ, cursor, limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<CrewListResponse> crews = hasNext ? List.copyOf(rows.subList(0, pageSize)) : List.copyOf(rows);
+        return CrewPageResponse.builder()
+                .crews(crews)
+                .nextCursor(hasNext ? crews.get(crews.size() - 1).getCrewId() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 첫 페이지 캐시 항목 (크루 목록 버전 + 페이지)
+     */
+    private record CachedCrewPage(long version, CrewPageResponse page) {
     }
 
     /**
@@ -158,16 +205,16 @@ public class CrewService {
             throw new IllegalArgumentException("User ID and Crew ID must not be null");
         }
         Crew crew = crewRepository.findById(crewId).orElseThrow(() -> new EntityNotFoundException("해당 크루를 찾을 수 없습니다."));
-        User user = userRepository.findById(userId).orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
+        AuthContext auth = AuthContext.resolve(userId, userRepository);
 
         // 기본 권한 확인 (운영진 이상)
-        if (!user.getCrew().equals(crew) || (user.getRole() != Role.PRESIDENT && user.getRole() != Role.MANAGER)) {
+        if (!auth.isManagerOf(crew.getId())) {
             throw new AccessDeniedException("수정 권한이 없습니다.");
         }
 
         // 1. 크루 이름 수정 (PRESIDENT only)
         if (request.getCrewName() != null) {
-            if (user.getRole() != Role.PRESIDENT) {
+            if (auth.getRole() != Role.PRESIDENT) {
                 throw new AccessDeniedException("크루 이름 수정은 회장만 가능합니다.");
             }
             crew.updateName(request.getCrewName());
@@ -175,7 +222,7 @@ public class CrewService {
 
         // 2. 운영진 목록 수정 (PRESIDENT only)
         if (request.getManagerList() != null) {
-            if (user.getRole() != Role.PRESIDENT) {
+            if (auth.getRole() != Role.PRESIDENT) {
                 throw new AccessDeniedException("운영진 수정은 회장만 가능합니다.");
             }
 
@@ -184,6 +231,7 @@ public class CrewService {
             for (User manager : existingManagers) {
                 manager.leaveCrew();
             }
+            authVersionService.bumpOnCommit(existingManagers.stream().map(User::getId).toList());
 
             // 회장 찾기
             User president = userRepository.findByCrewAndRole(crew, Role.PRESIDENT)
@@ -219,6 +267,13 @@ public class CrewService {
                 reservationService.promoteWaitingUsers(crew);
             }
         }
+        // 추첨 접수 시간 수정
+        if (request.getLotteryWindowSeconds() != null) {
+            crew.updateLotteryWindowSeconds(request.getLotteryWindowSeconds());
+        }
+
+        crewVersionService.bumpCrewAfterCommit(crewId);
+        crewVersionService.bumpCrewListAfterCommit();
 
         log.info("크루 정보 수정 완료: crewId={}, updatedBy={}", crewId, userId);
     }
@@ -239,11 +294,8 @@ public class CrewService {
         Crew crew = crewRepository.findById(crewId)
                 .orElseThrow(() -> new RuntimeException("해당 크루를 찾을 수 없습니다."));
 
-        // 사용자 조회 및 권한 확인 (PRESIDENT만 가능)
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-
-        if (!user.getCrew().equals(crew) || user.getRole() != Role.PRESIDENT) {
+        // 권한 확인 (PRESIDENT만 가능)
+        if (!AuthContext.resolve(userId, userRepository).isPresidentOf(crew.getId())) {
             throw new RuntimeException("크루 삭제 권한이 없습니다.");
         }
 
@@ -258,9 +310,11 @@ public class CrewService {
         for (User member : members) {
             member.leaveCrew();
         }
+        authVersionService.bumpOnCommit(members.stream().map(User::getId).toList());
 
         // 크루 삭제
         crewRepository.delete(crew);
+        crewVersionService.bumpCrewListAfterCommit();
 
         log.info("크루 삭제 완료: crewId={}, deletedBy={}", crewId, userId);
     }
@@ -281,16 +335,13 @@ public class CrewService {
         Crew crew = crewRepository.findById(crewId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 크루를 찾을 수 없습니다."));
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
-
         // 권한 확인 (PRESIDENT or MANAGER)
-        if (!user.getCrew().equals(crew) ||
-                (user.getRole() != Role.PRESIDENT && user.getRole() != Role.MANAGER)) {
+        if (!AuthContext.resolve(userId, userRepository).isManagerOf(crew.getId())) {
             throw new AccessDeniedException("부원 사용 통계 조회 권한이 없습니다.");
         }
 
-        return reservationRepository.findUsageCountsByCrew(crew);
+        // 부원별 이용 횟수 집계 테이블 조회 (부원 수만큼)
+        return memberUsageStatsService.findUsageByCrew(crew.getId());
     }
 
     /**
@@ -305,11 +356,8 @@ public class CrewService {
         Crew crew = crewRepository.findById(crewId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 크루를 찾을 수 없습니다."));
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
-
         // 권한 확인 (해당 크루의 멤버면 조회 가능)
-        if (!user.getCrew().equals(crew)) {
+        if (!AuthContext.resolve(userId, userRepository).isMemberOf(crew.getId())) {
             throw new AccessDeniedException("운영진 목록 조회 권한이 없습니다.");
         }
 
@@ -339,11 +387,8 @@ public class CrewService {
         Crew crew = crewRepository.findById(crewId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 크루를 찾을 수 없습니다."));
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
-
         // 권한 확인 (해당 크루의 멤버면 조회 가능)
-        if (!user.getCrew().equals(crew)) {
+        if (!AuthContext.resolve(userId, userRepository).isMemberOf(crew.getId())) {
             throw new AccessDeniedException("부원 목록 조회 권한이 없습니다.");
         }
 
@@ -364,11 +409,8 @@ public class CrewService {
         Crew crew = crewRepository.findById(crewId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 크루를 찾을 수 없습니다."));
 
-        User president = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
-
         // 권한 확인 (PRESIDENT만 가능)
-        if (!president.getCrew().equals(crew) || president.getRole() != Role.PRESIDENT) {
+        if (!AuthContext.resolve(userId, userRepository).isPresidentOf(crew.getId())) {
             throw new AccessDeniedException("운영진 추가는 회장만 가능합니다.");
         }
 
@@ -388,6 +430,7 @@ public class CrewService {
 
         // MEMBER → MANAGER 승격
         targetUser.updateRole(Role.MANAGER);
+        authVersionService.bumpOnCommit(targetUserId);
         log.info("운영진 추가 완료: crewId={}, targetUserId={}, studentId={}", crewId, targetUserId, targetUser.getStudentId());
     }
 
@@ -403,11 +446,8 @@ public class CrewService {
         Crew crew = crewRepository.findById(crewId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 크루를 찾을 수 없습니다."));
 
-        User president = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
-
         // 권한 확인 (PRESIDENT만 가능)
-        if (!president.getCrew().equals(crew) || president.getRole() != Role.PRESIDENT) {
+        if (!AuthContext.resolve(userId, userRepository).isPresidentOf(crew.getId())) {
             throw new AccessDeniedException("운영진 삭제는 회장만 가능합니다.");
         }
 
@@ -426,6 +466,7 @@ public class CrewService {
 
         // MANAGER → MEMBER 강등
         targetUser.joinCrew(crew, Role.MEMBER);
+        authVersionService.bumpOnCommit(targetUserId);
         log.info("운영진 삭제 완료: crewId={}, userId={}", crewId, targetUserId);
     }
 
@@ -468,6 +509,8 @@ public class CrewService {
 
         // 대상 사용자를 PRESIDENT로 승격
         targetUser.updateRole(Role.PRESIDENT);
+        authVersionService.bumpOnCommit(List.of(userId, targetUserId));
+        crewVersionService.bumpCrewListAfterCommit();
 
         log.info("회장 변경 완료: crewId={}, oldPresidentId={}, newPresidentId={}", crewId, userId, targetUserId);
     }
@@ -484,12 +527,8 @@ public class CrewService {
         Crew crew = crewRepository.findById(crewId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 크루를 찾을 수 없습니다."));
 
-        User manager = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
-
         // 권한 확인 (해당 크루의 MANAGER 이상)
-        if (!manager.getCrew().equals(crew) ||
-                (manager.getRole() != Role.PRESIDENT && manager.getRole() != Role.MANAGER)) {
+        if (!AuthContext.resolve(userId, userRepository).isManagerOf(crew.getId())) {
             throw new AccessDeniedException("부원 삭제 권한이 없습니다.");
         }
 
@@ -508,6 +547,7 @@ public class CrewService {
 
         // 크루에서 제거
         targetUser.leaveCrew();
+        authVersionService.bumpOnCommit(targetUserId);
         log.info("부원 삭제 완료: crewId={}, targetUserId={}, studentId={}", crewId, targetUserId, targetUser.getStudentId());
     }
 
@@ -546,6 +586,7 @@ public class CrewService {
 
             // 운영진으로 지정 (Role.MANAGER)
             user.joinCrew(crew, Role.MANAGER);
+            authVersionService.bumpOnCommit(user.getId());
             managers.add(user);
 
             log.info("운영진 지정 완료: crewId={}, userId={}, school={}, studentId={}, role=MANAGER",
@@ -571,12 +612,8 @@ public class CrewService {
         Crew crew = crewRepository.findById(crewId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 크루를 찾을 수 없습니다."));
 
-        // 사용자 조회 및 권한 확인 (PRESIDENT만 가능)
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
-
-        if (!user.getCrew().equals(crew) ||
-                (user.getRole() != Role.MANAGER && user.getRole() != Role.PRESIDENT)) {
+        // 권한 확인 (PRESIDENT or MANAGER)
+        if (!AuthContext.resolve(userId, userRepository).isManagerOf(crew.getId())) {
             throw new AccessDeniedException("프로필 이미지 수정 권한이 없습니다.");
         }
 
@@ -593,10 +630,26 @@ public class CrewService {
 
         // 이미지 URL 업데이트 (null이면 삭제/초기화됨)
         crew.updateProfileImage(profileImageUrl);
+        crewVersionService.bumpCrewListAfterCommit();
 
         log.info("크루 프로필 이미지 수정 완료: crewId={}, updatedBy={}, url={}", crewId, userId, profileImageUrl);
     }
 
+    /**
+     * 크루 달력 조회 가능 여부 확인 (크루, 사용자 존재)
+     * ETag 비교(304) 전에 호출하여, 없는 크루도 304로 응답하지 않도록 합니다.
+     *
+     * @param userId 현재 로그인한 사용자 ID
+     * @param crewId 크루 ID
+     */
+    @Transactional(readOnly = true)
+    public void checkCalendarAccess(Long userId, Long crewId) {
+        crewRepository.findById(crewId)
+                .orElseThrow(() -> new RuntimeException("해당 크루를 찾을 수 없습니다."));
+        userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+    }
+
     /**
      * 월별 크루 달력 조회
      * 
@@ -618,13 +671,10 @@ public class CrewService {
         LocalDate startDate = date.withDayOfMonth(1);
         LocalDate endDate = date.withDayOfMonth(date.lengthOfMonth());
 
-        // 1. 일별 예약 수 집계 (DB에서 Count만 조회)
-        List<DailyReservationCount> dailyCounts = reservationRepository.findDailyCountsByCrewAndDateBetween(
-                crew, startDate, endDate);
-
-        // 날짜별 Count 매핑
-        java.util.Map<LocalDate, Long> countMap = dailyCounts.stream()
-                .collect(Collectors.toMap(DailyReservationCount::getDate, DailyReservationCount::getCount));
+        // 1. 일별 예약 수 조회 (크루-날짜별 예약 현황 범위 조회)
+        java.util.Map<LocalDate, Long> countMap = crewDayStatsService.findBetween(crew.getId(), startDate, endDate)
+                .stream()
+                .collect(Collectors.toMap(CrewDayStats::getDate, stats -> (long) stats.getTotalCount()));
 
         List<CrewCalendarResponse> calendarResponses = new java.util.ArrayList<>();
 
@@ -682,13 +732,10 @@ public class CrewService {
                 .with(java.time.temporal.TemporalAdjusters.previousOrSame(java.time.DayOfWeek.MONDAY));
         LocalDate endDate = date.with(java.time.temporal.TemporalAdjusters.nextOrSame(java.time.DayOfWeek.SUNDAY));
 
-        // 1. 일별 예약 수 집계 (DB에서 Count만 조회)
-        List<DailyReservationCount> dailyCounts = reservationRepository.findDailyCountsByCrewAndDateBetween(
-                crew, startDate, endDate);
-
-        // 날짜별 Count 매핑
-        java.util.Map<LocalDate, Long> countMap = dailyCounts.stream()
-                .collect(Collectors.toMap(DailyReservationCount::getDate, DailyReservationCount::getCount));
+        // 1. 일별 예약 수 조회 (크루-날짜별 예약 현황 범위 조회)
+        java.util.Map<LocalDate, Long> countMap = crewDayStatsService.findBetween(crew.getId(), startDate, endDate)
+                .stream()
+                .collect(Collectors.toMap(CrewDayStats::getDate, stats -> (long) stats.getTotalCount()));
 
         List<CrewCalendarResponse> calendarResponses = new java.util.ArrayList<>();
 
@@ -736,8 +783,8 @@ public class CrewService {
         List<CrewMyMonthlyReservationResponse> myReservations = getMyMonthlyReservations(userId, crewId, startDate,
                 endDate);
 
-        // 2. 이용 횟수 (확정된 일반 예약 수만, 게스트 예약 제외)
-        int usageCount = reservationRepository.countByUserAndCrewAndStatusAndGuestIsNull(user, crew, "confirmed").intValue();
+        // 2. 이용 횟수 (확정된 일반 예약 수만, 게스트 예약 제외) - 부원별 이용 횟수 행 조회
+        int usageCount = memberUsageStatsService.findConfirmedCount(crew.getId(), user.getId());
 
         return com.boardbuddies.boardbuddiesserver.dto.crew.MyCalendarResponse.builder()
                 .myReservations(myReservations)
@@ -763,27 +810,16 @@ public class CrewService {
         Crew crew = crewRepository.findById(crewId)
                 .orElseThrow(() -> new RuntimeException("해당 크루를 찾을 수 없습니다."));
 
-        // 일반 예약만 조회 (게스트 예약 제외)
-        List<Reservation> reservations = reservationRepository.findAllByCrewAndUserAndDateBetweenAndGuestIsNull(
-                crew, user, startDate, endDate);
-
-        return reservations.stream()
-                .map(r -> {
-                    Integer waitingOrder = null;
-                    if ("waiting".equals(r.getStatus())) {
-                        // 대기 번호 계산 (나보다 먼저 대기한 사람 수 + 1)
-                        long count = reservationRepository.countByCrewAndDateAndStatusAndCreatedAtBefore(
-                                crew, r.getDate(), "waiting", r.getCreatedAt());
-                        waitingOrder = (int) count + 1;
-                    }
-                    return CrewMyMonthlyReservationResponse.builder()
-                            .reservationId(r.getId())
-                            .date(r.getDate())
-                            .status(r.getStatus())
-                            .waitingOrder(waitingOrder)
-                            .teaching(r.getTeaching())
-                            .build();
-                })
+        // 일반 예약만 조회 (게스트 예약 제외) - 대기 번호는 같은 쿼리에서 윈도 함수로 계산
+        return reservationRepository.findMyReservationsWithWaitingOrder(crew.getId(), user.getId(), startDate, endDate)
+                .stream()
+                .map(r -> CrewMyMonthlyReservationResponse.builder()
+                        .reservationId(r.getId())
+                        .date(r.getDate())
+                        .status(ReservationStatus.fromCode(r.getStatus()).getValue())
+                        .waitingOrder(r.getWaitingOrder())
+                        .teaching(r.getTeaching())
+                        .build())
                 .collect(Collectors.toList());
     }
 }
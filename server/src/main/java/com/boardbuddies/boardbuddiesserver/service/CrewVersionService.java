@@ -0,0 +1,57 @@
+package com.boardbuddies.boardbuddiesserver.service;
+
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Service;
+
+/**
+ * 크루 데이터 버전 (HTTP ETag용)
+ *
+ * 크루별 달력 데이터와 크루 목록에 단조 증가하는 버전을 두고, 변경이 커밋된 뒤 올립니다.
+ * 조회 API는 버전만 읽어 ETag를 만들고, 클라이언트의 If-None-Match와 같으면 조회 없이 304를 응답합니다.
+ *
+ * key: "version:crew:{crewId}" (크루 달력 데이터)
+ * key: "version:crews" (크루 목록)
+ */
+@Service
+@RequiredArgsConstructor
+public class CrewVersionService {
+
+    private static final String CREW_KEY_PREFIX = "version:crew:";
+    private static final String CREW_LIST_KEY = "version:crews";
+
+    private final RedissonClient redissonClient;
+
+    /**
+     * 크루 달력 데이터 버전
+     */
+    public long crewVersion(Long crewId) {
+        return RedisVersions.get(redissonClient, CREW_KEY_PREFIX + crewId);
+    }
+
+    /**
+     * 크루 목록 버전
+     */
+    public long crewListVersion() {
+        return RedisVersions.get(redissonClient, CREW_LIST_KEY);
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 크루 달력 데이터 버전 증가 (예약, 취소, 승격, 크루 수정)
+     */
+    public void bumpCrewAfterCommit(Long crewId) {
+        afterCommit(() -> RedisVersions.bump(redissonClient, CREW_KEY_PREFIX + crewId));
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 크루 목록 버전 증가 (크루 생성, 수정, 삭제, 회장 변경)
+     */
+    public void bumpCrewListAfterCommit() {
+        afterCommit(() -> RedisVersions.bump(redissonClient, CREW_LIST_KEY));
+    }
+
+    private void afterCommit(Runnable action) {
+        // 버전 증가 실패 시 다음 변경까지 이전 응답이 재사용될 수 있음 (데이터 변경은 이미 커밋됨)
+        RedisVersions.afterCommit(action, "크루 데이터 버전 증가 실패");
+    }
+}
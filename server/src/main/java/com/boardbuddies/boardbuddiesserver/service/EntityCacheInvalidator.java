@@ -0,0 +1,139 @@
+package com.boardbuddies.boardbuddiesserver.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * 2차 캐시 엔티티 무효화 (Redis pub/sub)
+ *
+ * 2차 캐시(Crew, User)는 서버별 메모리에 있으므로, 한 서버에서 엔티티를 수정/삭제하면 다른 서버에는 이전 값이 남습니다.
+ * 커밋된 수정/삭제를 Redis 토픽으로 알리고, 다른 서버는 해당 엔티티를 캐시에서 지워 다음 조회 때 DB에서 다시 읽습니다.
+ * 변경한 서버의 캐시는 Hibernate(READ_WRITE)가 커밋 시 직접 갱신하므로 자기 메시지는 무시합니다.
+ * 메시지를 놓친 경우에는 영역별 유지 시간(application.conf)이 지나면 다시 읽습니다.
+ *
+ * topic: "entity-cache:evict" (메시지: "{서버 ID} {엔티티 이름}#{ID}")
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EntityCacheInvalidator implements PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private static final String TOPIC = "entity-cache:evict";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final RedissonClient redissonClient;
+    private final MeterRegistry meterRegistry;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private SessionFactoryImplementor sessionFactory;
+    private RTopic topic;
+    private int topicListenerId;
+
+    private Counter publishedCounter;
+    private Counter evictedCounter;
+
+    @PostConstruct
+    void init() {
+        publishedCounter = Counter.builder("entity.cache.invalidation")
+                .tag("direction", "published")
+                .description("다른 서버에 알린 2차 캐시 엔티티 변경 수")
+                .register(meterRegistry);
+        evictedCounter = Counter.builder("entity.cache.invalidation")
+                .tag("direction", "evicted")
+                .description("다른 서버의 변경으로 삭제한 2차 캐시 엔티티 수")
+                .register(meterRegistry);
+
+        topic = redissonClient.getTopic(TOPIC, StringCodec.INSTANCE);
+        topicListenerId = topic.addListener(String.class, (channel, message) -> receive(message));
+
+        sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, (PostCommitUpdateEventListener) this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, (PostCommitDeleteEventListener) this);
+    }
+
+    @PreDestroy
+    void close() {
+        topic.removeListener(topicListenerId);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // 롤백된 변경은 캐시에 반영되지 않으므로 알릴 필요 없음
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // 롤백된 변경은 캐시에 반영되지 않으므로 알릴 필요 없음
+    }
+
+    private void publish(EntityPersister persister, Object id) {
+        if (!persister.canWriteToCache()) {
+            return;
+        }
+        try {
+            topic.publish(nodeId + " " + persister.getEntityName() + "#" + id);
+            publishedCounter.increment();
+        } catch (RuntimeException e) {
+            // 다른 서버는 유지 시간이 지나면 다시 읽음
+            log.warn("2차 캐시 무효화 발행 실패: entity={}, id={}", persister.getEntityName(), id, e);
+        }
+    }
+
+    private void receive(String message) {
+        int space = message.indexOf(' ');
+        int hash = message.lastIndexOf('#');
+        if (space < 0 || hash < space) {
+            log.warn("2차 캐시 무효화 메시지 형식 오류: {}", message);
+            return;
+        }
+        if (message.substring(0, space).equals(nodeId)) {
+            return;
+        }
+
+        String entityName = message.substring(space + 1, hash);
+        try {
+            // Crew, User 모두 Long ID
+            Long id = Long.valueOf(message.substring(hash + 1));
+            sessionFactory.getCache().evictEntityData(entityName, id);
+            evictedCounter.increment();
+        } catch (RuntimeException e) {
+            log.warn("2차 캐시 무효화 처리 실패: {}", message, e);
+        }
+    }
+}
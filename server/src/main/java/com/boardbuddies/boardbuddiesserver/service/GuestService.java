@@ -1,7 +1,7 @@
 package com.boardbuddies.boardbuddiesserver.service;
 
+import com.boardbuddies.boardbuddiesserver.config.AuthContext;
 import com.boardbuddies.boardbuddiesserver.domain.Guest;
-import com.boardbuddies.boardbuddiesserver.domain.User;
 import com.boardbuddies.boardbuddiesserver.dto.guest.GuestCreateRequest;
 import com.boardbuddies.boardbuddiesserver.dto.guest.GuestResponse;
 import com.boardbuddies.boardbuddiesserver.repository.GuestRepository;
@@ -26,10 +26,9 @@ public class GuestService {
     @Transactional
     public GuestResponse createGuest(Long userId, GuestCreateRequest request) {
         // 1. 사용자 조회 및 권한 검증
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+        AuthContext auth = AuthContext.resolve(userId, userRepository);
 
-        if (user.getCrew() == null) {
+        if (auth.getCrewId() == null) {
             throw new RuntimeException("크루에 소속된 회원만 게스트를 등록할 수 있습니다.");
         }
 
@@ -0,0 +1,122 @@
+package com.boardbuddies.boardbuddiesserver.service;
+
+import com.boardbuddies.boardbuddiesserver.domain.MemberUsageStats;
+import com.boardbuddies.boardbuddiesserver.domain.MemberUsageStatsId;
+import com.boardbuddies.boardbuddiesserver.domain.Reservation;
+import com.boardbuddies.boardbuddiesserver.dto.crew.MemberUsageResponse;
+import com.boardbuddies.boardbuddiesserver.repository.CrewRepository;
+import com.boardbuddies.boardbuddiesserver.repository.MemberUsageStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 크루-부원별 시즌방 이용 횟수 (member_usage_stats) 관리
+ *
+ * 확정 예약이 생기거나(확정 신청, 대기 승격) 없어질 때(확정 예약 취소) 호출하는 쪽의 트랜잭션 안에서 증감합니다.
+ * 이용 통계는 크루 부원 수만큼, 나의 달력 이용 횟수는 행 하나만 읽으므로 예약 기록이 쌓여도 조회 비용이 늘지 않습니다.
+ * 첫 이용은 같은 트랜잭션에서 빈 행을 먼저 만든 뒤 증감하고(StatsCounters), 재계산은 크루 행을 잠가 예약 변경과 순서대로 실행합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberUsageStatsService {
+
+    private final MemberUsageStatsRepository memberUsageStatsRepository;
+    private final CrewRepository crewRepository;
+
+    /**
+     * 크루별 부원 이용 횟수 (일반 + 게스트 예약, 이름순)
+     */
+    @Transactional(readOnly = true)
+    public List<MemberUsageResponse> findUsageByCrew(Long crewId) {
+        return memberUsageStatsRepository.findUsageByCrewId(crewId);
+    }
+
+    /**
+     * 부원 이용 횟수 (확정된 일반 예약만, 게스트 예약 제외)
+     */
+    @Transactional(readOnly = true)
+    public int findConfirmedCount(Long crewId, Long userId) {
+        return memberUsageStatsRepository.findById(new MemberUsageStatsId(crewId, userId))
+                .map(MemberUsageStats::getConfirmedCount)
+                .orElse(0);
+    }
+
+    /**
+     * 예약 생성 반영 (확정 예약만 증가)
+     */
+    public void reservedAll(Collection<Reservation> reservations) {
+        applyAll(reservations.stream().filter(Reservation::isConfirmed).toList(), 1);
+    }
+
+    /**
+     * 예약 삭제 반영 (확정 예약만 감소)
+     */
+    public void removedAll(Collection<Reservation> reservations) {
+        applyAll(reservations.stream().filter(Reservation::isConfirmed).toList(), -1);
+    }
+
+    /**
+     * 사용자 이용 횟수 일괄 삭제 (회원 탈퇴)
+     */
+    public void deleteAllByUserId(Long userId) {
+        memberUsageStatsRepository.deleteAllStatsByUserId(userId);
+    }
+
+    /**
+     * 대기 -> 확정 승격 반영
+     */
+    public void promotedAll(Collection<Reservation> reservations) {
+        applyAll(reservations, 1);
+    }
+
+    /**
+     * 이용 횟수 증감
+     */
+    public void apply(Long crewId, Long userId, int confirmedDelta, int guestConfirmedDelta) {
+        if (confirmedDelta == 0 && guestConfirmedDelta == 0) {
+            return;
+        }
+        StatsCounters.increment(
+                () -> memberUsageStatsRepository.increment(crewId, userId, confirmedDelta, guestConfirmedDelta),
+                () -> memberUsageStatsRepository.insertIfAbsent(crewId, userId));
+    }
+
+    /**
+     * 전체 재계산 (예약 테이블 기준)
+     * 복구용이므로 예약이 적은 시간에 실행합니다.
+     */
+    @Transactional
+    public int rebuild() {
+        crewRepository.lockAllIds();
+        memberUsageStatsRepository.deleteAllStats();
+        int rows = memberUsageStatsRepository.insertAllFromReservations();
+        log.info("이용 횟수 재계산 완료: rows={}", rows);
+        return rows;
+    }
+
+    /**
+     * 크루 재계산 (예약 테이블 기준)
+     */
+    @Transactional
+    public int rebuild(Long crewId) {
+        crewRepository.findByIdWithLock(crewId)
+                .orElseThrow(() -> new RuntimeException("크루를 찾을 수 없습니다."));
+        memberUsageStatsRepository.deleteAllStatsByCrewId(crewId);
+        int rows = memberUsageStatsRepository.insertAllFromReservationsByCrewId(crewId);
+        log.info("이용 횟수 재계산 완료: crewId={}, rows={}", crewId, rows);
+        return rows;
+    }
+
+    private void applyAll(Collection<Reservation> reservations, int sign) {
+        StatsCounters.sumDeltas(reservations,
+                        reservation -> new MemberUsageStatsId(reservation.getCrew().getId(), reservation.getUser().getId()),
+                        reservation -> reservation.getGuest() == null, sign)
+                .forEach((id, delta) -> apply(id.getCrewId(), id.getUserId(), delta[0], delta[1]));
+    }
+}
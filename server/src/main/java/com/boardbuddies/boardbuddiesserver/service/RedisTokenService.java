@@ -11,20 +11,24 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class RedisTokenService {
 
+    public static final String BLACKLIST_KEY_PREFIX = "blacklist:";
+
     private final RedissonClient redissonClient;
+    private final TokenBlacklistFilter tokenBlacklistFilter;
 
     /**
      * Refresh Token 저장
      * key: "refresh:{userId}"
+     * value: 리프레시 토큰 ID (jti)
      */
-    public void saveRefreshToken(Long userId, String refreshToken, long expirationMillis) {
+    public void saveRefreshToken(Long userId, String refreshTokenId, long expirationMillis) {
         String key = "refresh:" + userId;
         RBucket<String> bucket = redissonClient.getBucket(key);
-        bucket.set(refreshToken, expirationMillis, TimeUnit.MILLISECONDS);
+        bucket.set(refreshTokenId, expirationMillis, TimeUnit.MILLISECONDS);
     }
 
     /**
-     * Refresh Token 조회
+     * Refresh Token ID 조회
      */
     public String getRefreshToken(Long userId) {
         String key = "refresh:" + userId;
@@ -43,22 +47,27 @@ public class RedisTokenService {
 
     /**
      * Access Token 블랙리스트 등록 (로그아웃)
-     * key: "blacklist:{accessToken}"
+     * key: "blacklist:{tokenId}" (토큰 ID: jti, jti가 없는 이전 토큰은 토큰 전체)
      * value: "logout"
      */
-    public void setBlackList(String accessToken, long expirationMillis) {
-        String key = "blacklist:" + accessToken;
+    public void setBlackList(String tokenId, long expirationMillis) {
+        String key = BLACKLIST_KEY_PREFIX + tokenId;
         if (expirationMillis > 0) {
             RBucket<String> bucket = redissonClient.getBucket(key);
             bucket.set("logout", expirationMillis, TimeUnit.MILLISECONDS);
+            tokenBlacklistFilter.add(tokenId);
         }
     }
 
     /**
      * Access Token 블랙리스트 여부 확인
+     * 로컬 필터에 없으면 Redis를 조회하지 않습니다. (TokenBlacklistFilter)
      */
-    public boolean isBlackListed(String accessToken) {
-        String key = "blacklist:" + accessToken;
+    public boolean isBlackListed(String tokenId) {
+        if (!tokenBlacklistFilter.mightContain(tokenId)) {
+            return false;
+        }
+        String key = BLACKLIST_KEY_PREFIX + tokenId;
         RBucket<String> bucket = redissonClient.getBucket(key);
         return bucket.isExists();
     }
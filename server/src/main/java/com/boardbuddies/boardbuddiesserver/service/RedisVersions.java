@@ -0,0 +1,95 @@
+package com.boardbuddies.boardbuddiesserver.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Redis 단조 증가 버전 공통 처리 (크루 데이터 버전, 사용자별 권한 버전)
+ *
+ * 키가 사라지면(Redis 초기화 등) 현재 시각(밀리초)으로 다시 시작하므로 이전에 발급한 버전과 겹치지 않습니다.
+ */
+@Slf4j
+final class RedisVersions {
+
+    /**
+     * 버전 조회 (없으면 ARGV[1]로 시작)
+     */
+    private static final String GET_SCRIPT = """
+            local version = redis.call('get', KEYS[1])
+            if not version then
+                redis.call('set', KEYS[1], ARGV[1], 'NX')
+                version = redis.call('get', KEYS[1])
+            end
+            return tonumber(version)
+            """;
+
+    /**
+     * 버전 증가 (없으면 ARGV[1]로 시작)
+     */
+    private static final String BUMP_SCRIPT = """
+            if redis.call('exists', KEYS[1]) == 0 then
+                redis.call('set', KEYS[1], ARGV[1])
+                return tonumber(ARGV[1])
+            end
+            return redis.call('incr', KEYS[1])
+            """;
+
+    private RedisVersions() {
+    }
+
+    /**
+     * 현재 버전 (없으면 새로 시작)
+     */
+    static long get(RedissonClient redissonClient, String key) {
+        return eval(redissonClient, GET_SCRIPT, key);
+    }
+
+    /**
+     * 버전 증가
+     */
+    static long bump(RedissonClient redissonClient, String key) {
+        return eval(redissonClient, BUMP_SCRIPT, key);
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 실행 (트랜잭션 밖이면 즉시 실행)
+     * 데이터 변경은 이미 커밋되었으므로 실패는 경고만 남깁니다.
+     *
+     * @param failureMessage 실패 시 경고 로그 메시지
+     */
+    static void afterCommit(Runnable action, String failureMessage) {
+        Runnable safeAction = () -> {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                log.warn(failureMessage, e);
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            safeAction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                safeAction.run();
+            }
+        });
+    }
+
+    private static long eval(RedissonClient redissonClient, String script, String key) {
+        Long version = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                script,
+                RScript.ReturnType.INTEGER,
+                List.<Object>of(key),
+                String.valueOf(System.currentTimeMillis()));
+        return version;
+    }
+}
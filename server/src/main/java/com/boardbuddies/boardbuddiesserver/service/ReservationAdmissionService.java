@@ -0,0 +1,447 @@
+package com.boardbuddies.boardbuddiesserver.service;
+
+import com.boardbuddies.boardbuddiesserver.config.ReservationProperties;
+import com.boardbuddies.boardbuddiesserver.domain.Crew;
+import com.boardbuddies.boardbuddiesserver.domain.Role;
+import com.boardbuddies.boardbuddiesserver.domain.User;
+import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationMultiResponse;
+import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationRequest;
+import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationTicketResponse;
+import com.boardbuddies.boardbuddiesserver.repository.CrewRepository;
+import com.boardbuddies.boardbuddiesserver.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RMap;
+import org.redisson.api.RRateLimiter;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RSet;
+import org.redisson.api.RateIntervalUnit;
+import org.redisson.api.RateLimiterConfig;
+import org.redisson.api.RateType;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 예약 오픈 시각 대기열 (가상 대기실)
+ *
+ * 오픈 직후 몰리는 예약 요청을 크루별 대기열에 순서대로 쌓고 티켓을 발급한 뒤,
+ * 크루별 초당 처리 건수만큼만 꺼내 예약 엔진으로 넘깁니다.
+ * 대기열과 처리 속도 제한은 Redis에 있으므로 여러 서버가 같은 순서와 속도를 공유합니다.
+ *
+ * 처리 속도 제한은 처리할 티켓에만 사용합니다. 대기 제한 시간(reservation.admission.ticket-ttl-seconds)이 지났거나
+ * 그 사이 크루 회원이 아니게 된 티켓은 허용량을 쓰지 않고 EXPIRED/FAILED로 끝내, 조회하는 클라이언트가 결과를 받도록 합니다.
+ * 티켓은 결과 조회를 위해 대기 제한 시간의 두 배 동안 보관합니다.
+ *
+ * key: "admission:queue:{crewId}" (sorted set: ticketId, score = 등록 순번)
+ * key: "admission:ticket:{ticketId}" (hash: 요청 내용, 상태, 결과)
+ * key: "admission:crews" (set: 대기열이 남아 있는 크루 ID)
+ * key: "admission:processing" (sorted set: 처리 중인 ticketId, score = 처리 제한 시각)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationAdmissionService {
+
+    private static final String QUEUE_PREFIX = "admission:queue:";
+    private static final String SEQUENCE_PREFIX = "admission:seq:";
+    private static final String TICKET_PREFIX = "admission:ticket:";
+    private static final String RATE_PREFIX = "admission:rate:";
+    private static final String ACTIVE_CREWS_KEY = "admission:crews";
+    private static final String PROCESSING_KEY = "admission:processing";
+    private static final String EXPIRED_MESSAGE = "대기 시간이 초과되었습니다. 다시 시도해주세요.";
+
+    private final RedissonClient redissonClient;
+    private final CrewRepository crewRepository;
+    private final UserRepository userRepository;
+    private final ReservationService reservationService;
+    private final ReservationProperties reservationProperties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolTaskExecutor reservationAdmissionExecutor;
+
+    /**
+     * 이 서버에서 처리 속도 설정을 확인한 크루 ID
+     */
+    private final Set<Long> configuredRateLimiters = ConcurrentHashMap.newKeySet();
+
+    private Counter enqueuedCounter;
+    private Counter drainedCounter;
+    private Counter closedCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        enqueuedCounter = Counter.builder("reservation.admission.enqueued")
+                .description("대기열에 등록된 예약 요청 수")
+                .register(meterRegistry);
+        drainedCounter = Counter.builder("reservation.admission.drained")
+                .description("대기열에서 꺼내 처리한 예약 요청 수")
+                .register(meterRegistry);
+        closedCounter = Counter.builder("reservation.admission.closed")
+                .description("처리하지 않고 종료한 대기열 티켓 수 (대기 시간 초과, 회원 아님)")
+                .register(meterRegistry);
+        Gauge.builder("reservation.admission.queue.depth", this, ReservationAdmissionService::totalDepth)
+                .description("대기열에 남아 있는 예약 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("reservation.admission.drain.rate", reservationProperties,
+                        properties -> properties.getAdmission().getDrainRate())
+                .description("크루별 초당 처리 건수 설정값")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 대기열을 거쳐야 하는 요청인지 확인
+     * 대기열이 켜져 있고, 오픈 직후이거나 앞선 대기 요청이 남아 있으면 대기열로 보냅니다.
+     */
+    public boolean shouldQueue(Long crewId) {
+        if (!reservationProperties.getAdmission().isEnabled()) {
+            return false;
+        }
+        // 앞선 요청이 남아 있으면 순서 보장을 위해 계속 대기열로
+        if (!queue(crewId).isEmpty()) {
+            return true;
+        }
+        return crewRepository.findById(crewId)
+                .map(this::isOpeningWindow)
+                .orElse(false);
+    }
+
+    /**
+     * 대기열 등록 (티켓 발급)
+     */
+    public ReservationTicketResponse enqueue(Long userId, Long crewId, ReservationRequest request) {
+        if (userId == null || crewId == null) {
+            throw new IllegalArgumentException("User ID and Crew ID must not be null");
+        }
+        if (request.getDates() == null || request.getDates().isEmpty()) {
+            throw new RuntimeException("예약할 날짜를 선택해주세요.");
+        }
+
+        // 티켓 발급 전 회원 검증 (예약 엔진과 같은 기준)
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+        if (user.getCrew() == null || !crewId.equals(user.getCrew().getId())) {
+            throw new RuntimeException("해당 크루의 회원이 아닙니다.");
+        }
+        if (user.getRole() == Role.GUEST || !user.getIsRegistered()) {
+            throw new RuntimeException("승인된 회원만 예약할 수 있습니다.");
+        }
+
+        String ticketId = UUID.randomUUID().toString();
+
+        Map<String, String> fields = new HashMap<>();
+        fields.put("userId", String.valueOf(userId));
+        fields.put("crewId", String.valueOf(crewId));
+        fields.put("dates", request.getDates().stream()
+                .map(LocalDate::toString)
+                .collect(Collectors.joining(",")));
+        if (request.getGuestId() != null) {
+            fields.put("guestId", String.valueOf(request.getGuestId()));
+        }
+        fields.put("status", "QUEUED");
+        long ticketTtlSeconds = reservationProperties.getAdmission().getTicketTtlSeconds();
+        fields.put("queuedUntil", String.valueOf(System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(ticketTtlSeconds)));
+
+        long sequence = redissonClient.getAtomicLong(SEQUENCE_PREFIX + crewId).incrementAndGet();
+        fields.put("sequence", String.valueOf(sequence));
+
+        RMap<String, String> ticket = ticket(ticketId);
+        ticket.putAll(fields);
+        ticket.expire(Duration.ofSeconds(ticketTtlSeconds * 2));
+
+        queue(crewId).add(sequence, ticketId);
+        activeCrews().add(String.valueOf(crewId));
+        enqueuedCounter.increment();
+
+        log.debug("예약 대기열 등록: crewId={}, userId={}, ticketId={}", crewId, userId, ticketId);
+
+        return getTicket(userId, crewId, ticketId);
+    }
+
+    /**
+     * 티켓 상태 조회 (대기 순번 또는 처리 결과)
+     */
+    public ReservationTicketResponse getTicket(Long userId, Long crewId, String ticketId) {
+        Map<String, String> fields = ticket(ticketId).readAllMap();
+
+        if (fields.isEmpty()
+                || !String.valueOf(userId).equals(fields.get("userId"))
+                || !String.valueOf(crewId).equals(fields.get("crewId"))) {
+            throw new RuntimeException("대기열 티켓을 찾을 수 없습니다.");
+        }
+
+        String status = fields.get("status");
+        ReservationTicketResponse.ReservationTicketResponseBuilder builder = ReservationTicketResponse.builder()
+                .ticketId(ticketId)
+                .crewId(crewId)
+                .status(status);
+
+        if ("QUEUED".equals(status) && isExpired(fields)) {
+            // 대기열 앞에 도달하면 EXPIRED로 정리됨
+            builder.status("EXPIRED").message(EXPIRED_MESSAGE);
+        } else if ("QUEUED".equals(status)) {
+            Integer rank = queue(crewId).rank(ticketId);
+            builder.position(rank != null ? rank + 1L : null);
+        } else if ("DONE".equals(status)) {
+            builder.result(readResult(fields.get("result")));
+        } else if ("FAILED".equals(status) || "EXPIRED".equals(status)) {
+            builder.message(fields.get("message"));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * 대기열 처리
+     * 크루별 처리 속도 제한(모든 서버 공유)만큼 티켓을 꺼내 대기열 전용 스레드 풀에서 처리합니다.
+     * 맨 앞 티켓을 먼저 확인해, 처리하지 않을 티켓(만료, 회원 아님)은 허용량을 쓰지 않고 종료 상태로 꺼냅니다.
+     * 전용 풀에 여유가 없으면 다음 주기에 꺼냅니다.
+     */
+    @Scheduled(fixedDelayString = "${reservation.admission.drain-interval-ms:100}")
+    public void drain() {
+        if (!reservationProperties.getAdmission().isEnabled()) {
+            return;
+        }
+
+        for (String crewIdValue : activeCrews().readAll()) {
+            Long crewId = Long.valueOf(crewIdValue);
+            RScoredSortedSet<String> queue = queue(crewId);
+            RRateLimiter rateLimiter = rateLimiter(crewId);
+
+            while (hasCapacity()) {
+                String ticketId = queue.first();
+                if (ticketId == null) {
+                    break;
+                }
+                RMap<String, String> ticket = ticket(ticketId);
+                Map<String, String> fields = ticket.readAllMap();
+                if (!isDispatchable(crewId, fields)) {
+                    if (queue.remove(ticketId)) {
+                        close(ticket, fields);
+                    }
+                    continue;
+                }
+                if (!rateLimiter.tryAcquire()) {
+                    break;
+                }
+                // 다른 서버가 먼저 꺼낸 경우 다음 티켓으로
+                if (queue.remove(ticketId) && !dispatch(crewId, ticketId, ticket, fields)) {
+                    break;
+                }
+            }
+
+            if (queue.isEmpty()) {
+                activeCrews().remove(crewIdValue);
+                // 제거 직후 등록된 티켓이 있으면 다시 활성화
+                if (!queue.isEmpty()) {
+                    activeCrews().add(crewIdValue);
+                }
+            }
+        }
+    }
+
+    /**
+     * 처리할 티켓인지 확인 (보관 시간이 지나 삭제됨, 대기 제한 시간 초과, 크루 회원 아님이면 false)
+     */
+    private boolean isDispatchable(Long crewId, Map<String, String> fields) {
+        if (fields.isEmpty() || isExpired(fields)) {
+            return false;
+        }
+        return userRepository.findById(Long.valueOf(fields.get("userId")))
+                .map(user -> user.getCrew() != null && crewId.equals(user.getCrew().getId()))
+                .orElse(false);
+    }
+
+    private boolean isExpired(Map<String, String> fields) {
+        String queuedUntil = fields.get("queuedUntil");
+        return queuedUntil != null && System.currentTimeMillis() > Long.parseLong(queuedUntil);
+    }
+
+    /**
+     * 처리하지 않을 티켓 종료 (대기 제한 시간 초과는 EXPIRED, 그 외는 FAILED)
+     */
+    private void close(RMap<String, String> ticket, Map<String, String> fields) {
+        if (fields.isEmpty()) {
+            // 보관 시간이 지나 이미 삭제된 티켓
+            return;
+        }
+        Map<String, String> outcome = new HashMap<>();
+        if (isExpired(fields)) {
+            outcome.put("status", "EXPIRED");
+            outcome.put("message", EXPIRED_MESSAGE);
+        } else {
+            outcome.put("status", "FAILED");
+            outcome.put("message", "해당 크루의 회원이 아닙니다.");
+        }
+        ticket.putAll(outcome);
+        closedCounter.increment();
+    }
+
+    /**
+     * 티켓 처리 시작
+     *
+     * @return 전용 풀이 가득 차 티켓을 대기열에 되돌렸으면 false
+     */
+    private boolean dispatch(Long crewId, String ticketId, RMap<String, String> ticket, Map<String, String> fields) {
+        ticket.fastPut("status", "PROCESSING");
+        long deadline = System.currentTimeMillis()
+                + TimeUnit.SECONDS.toMillis(reservationProperties.getAdmission().getProcessingTimeoutSeconds());
+        processing().add(deadline, ticketId);
+
+        try {
+            reservationAdmissionExecutor.execute(() -> process(crewId, ticketId, ticket, fields));
+        } catch (TaskRejectedException e) {
+            // 원래 순번으로 되돌림
+            processing().remove(ticketId);
+            ticket.fastPut("status", "QUEUED");
+            queue(crewId).add(Double.parseDouble(fields.getOrDefault("sequence", "0")), ticketId);
+            return false;
+        }
+
+        drainedCounter.increment();
+        return true;
+    }
+
+    private boolean hasCapacity() {
+        return reservationAdmissionExecutor.getThreadPoolExecutor().getQueue().remainingCapacity() > 0;
+    }
+
+    private void process(Long crewId, String ticketId, RMap<String, String> ticket, Map<String, String> fields) {
+        Map<String, String> outcome = new HashMap<>();
+        try {
+            ReservationRequest request = ReservationRequest.builder()
+                    .crewId(crewId)
+                    .dates(Arrays.stream(fields.get("dates").split(","))
+                            .map(LocalDate::parse)
+                            .toList())
+                    .guestId(fields.containsKey("guestId") ? Long.valueOf(fields.get("guestId")) : null)
+                    .build();
+
+            ReservationMultiResponse response = reservationService.reserve(
+                    Long.valueOf(fields.get("userId")), crewId, request);
+
+            outcome.put("result", objectMapper.writeValueAsString(response));
+            outcome.put("status", "DONE");
+        } catch (Exception e) {
+            log.warn("대기열 예약 처리 실패: crewId={}, message={}", crewId, e.getMessage());
+            outcome.put("message", e.getMessage() != null ? e.getMessage() : "예약 처리 중 오류가 발생했습니다.");
+            outcome.put("status", "FAILED");
+        }
+        ticket.putAll(outcome);
+        processing().remove(ticketId);
+    }
+
+    /**
+     * 처리 중 상태로 남은 티켓 정리
+     * 처리하던 서버가 종료되면 티켓이 처리 중 상태로 남으므로, 처리 제한 시간이 지난 티켓을 실패로 바꿉니다.
+     * 예약이 저장되었을 수도 있으므로 다시 처리하지 않고 예약 내역 확인을 안내합니다.
+     */
+    @Scheduled(fixedDelayString = "${reservation.admission.sweep-interval-ms:10000}")
+    public void sweepStuckTickets() {
+        if (!reservationProperties.getAdmission().isEnabled()) {
+            return;
+        }
+
+        RScoredSortedSet<String> processing = processing();
+        for (String ticketId : processing.valueRange(0, true, System.currentTimeMillis(), true)) {
+            // 여러 서버 중 제거에 성공한 서버만 정리
+            if (!processing.remove(ticketId)) {
+                continue;
+            }
+            RMap<String, String> ticket = ticket(ticketId);
+            if (ticket.replace("status", "PROCESSING", "FAILED")) {
+                ticket.fastPut("message", "예약 처리 시간이 초과되었습니다. 예약 내역을 확인한 뒤 다시 시도해주세요.");
+                log.warn("처리 중 상태로 남은 대기열 티켓 실패 처리: ticketId={}", ticketId);
+            }
+        }
+    }
+
+    private boolean isOpeningWindow(Crew crew) {
+        if (crew.getReservationDay() == null || crew.getReservationTime() == null) {
+            return false;
+        }
+
+        // 이번 주의 예약 오픈 시각
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        LocalDate openDate = now.toLocalDate()
+                .with(TemporalAdjusters.previousOrSame(java.time.DayOfWeek.MONDAY))
+                .with(TemporalAdjusters.nextOrSame(java.time.DayOfWeek.valueOf(crew.getReservationDay().name())));
+        LocalDateTime openDateTime = LocalDateTime.of(openDate, crew.getReservationTime());
+
+        return !now.isBefore(openDateTime)
+                && now.isBefore(openDateTime.plusSeconds(reservationProperties.getAdmission().getWindowSeconds()));
+    }
+
+    private ReservationMultiResponse readResult(String json) {
+        try {
+            return objectMapper.readValue(json, ReservationMultiResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("예약 처리 결과를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private double totalDepth() {
+        return activeCrews().readAll().stream()
+                .mapToInt(crewId -> queue(Long.valueOf(crewId)).size())
+                .sum();
+    }
+
+    private RScoredSortedSet<String> queue(Long crewId) {
+        return redissonClient.getScoredSortedSet(QUEUE_PREFIX + crewId, StringCodec.INSTANCE);
+    }
+
+    private RMap<String, String> ticket(String ticketId) {
+        return redissonClient.getMap(TICKET_PREFIX + ticketId, StringCodec.INSTANCE);
+    }
+
+    private RScoredSortedSet<String> processing() {
+        return redissonClient.getScoredSortedSet(PROCESSING_KEY, StringCodec.INSTANCE);
+    }
+
+    private RSet<String> activeCrews() {
+        return redissonClient.getSet(ACTIVE_CREWS_KEY, StringCodec.INSTANCE);
+    }
+
+    /**
+     * 크루별 처리 속도 제한
+     * trySetRate는 이미 설정된 제한을 바꾸지 않으므로, 서버 시작 후 처음 사용할 때 설정값과 비교해 다르면 다시 설정합니다.
+     */
+    private RRateLimiter rateLimiter(Long crewId) {
+        RRateLimiter rateLimiter = redissonClient.getRateLimiter(RATE_PREFIX + crewId);
+        if (configuredRateLimiters.add(crewId)) {
+            long rate = reservationProperties.getAdmission().getDrainRate();
+            if (!rateLimiter.trySetRate(RateType.OVERALL, rate, 1, RateIntervalUnit.SECONDS)) {
+                RateLimiterConfig config = rateLimiter.getConfig();
+                if (config.getRateType() != RateType.OVERALL || config.getRate() != rate
+                        || config.getRateInterval() != TimeUnit.SECONDS.toMillis(1)) {
+                    rateLimiter.setRate(RateType.OVERALL, rate, 1, RateIntervalUnit.SECONDS);
+                    log.info("대기열 처리 속도 변경: crewId={}, rate={}", crewId, rate);
+                }
+            }
+        }
+        return rateLimiter;
+    }
+}
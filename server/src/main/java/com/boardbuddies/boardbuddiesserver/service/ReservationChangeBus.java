@@ -0,0 +1,178 @@
+package com.boardbuddies.boardbuddiesserver.service;
+
+import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationChangeEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 예약 변경 이벤트 버스 (Redis pub/sub)
+ *
+ * 커밋된 예약 생성/취소/승격을 Redis 토픽으로 발행하고, 모든 서버(발행한 서버 포함)가 받아 등록된 리스너에 전달합니다.
+ * 캐시 무효화, 실시간 전송 등 서버 메모리에서 처리하는 작업이 다른 서버에서 일어난 변경도 받을 수 있습니다.
+ * 한 트랜잭션의 이벤트는 메시지 하나로 묶어 발행하며, 수신한 이벤트는 서버별 단일 스레드에서 순서대로 처리합니다.
+ * 처리 대기 메시지가 상한(reservation.bus.queue-capacity)을 넘으면 버리고 reservation.bus.dropped로 집계합니다.
+ * pub/sub은 전달을 보장하지 않으므로, 리스너는 이벤트를 변경 알림으로만 사용하고 값은 DB/Redis에서 다시 읽어야 합니다.
+ *
+ * topic: "reservation:changes" (JSON 배열: ReservationChangeEvent)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationChangeBus {
+
+    private static final String TOPIC = "reservation:changes";
+    private static final TypeReference<List<ReservationChangeEvent>> EVENTS_TYPE = new TypeReference<>() {
+    };
+
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolTaskExecutor reservationChangeExecutor;
+
+    private final List<Consumer<ReservationChangeEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    private RTopic topic;
+    private int topicListenerId;
+
+    private Counter publishedCounter;
+    private Counter publishFailedCounter;
+    private Counter receivedCounter;
+    private Counter listenerFailedCounter;
+    private Counter droppedCounter;
+    private Timer lagTimer;
+
+    @PostConstruct
+    void init() {
+        publishedCounter = Counter.builder("reservation.bus.published")
+                .description("발행한 예약 변경 이벤트 수")
+                .register(meterRegistry);
+        publishFailedCounter = Counter.builder("reservation.bus.publish.failed")
+                .description("발행 실패로 이 서버에서만 처리한 예약 변경 이벤트 수")
+                .register(meterRegistry);
+        receivedCounter = Counter.builder("reservation.bus.received")
+                .description("이 서버가 받은 예약 변경 이벤트 수")
+                .register(meterRegistry);
+        listenerFailedCounter = Counter.builder("reservation.bus.listener.failed")
+                .description("리스너 처리 중 실패한 예약 변경 이벤트 수")
+                .register(meterRegistry);
+        droppedCounter = Counter.builder("reservation.bus.dropped")
+                .description("처리 대기 초과로 버린 예약 변경 이벤트 수")
+                .register(meterRegistry);
+        lagTimer = Timer.builder("reservation.bus.lag")
+                .description("발행부터 이 서버의 리스너 처리까지 걸린 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("reservation.bus.backlog", reservationChangeExecutor,
+                        executor -> executor.getThreadPoolExecutor().getQueue().size())
+                .description("이 서버에서 처리 대기 중인 예약 변경 메시지 수")
+                .register(meterRegistry);
+
+        topic = redissonClient.getTopic(TOPIC, StringCodec.INSTANCE);
+        topicListenerId = topic.addListener(String.class, (channel, message) -> receive(message));
+    }
+
+    @PreDestroy
+    void close() {
+        topic.removeListener(topicListenerId);
+    }
+
+    /**
+     * 리스너 등록 (모든 서버의 변경을 수신, 단일 스레드에서 호출)
+     */
+    public void addListener(Consumer<ReservationChangeEvent> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 발행 (트랜잭션이 없으면 즉시)
+     */
+    public void publishAfterCommit(List<ReservationChangeEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(events);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(events);
+            }
+        });
+    }
+
+    private void publish(List<ReservationChangeEvent> events) {
+        long now = System.currentTimeMillis();
+        List<ReservationChangeEvent> stamped = events.stream()
+                .map(event -> event.toBuilder().publishedAt(now).build())
+                .toList();
+        try {
+            topic.publish(objectMapper.writeValueAsString(stamped));
+            publishedCounter.increment(stamped.size());
+        } catch (JsonProcessingException | RuntimeException e) {
+            // 다른 서버에는 전달되지 않지만 이 서버의 리스너는 처리
+            log.warn("예약 변경 이벤트 발행 실패: events={}", stamped.size(), e);
+            publishFailedCounter.increment(stamped.size());
+            enqueue(stamped);
+        }
+    }
+
+    private void receive(String message) {
+        List<ReservationChangeEvent> events;
+        try {
+            events = objectMapper.readValue(message, EVENTS_TYPE);
+        } catch (JsonProcessingException e) {
+            log.warn("예약 변경 이벤트 형식 오류: message={}", message, e);
+            return;
+        }
+        receivedCounter.increment(events.size());
+        enqueue(events);
+    }
+
+    private void enqueue(List<ReservationChangeEvent> events) {
+        try {
+            reservationChangeExecutor.execute(() -> dispatch(events));
+        } catch (TaskRejectedException e) {
+            droppedCounter.increment(events.size());
+            log.warn("예약 변경 이벤트 처리 대기 초과, 버림: events={}", events.size());
+        }
+    }
+
+    private void dispatch(List<ReservationChangeEvent> events) {
+        for (ReservationChangeEvent event : events) {
+            lagTimer.record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - event.getPublishedAt())));
+            for (Consumer<ReservationChangeEvent> listener : listeners) {
+                try {
+                    listener.accept(event);
+                } catch (RuntimeException e) {
+                    listenerFailedCounter.increment();
+                    log.warn("예약 변경 이벤트 처리 실패: type={}, crewId={}, date={}",
+                            event.getType(), event.getCrewId(), event.getDate(), e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.boardbuddies.boardbuddiesserver.service;
+
+import com.boardbuddies.boardbuddiesserver.config.ReservationProperties;
+import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationDayDetailResponse;
+import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationMemberResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 날짜별 예약 상세 스냅샷 캐시 (서버 메모리)
+ *
+ * 예약 오픈 직후 같은 크루-날짜의 상세 조회가 몰리므로, 사용자와 무관한 부분(명단, 인원, 오픈 상태)을 크루-날짜별로 잠깐 보관합니다.
+ * 예약 변경 이벤트(모든 서버)를 받으면 해당 크루-날짜를 바로 지우고, 이벤트를 놓치더라도 짧은 유지 시간이 지나면 다시 조회합니다.
+ * 같은 크루-날짜의 동시 조회는 하나만 DB를 조회하고 나머지는 그 결과를 기다립니다.
+ * 사용자별 항목(my_reservation)은 스냅샷의 사용자별 예약으로 요청마다 채웁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationDayDetailCache {
+
+    private final ReservationProperties reservationProperties;
+    private final ReservationChangeBus reservationChangeBus;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 크루-날짜("{crewId}:{date}")별 스냅샷 (조회 중이면 완료 전 상태)
+     */
+    private final Map<String, CompletableFuture<Snapshot>> snapshots = new ConcurrentHashMap<>();
+
+    private Counter hitCounter;
+    private Counter missCounter;
+
+    @PostConstruct
+    void init() {
+        hitCounter = Counter.builder("reservation.detail.cache")
+                .tag("result", "hit")
+                .description("예약 상세 스냅샷 캐시 조회 수 (조회 중인 스냅샷 대기 포함)")
+                .register(meterRegistry);
+        missCounter = Counter.builder("reservation.detail.cache")
+                .tag("result", "miss")
+                .description("예약 상세 스냅샷 캐시 조회 수 (조회 중인 스냅샷 대기 포함)")
+                .register(meterRegistry);
+
+        reservationChangeBus.addListener(event -> invalidate(event.getCrewId(), event.getDate()));
+    }
+
+    /**
+     * 스냅샷 조회 (없거나 만료되었으면 loader로 조회, 동시 조회는 하나로 묶음)
+     */
+    public Snapshot get(Long crewId, LocalDate date, Supplier<Snapshot> loader) {
+        if (!reservationProperties.getDetailCache().isEnabled()) {
+            return loader.get();
+        }
+
+        String key = key(crewId, date);
+        while (true) {
+            CompletableFuture<Snapshot> cached = snapshots.get(key);
+            if (cached != null) {
+                if (!cached.isDone() || !isExpired(cached.getNow(null))) {
+                    hitCounter.increment();
+                    return join(cached);
+                }
+                snapshots.remove(key, cached);
+            }
+
+            CompletableFuture<Snapshot> loading = new CompletableFuture<>();
+            if (snapshots.putIfAbsent(key, loading) != null) {
+                // 다른 요청이 먼저 조회 시작
+                continue;
+            }
+
+            missCounter.increment();
+            try {
+                loading.complete(loader.get());
+            } catch (RuntimeException e) {
+                snapshots.remove(key, loading);
+                loading.completeExceptionally(e);
+                throw e;
+            }
+            return loading.join();
+        }
+    }
+
+    /**
+     * 크루-날짜 스냅샷 삭제 (조회 중인 스냅샷은 기다리던 요청에만 전달되고 보관되지 않음)
+     */
+    public void invalidate(Long crewId, LocalDate date) {
+        snapshots.remove(key(crewId, date));
+    }
+
+    /**
+     * 만료된 스냅샷 정리 (조회가 끊긴 크루-날짜가 메모리에 남지 않도록)
+     */
+    @Scheduled(fixedDelayString = "${reservation.detail-cache.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        snapshots.entrySet().removeIf(entry -> entry.getValue().isDone()
+                && (entry.getValue().isCompletedExceptionally() || isExpired(entry.getValue().getNow(null))));
+    }
+
+    private boolean isExpired(Snapshot snapshot) {
+        return snapshot == null
+                || System.currentTimeMillis() - snapshot.getLoadedAt() > reservationProperties.getDetailCache().getTtlMillis();
+    }
+
+    private Snapshot join(CompletableFuture<Snapshot> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private String key(Long crewId, LocalDate date) {
+        return crewId + ":" + date;
+    }
+
+    /**
+     * 크루-날짜별 상세 스냅샷 (모든 사용자 공통)
+     */
+    @Getter
+    @Builder
+    public static class Snapshot {
+        private final String status;
+        private final int booked;
+        private final int waitingCount;
+        private final int capacity;
+        private final List<ReservationMemberResponse> memberList;
+        private final List<ReservationMemberResponse> waitingMemberList;
+
+        /**
+         * 사용자 ID별 내 예약 (일반 예약 또는 본인이 예약한 게스트 예약, 신청 순 마지막 예약)
+         */
+        private final Map<Long, ReservationDayDetailResponse.MyReservationInfo> myReservations;
+
+        private final long loadedAt;
+
+        /**
+         * 사용자별 응답 생성
+         */
+        public ReservationDayDetailResponse toResponse(LocalDate date, Long userId) {
+            return ReservationDayDetailResponse.builder()
+                    .date(date)
+                    .status(status)
+                    .booked(booked)
+                    .waitingCount(waitingCount)
+                    .capacity(capacity)
+                    .memberList(memberList)
+                    .waitingMemberList(waitingMemberList)
+                    .myReservation(myReservations.get(userId))
+                    .build();
+        }
+    }
+}
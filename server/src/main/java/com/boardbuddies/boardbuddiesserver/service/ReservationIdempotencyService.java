@@ -0,0 +1,200 @@
+package com.boardbuddies.boardbuddiesserver.service;
+
+import com.boardbuddies.boardbuddiesserver.config.ReservationProperties;
+import com.boardbuddies.boardbuddiesserver.exception.IdempotencyConflictException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RMap;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Supplier;
+
+/**
+ * 예약/취소 요청 멱등 처리 (Idempotency-Key)
+ *
+ * 같은 키로 다시 들어온 요청은 처리하지 않고 처음 요청의 응답을 그대로 돌려줍니다.
+ * 응답 본문은 직렬화된 JSON 그대로 보관/반환하므로, 재시도 요청은 DB와 락을 전혀 거치지 않습니다.
+ * 키는 사용자/작업별로 구분하며, 같은 키로 내용이 다른 요청을 보내면 409로 거절합니다.
+ *
+ * 처리 중 표시는 짧게 유지하되(서버가 처리 도중 종료되면 곧 재시도 가능), 처리가 길어져도 만료되지 않도록
+ * 처리하는 동안 유지 시간의 1/3 간격으로 연장합니다.
+ *
+ * key: "idempotency:{userId}:{operation}:{Idempotency-Key}" (hash: status, fingerprint, code, body)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationIdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final String PENDING = "PENDING";
+    private static final String DONE = "DONE";
+
+    /**
+     * 처리 시작 (처음 들어온 키만 처리 중으로 표시)
+     * ARGV[1]: 요청 지문, ARGV[2]: 처리 중 표시 유지 시간 (초)
+     * 반환: {"NEW"} 또는 {상태, 요청 지문, 응답 코드, 응답 본문}
+     */
+    private static final String BEGIN_SCRIPT = """
+            local status = redis.call('hget', KEYS[1], 'status')
+            if not status then
+                redis.call('hset', KEYS[1], 'status', 'PENDING', 'fingerprint', ARGV[1])
+                redis.call('expire', KEYS[1], ARGV[2])
+                return {'NEW'}
+            end
+            return {status,
+                    redis.call('hget', KEYS[1], 'fingerprint') or '',
+                    redis.call('hget', KEYS[1], 'code') or '',
+                    redis.call('hget', KEYS[1], 'body') or ''}
+            """;
+
+    /**
+     * 처리 중 표시 연장 (처리 중일 때만)
+     * ARGV[1]: 처리 중 표시 유지 시간 (초)
+     */
+    private static final String REFRESH_SCRIPT = """
+            if redis.call('hget', KEYS[1], 'status') ~= 'PENDING' then return 0 end
+            return redis.call('expire', KEYS[1], ARGV[1])
+            """;
+
+    private final RedissonClient redissonClient;
+    private final ReservationProperties reservationProperties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final TaskScheduler taskScheduler;
+
+    private Counter replayedCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        replayedCounter = Counter.builder("reservation.idempotency.replayed")
+                .description("Idempotency-Key 재시도로 저장된 응답을 돌려준 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 멱등 키 기준으로 요청 처리
+     * 키가 없으면 그대로 처리하고, 처리된 키면 저장된 응답을 반환합니다.
+     * 성공(2xx) 응답만 저장하며, 실패하면 키를 지워 같은 키로 다시 시도할 수 있게 합니다.
+     *
+     * @param operation 작업 구분 (예: "reserve:{crewId}")
+     * @param request   요청 본문 (같은 키로 다른 요청을 보냈는지 확인용)
+     */
+    public ResponseEntity<?> execute(Long userId, String operation, String idempotencyKey, Object request,
+            Supplier<? extends ResponseEntity<?>> action) {
+        if (idempotencyKey == null) {
+            return action.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new RuntimeException("Idempotency-Key 형식이 올바르지 않습니다.");
+        }
+
+        String key = KEY_PREFIX + userId + ":" + operation + ":" + idempotencyKey;
+        String fingerprint = fingerprint(operation, request);
+
+        List<Object> stored = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                BEGIN_SCRIPT,
+                RScript.ReturnType.MULTI,
+                List.<Object>of(key),
+                fingerprint,
+                String.valueOf(reservationProperties.getIdempotency().getPendingTtlSeconds()));
+
+        if (stored.size() > 1) {
+            if (!fingerprint.equals(stored.get(1))) {
+                throw new IdempotencyConflictException("같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다.");
+            }
+            if (PENDING.equals(stored.get(0))) {
+                throw new IdempotencyConflictException("같은 Idempotency-Key의 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+            }
+            replayedCounter.increment();
+            log.debug("멱등 요청 재사용: userId={}, operation={}", userId, operation);
+            return ResponseEntity.status(Integer.parseInt((String) stored.get(2)))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(REPLAYED_HEADER, "true")
+                    .body(stored.get(3));
+        }
+
+        RMap<String, String> entry = redissonClient.getMap(key, StringCodec.INSTANCE);
+        ScheduledFuture<?> heartbeat = startHeartbeat(key);
+        ResponseEntity<?> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            entry.delete();
+            throw e;
+        } finally {
+            heartbeat.cancel(false);
+        }
+
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            entry.delete();
+            return response;
+        }
+
+        try {
+            entry.putAll(Map.of(
+                    "status", DONE,
+                    "code", String.valueOf(response.getStatusCode().value()),
+                    "body", objectMapper.writeValueAsString(response.getBody())));
+            entry.expire(Duration.ofSeconds(reservationProperties.getIdempotency().getTtlSeconds()));
+        } catch (JsonProcessingException e) {
+            // 처리는 완료되었으므로 응답은 그대로 반환 (재시도 시 중복 판정으로 처리)
+            log.warn("멱등 응답 저장 실패: userId={}, operation={}", userId, operation, e);
+            entry.delete();
+        }
+        return response;
+    }
+
+    /**
+     * 처리하는 동안 처리 중 표시 연장
+     */
+    private ScheduledFuture<?> startHeartbeat(String key) {
+        long pendingTtlSeconds = reservationProperties.getIdempotency().getPendingTtlSeconds();
+        Duration interval = Duration.ofMillis(Math.max(1000, pendingTtlSeconds * 1000 / 3));
+
+        return taskScheduler.scheduleAtFixedRate(() -> {
+            try {
+                redissonClient.getScript(StringCodec.INSTANCE).eval(
+                        RScript.Mode.READ_WRITE,
+                        REFRESH_SCRIPT,
+                        RScript.ReturnType.INTEGER,
+                        List.<Object>of(key),
+                        String.valueOf(pendingTtlSeconds));
+            } catch (RuntimeException e) {
+                log.warn("멱등 처리 중 표시 연장 실패: key={}", key, e);
+            }
+        }, Instant.now().plus(interval), interval);
+    }
+
+    private String fingerprint(String operation, Object request) {
+        try {
+            String json = operation + ":" + objectMapper.writeValueAsString(request);
+            return DigestUtils.md5DigestAsHex(json.getBytes(StandardCharsets.UTF_8));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("요청을 처리할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.boardbuddies.boardbuddiesserver.service;
+
+import com.boardbuddies.boardbuddiesserver.config.ReservationProperties;
+import com.boardbuddies.boardbuddiesserver.domain.Crew;
+import com.boardbuddies.boardbuddiesserver.domain.Guest;
+import com.boardbuddies.boardbuddiesserver.domain.Reservation;
+import com.boardbuddies.boardbuddiesserver.domain.ReservationStatus;
+import com.boardbuddies.boardbuddiesserver.domain.User;
+import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationMultiResponse;
+import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationOutcome;
+import com.boardbuddies.boardbuddiesserver.repository.CrewRepository;
+import com.boardbuddies.boardbuddiesserver.repository.GuestRepository;
+import com.boardbuddies.boardbuddiesserver.repository.ReservationRepository;
+import com.boardbuddies.boardbuddiesserver.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 시즌방 추첨 배정
+ *
+ * 추첨 모드 크루는 예약 오픈 후 접수 시간 동안 들어온 신청을 DB에 쓰지 않고 Redis에 접수만 해 두었다가,
+ * 접수 시간이 끝나면 무작위로 섞어 수용 인원만큼 확정하고 나머지는 섞인 순서대로 대기에 올려 한 번에 저장합니다.
+ * 락 경쟁과 재시도 횟수가 아니라 접수 여부만으로 기회가 정해집니다.
+ *
+ * key: "lottery:reservation:{crewId}:{date}" (hash: 예약자 -> 신청 사용자 ID, "#drawn" = 추첨 완료)
+ * key: "lottery:pending" (sorted set: "{crewId}:{date}", score = 접수 마감 시각)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationLottery {
+
+    /**
+     * 추첨 접수
+     * ARGV[1]: 예약자, ARGV[2]: 신청 사용자 ID, ARGV[3]: 접수 시간 여부 (1/0), ARGV[4]: TTL (초)
+     * 반환: -1 (접수 대상 아님), 0 (접수), 1 (중복)
+     */
+    private static final String ENTER_SCRIPT = """
+            if redis.call('hexists', KEYS[1], '#drawn') == 1 then return -1 end
+            if ARGV[3] == '0' and redis.call('exists', KEYS[1]) == 0 then return -1 end
+            if redis.call('hsetnx', KEYS[1], ARGV[1], ARGV[2]) == 0 then return 1 end
+            redis.call('expire', KEYS[1], ARGV[4])
+            return 0
+            """;
+
+    /**
+     * 접수 마감 (추첨 완료 표시 후 접수 목록 반환, 이미 마감된 경우 빈 목록)
+     * ARGV[1]: TTL (초)
+     */
+    private static final String CLOSE_SCRIPT = """
+            if redis.call('hexists', KEYS[1], '#drawn') == 1 then return {} end
+            local entries = redis.call('hgetall', KEYS[1])
+            redis.call('hset', KEYS[1], '#drawn', '1')
+            redis.call('expire', KEYS[1], ARGV[1])
+            return entries
+            """;
+
+    private static final String KEY_PREFIX = "lottery:reservation:";
+    private static final String PENDING_KEY = "lottery:pending";
+    private static final String DRAWN_FIELD = "#drawn";
+
+    /**
+     * 접수 마감 후 추첨 전까지 늦게 도착한 신청도 접수하는 유예 시간 (초)
+     */
+    private static final long LATE_ENTRY_GRACE_SECONDS = 60;
+
+    private final RedissonClient redissonClient;
+    private final CrewRepository crewRepository;
+    private final UserRepository userRepository;
+    private final GuestRepository guestRepository;
+    private final ReservationRepository reservationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ReservationProperties reservationProperties;
+    private final ReservationSeatCounter reservationSeatCounter;
+    private final ReservationWaitlist reservationWaitlist;
+    private final CrewDayStatsService crewDayStatsService;
+
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * 추첨 접수
+     * 추첨 대상이 아니면 null을 반환하며, 이 경우 기존 선착순 처리로 진행합니다.
+     *
+     * @param openDateTime 해당 날짜의 예약 오픈 시각
+     */
+    public ReservationMultiResponse.ReservationResult enter(User user, Crew crew, LocalDate date, Guest guest,
+            LocalDateTime openDateTime) {
+        if (!crew.isLotteryEnabled() || openDateTime == null) {
+            return null;
+        }
+
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        LocalDateTime closeDateTime = openDateTime.plusSeconds(crew.getLotteryWindowSeconds());
+        if (now.isBefore(openDateTime) || !now.isBefore(closeDateTime.plusSeconds(LATE_ENTRY_GRACE_SECONDS))) {
+            return null;
+        }
+        boolean collecting = now.isBefore(closeDateTime);
+
+        String key = lotteryKey(crew.getId(), date);
+        Long result = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                ENTER_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                List.<Object>of(key),
+                ReservationSeatCounter.holderOf(user, guest),
+                String.valueOf(user.getId()),
+                collecting ? "1" : "0",
+                String.valueOf(ttlSeconds(date)));
+
+        if (result == -1) {
+            return null;
+        }
+        if (result == 0) {
+            // 추첨 대기 목록 등록 (마감 시각 기준)
+            long closeAt = closeDateTime.atZone(ZoneId.of("Asia/Seoul")).toInstant().toEpochMilli();
+            pending().tryAdd(closeAt, crew.getId() + ":" + date);
+        }
+
+        return ReservationMultiResponse.ReservationResult.of(date,
+                result == 0 ? ReservationOutcome.ENTERED : ReservationOutcome.DUPLICATED);
+    }
+
+    /**
+     * 접수가 마감된 크루-날짜 추첨
+     * 여러 서버가 동시에 실행해도 대기 목록에서 먼저 꺼낸 서버만 추첨합니다.
+     */
+    @Scheduled(fixedDelayString = "${reservation.lottery.draw-interval-ms:1000}")
+    public void drawDue() {
+        RScoredSortedSet<String> pending = pending();
+        long now = System.currentTimeMillis();
+
+        for (String member : pending.valueRange(0, true, now, true)) {
+            if (!pending.remove(member)) {
+                continue;
+            }
+
+            int separator = member.indexOf(':');
+            Long crewId = Long.valueOf(member.substring(0, separator));
+            LocalDate date = LocalDate.parse(member.substring(separator + 1));
+
+            try {
+                crewRepository.findById(crewId).ifPresent(crew -> draw(crew, date));
+            } catch (RuntimeException e) {
+                log.error("추첨 실패, 재시도 예약: crewId={}, date={}", crewId, date, e);
+                pending.add(now + TimeUnit.SECONDS.toMillis(5), member);
+            }
+        }
+    }
+
+    /**
+     * 추첨 및 일괄 저장
+     * 선착순 요청과 섞이지 않도록 해당 날짜 예약 락을 잡은 상태에서 수행합니다.
+     */
+    public void draw(Crew crew, LocalDate date) {
+        RLock lock = redissonClient.getLock("lock:reservation:" + crew.getId() + ":" + date);
+
+        try {
+            boolean available = lock.tryLock(5, 30, TimeUnit.SECONDS);
+            if (!available) {
+                throw new RuntimeException("접속량이 많아 처리가 지연되고 있습니다. 잠시 후 다시 시도해주세요.");
+            }
+
+            List<Object> flat = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                    RScript.Mode.READ_WRITE,
+                    CLOSE_SCRIPT,
+                    RScript.ReturnType.MULTI,
+                    List.<Object>of(lotteryKey(crew.getId(), date)),
+                    String.valueOf(ttlSeconds(date)));
+
+            List<String[]> entries = new ArrayList<>();
+            for (int i = 0; i + 1 < flat.size(); i += 2) {
+                String holder = String.valueOf(flat.get(i));
+                if (!DRAWN_FIELD.equals(holder)) {
+                    entries.add(new String[] { holder, String.valueOf(flat.get(i + 1)) });
+                }
+            }
+            if (entries.isEmpty()) {
+                return;
+            }
+
+            try {
+                int saved = transactionTemplate.execute(status -> allocate(crew, date, entries));
+                log.info("추첨 배정 완료: crewId={}, date={}, entries={}, saved={}", crew.getId(), date,
+                        entries.size(), saved);
+            } catch (RuntimeException e) {
+                // 접수 목록은 그대로 두고 다시 추첨할 수 있도록 마감 표시 해제
+                redissonClient.getMap(lotteryKey(crew.getId(), date), StringCodec.INSTANCE).fastRemove(DRAWN_FIELD);
+                throw e;
+            }
+
+            // 좌석 카운터 재구성 (커밋 후 DB 기준)
+            if (reservationProperties.getEngine() == ReservationProperties.Engine.COUNTER) {
+                reservationSeatCounter.rebuild(crew.getId(), date);
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // 인터럽트 상태 복구
+            throw new RuntimeException("서버 오류가 발생했습니다.");
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private int allocate(Crew crew, LocalDate date, List<String[]> entries) {
+        // 1. 기존 예약 (중복 제외 및 잔여 좌석 계산)
+        List<Reservation> existing = reservationRepository.findByCrewAndDate(crew, date);
+        Set<String> holders = existing.stream()
+                .map(r -> ReservationSeatCounter.holderOf(r.getUser(), r.getGuest()))
+                .collect(Collectors.toCollection(HashSet::new));
+
+        // 2. 신청자/게스트 일괄 조회
+        Map<Long, User> users = userRepository.findAllById(entries.stream()
+                .map(entry -> Long.valueOf(entry[1]))
+                .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<Long, Guest> guests = guestRepository.findAllById(entries.stream()
+                .filter(entry -> entry[0].startsWith("g:"))
+                .map(entry -> Long.valueOf(entry[0].substring(2)))
+                .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Guest::getId, Function.identity()));
+
+        // 3. 무작위 순서로 확정/대기 배정 (대기 순번도 섞인 순서 그대로)
+        Collections.shuffle(entries, random);
+
+        long remaining = crew.getIsCapacityLimited() ? crew.getDailyCapacity() - existing.size() : Long.MAX_VALUE;
+        List<Reservation> reservations = new ArrayList<>();
+
+        for (String[] entry : entries) {
+            User user = users.get(Long.valueOf(entry[1]));
+            Guest guest = entry[0].startsWith("g:") ? guests.get(Long.valueOf(entry[0].substring(2))) : null;
+            if (user == null || (entry[0].startsWith("g:") && guest == null) || !holders.add(entry[0])) {
+                continue;
+            }
+
+            ReservationStatus status = remaining > 0 ? ReservationStatus.CONFIRMED : ReservationStatus.WAITING;
+            remaining--;
+
+            reservations.add(Reservation.builder()
+                    .user(user)
+                    .crew(crew)
+                    .guest(guest)
+                    .date(date)
+                    .status(status)
+                    .build());
+        }
+
+        // 4. 일괄 저장
+        reservationRepository.saveAll(reservations);
+        crewDayStatsService.reservedAll(reservations);
+        reservationWaitlist.rebuildAfterCommit(crew, List.of(date));
+        return reservations.size();
+    }
+
+    private RScoredSortedSet<String> pending() {
+        return redissonClient.getScoredSortedSet(PENDING_KEY, StringCodec.INSTANCE);
+    }
+
+    private String lotteryKey(Long crewId, LocalDate date) {
+        return KEY_PREFIX + crewId + ":" + date;
+    }
+
+    /**
+     * 접수 목록 만료 시간 (예약 마감 다음날까지 유지, 최소 1시간)
+     */
+    private long ttlSeconds(LocalDate date) {
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        long seconds = Duration.between(now, date.plusDays(2).atStartOfDay()).getSeconds();
+        return Math.max(seconds, 3600);
+    }
+}
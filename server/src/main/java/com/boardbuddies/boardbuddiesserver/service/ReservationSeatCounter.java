@@ -0,0 +1,392 @@
+package com.boardbuddies.boardbuddiesserver.service;
+
+import com.boardbuddies.boardbuddiesserver.config.ReservationProperties;
+import com.boardbuddies.boardbuddiesserver.domain.Crew;
+import com.boardbuddies.boardbuddiesserver.domain.Guest;
+import com.boardbuddies.boardbuddiesserver.domain.ReservationStatus;
+import com.boardbuddies.boardbuddiesserver.domain.User;
+import com.boardbuddies.boardbuddiesserver.dto.reservation.CrewDayReservationCount;
+import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationHolder;
+import com.boardbuddies.boardbuddiesserver.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 시즌방 좌석 카운터 (Redis)
+ *
+ * 크루-날짜별 확정/대기 인원과 예약자 목록을 Redis에 유지하고,
+ * 확정/대기 판정을 Lua 스크립트 한 번으로 원자적으로 처리합니다.
+ * DB가 원본이며, 카운터는 최초 접근 시 DB에서 적재되고 정합성 복구 작업으로 주기적으로 재구성됩니다.
+ *
+ * 중복 판정은 락 엔진(DB 조회)과 같습니다.
+ * - 게스트 예약: 같은 크루-날짜에 같은 게스트 예약이 있으면 중복
+ * - 일반 예약: 같은 크루-날짜에 본인이 신청한 예약(본인 예약, 본인이 신청한 게스트 예약)이 하나라도 있으면 중복
+ *
+ * 획득은 락 없이 처리하므로, 재구성(DB 스냅샷 -> 덮어쓰기) 사이에 획득한 좌석이 지워지지 않도록
+ * 획득한 좌석을 진행 중 목록에 일정 시간(reservation.counter.in-flight-seconds) 보관하고, 재구성 시 스냅샷에 없는 항목은 유지합니다.
+ * 재구성끼리, 그리고 최초 적재/추첨 배정과는 크루-날짜 예약 락으로 직렬화합니다.
+ *
+ * key: "seat:reservation:{crewId}:{date}" (hash: confirmed, waiting, o:{userId} = 신청자별 예약 수)
+ * key: "seat:reservation:{crewId}:{date}:holders" (set: u:{userId}, g:{guestId})
+ * key: "seat:reservation:{crewId}:{date}:inflight" (sorted set: "{예약자}|o:{userId}|{0 확정/1 대기}", score = 획득 시각)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationSeatCounter {
+
+    /**
+     * 좌석 획득
+     * KEYS[1]: 카운터, KEYS[2]: 예약자 목록, KEYS[3]: 진행 중 목록
+     * ARGV[1]: 예약자, ARGV[2]: 신청자 필드, ARGV[3]: 수용 인원 (-1이면 제한 없음),
+     * ARGV[4]: 현재 시각 (밀리초), ARGV[5]: 진행 중 목록 보관 기준 시각 (밀리초), ARGV[6]: TTL (초)
+     * 반환: -1 (미적재), 0 (확정), 1 (대기), 2 (중복)
+     */
+    private static final String ACQUIRE_SCRIPT = """
+            if redis.call('exists', KEYS[1]) == 0 then return -1 end
+            if string.sub(ARGV[1], 1, 2) == 'u:' and tonumber(redis.call('hget', KEYS[1], ARGV[2]) or '0') > 0 then
+                return 2
+            end
+            if redis.call('sadd', KEYS[2], ARGV[1]) == 0 then return 2 end
+            redis.call('hincrby', KEYS[1], ARGV[2], 1)
+            local confirmed = tonumber(redis.call('hget', KEYS[1], 'confirmed') or '0')
+            local waiting = tonumber(redis.call('hget', KEYS[1], 'waiting') or '0')
+            local capacity = tonumber(ARGV[3])
+            local decision = 0
+            if capacity >= 0 and confirmed + waiting >= capacity then
+                redis.call('hincrby', KEYS[1], 'waiting', 1)
+                decision = 1
+            else
+                redis.call('hincrby', KEYS[1], 'confirmed', 1)
+            end
+            redis.call('zremrangebyscore', KEYS[3], '-inf', '(' .. ARGV[5])
+            redis.call('zadd', KEYS[3], ARGV[4], ARGV[1] .. '|' .. ARGV[2] .. '|' .. decision)
+            redis.call('expire', KEYS[3], ARGV[6])
+            return decision
+            """;
+
+    /**
+     * 좌석 반납
+     * ARGV[1]: 예약자, ARGV[2]: 신청자 필드, ARGV[3]: 확정 좌석 여부 (1/0), ARGV[4]: 대기자 승격 여부 (1/0)
+     */
+    private static final String RELEASE_SCRIPT = """
+            redis.call('zrem', KEYS[3], ARGV[1] .. '|' .. ARGV[2] .. '|0', ARGV[1] .. '|' .. ARGV[2] .. '|1')
+            if redis.call('exists', KEYS[1]) == 0 then return 0 end
+            if redis.call('srem', KEYS[2], ARGV[1]) == 0 then return 0 end
+            if redis.call('hincrby', KEYS[1], ARGV[2], -1) <= 0 then
+                redis.call('hdel', KEYS[1], ARGV[2])
+            end
+            if ARGV[3] == '1' and ARGV[4] == '0' then
+                redis.call('hincrby', KEYS[1], 'confirmed', -1)
+            else
+                redis.call('hincrby', KEYS[1], 'waiting', -1)
+            end
+            return 1
+            """;
+
+    /**
+     * 카운터 재구성 (DB 스냅샷 + 스냅샷에 없는 진행 중 획득)
+     * ARGV[1]: TTL (초), ARGV[2]: 진행 중 목록 보관 기준 시각 (밀리초), ARGV[3..]: "{예약자}|{신청자 필드}|{0/1}"
+     * 반환: 확정 + 대기 인원
+     */
+    private static final String LOAD_SCRIPT = """
+            redis.call('zremrangebyscore', KEYS[3], '-inf', '(' .. ARGV[2])
+            redis.call('del', KEYS[1], KEYS[2])
+            local confirmed, waiting = 0, 0
+            local function add(entry)
+                local holder, owner, decision = string.match(entry, '^(.-)|(.-)|(%d)$')
+                if redis.call('sadd', KEYS[2], holder) == 0 then return end
+                redis.call('hincrby', KEYS[1], owner, 1)
+                if decision == '0' then confirmed = confirmed + 1 else waiting = waiting + 1 end
+            end
+            for i = 3, #ARGV do add(ARGV[i]) end
+            for _, entry in ipairs(redis.call('zrange', KEYS[3], 0, -1)) do add(entry) end
+            redis.call('hset', KEYS[1], 'confirmed', confirmed, 'waiting', waiting)
+            redis.call('expire', KEYS[1], ARGV[1])
+            redis.call('expire', KEYS[2], ARGV[1])
+            redis.call('expire', KEYS[3], ARGV[1])
+            return confirmed + waiting
+            """;
+
+    private static final String KEY_PREFIX = "seat:reservation:";
+    private static final String HOLDERS_SUFFIX = ":holders";
+    private static final String IN_FLIGHT_SUFFIX = ":inflight";
+
+    private final RedissonClient redissonClient;
+    private final ReservationRepository reservationRepository;
+    private final ReservationProperties reservationProperties;
+
+    /**
+     * 좌석 판정 결과
+     */
+    public enum Decision {
+        CONFIRMED,
+        WAITING,
+        DUPLICATED,
+
+        /**
+         * 카운터 적재 락 대기 초과 (잠시 후 재시도)
+         */
+        BUSY
+    }
+
+    /**
+     * 예약자 식별값 (게스트 예약은 게스트 기준, 일반 예약은 사용자 기준)
+     */
+    public static String holderOf(User user, Guest guest) {
+        return holderOf(user.getId(), guest != null ? guest.getId() : null);
+    }
+
+    private static String holderOf(Long userId, Long guestId) {
+        return guestId != null ? "g:" + guestId : "u:" + userId;
+    }
+
+    /**
+     * 신청자 필드 (게스트 예약도 신청한 사용자 기준)
+     */
+    private static String ownerOf(Long userId) {
+        return "o:" + userId;
+    }
+
+    /**
+     * 좌석 획득 (확정/대기/중복 판정)
+     * 카운터가 없으면 DB에서 적재한 뒤 다시 시도하고, 적재 락을 얻지 못하면 BUSY를 반환합니다.
+     *
+     * @param user  신청한 사용자
+     * @param guest 게스트 예약인 경우 게스트 (일반 예약은 null)
+     */
+    public Decision acquire(Crew crew, LocalDate date, User user, Guest guest) {
+        String capacity = crew.getIsCapacityLimited() ? String.valueOf(crew.getDailyCapacity()) : "-1";
+        long now = System.currentTimeMillis();
+        Object[] args = {
+                holderOf(user, guest),
+                ownerOf(user.getId()),
+                capacity,
+                String.valueOf(now),
+                String.valueOf(inFlightCutoff(now)),
+                String.valueOf(ttlSeconds(date))
+        };
+
+        Long result = eval(ACQUIRE_SCRIPT, crew.getId(), date, args);
+        if (result == -1) {
+            if (!loadIfAbsent(crew.getId(), date)) {
+                return Decision.BUSY;
+            }
+            result = eval(ACQUIRE_SCRIPT, crew.getId(), date, args);
+        }
+
+        if (result == 0) {
+            return Decision.CONFIRMED;
+        } else if (result == 1) {
+            return Decision.WAITING;
+        } else if (result == 2) {
+            return Decision.DUPLICATED;
+        }
+        // 적재 직후 재구성 락 실패로 다시 삭제된 경우
+        return Decision.BUSY;
+    }
+
+    /**
+     * 좌석 반납 (예약 취소 또는 저장 실패 시 보상)
+     *
+     * @param user         예약을 신청한 사용자
+     * @param guest        게스트 예약인 경우 게스트 (일반 예약은 null)
+     * @param wasConfirmed 반납하는 좌석이 확정 좌석이었는지 여부
+     * @param promoted     반납과 동시에 대기자가 확정으로 승격되었는지 여부
+     */
+    public void release(Long crewId, LocalDate date, User user, Guest guest, boolean wasConfirmed,
+            boolean promoted) {
+        eval(RELEASE_SCRIPT, crewId, date, holderOf(user, guest), ownerOf(user.getId()),
+                wasConfirmed ? "1" : "0", promoted ? "1" : "0");
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 좌석 반납
+     */
+    public void releaseAfterCommit(Long crewId, LocalDate date, User user, Guest guest, boolean wasConfirmed,
+            boolean promoted) {
+        afterCommit(() -> release(crewId, date, user, guest, wasConfirmed, promoted));
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 해당 날짜들의 카운터를 DB 기준으로 재구성
+     */
+    public void rebuildAfterCommit(Crew crew, List<LocalDate> dates) {
+        Long crewId = crew.getId();
+        afterCommit(() -> dates.forEach(date -> rebuild(crewId, date)));
+    }
+
+    /**
+     * 카운터 재구성 (DB 기준, 크루-날짜 예약 락 안에서 수행)
+     * 락을 얻지 못하면 카운터를 삭제해 다음 획득 시 DB에서 다시 적재합니다.
+     */
+    public void rebuild(Long crewId, LocalDate date) {
+        RLock lock = lockOf(crewId, date);
+        boolean locked = false;
+
+        try {
+            locked = lock.tryLock(5, 10, TimeUnit.SECONDS);
+            if (!locked) {
+                log.warn("좌석 카운터 재구성 락 획득 실패, 카운터 삭제: crewId={}, date={}", crewId, date);
+                invalidate(crewId, date);
+                return;
+            }
+            write(crewId, date, reservationRepository.findHoldersByCrewIdAndDate(crewId, date));
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            invalidate(crewId, date);
+        } finally {
+            if (locked && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 좌석 카운터 정합성 복구
+     * 오늘 이후 예약이 있는 크루-날짜(집계 쿼리)를 하나씩 재구성하고, 예약이 없는 카운터는 삭제합니다.
+     * 삭제된 카운터는 다음 획득 시 DB와 진행 중 목록에서 다시 적재됩니다.
+     */
+    @Scheduled(cron = "${reservation.counter.reconcile-cron:0 0 4 * * *}", zone = "Asia/Seoul")
+    public void reconcile() {
+        if (reservationProperties.getEngine() != ReservationProperties.Engine.COUNTER) {
+            return;
+        }
+
+        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+
+        List<CrewDayReservationCount> days = reservationRepository.findCrewDayCountsFrom(today);
+        Set<String> liveKeys = days.stream()
+                .map(day -> counterKey(day.getCrewId(), day.getDate()))
+                .collect(Collectors.toSet());
+
+        Set<String> staleKeys = new HashSet<>();
+        for (String key : redissonClient.getKeys().getKeysByPattern(KEY_PREFIX + "*")) {
+            if (!key.endsWith(HOLDERS_SUFFIX) && !key.endsWith(IN_FLIGHT_SUFFIX) && !liveKeys.contains(key)) {
+                staleKeys.add(key);
+                staleKeys.add(key + HOLDERS_SUFFIX);
+            }
+        }
+        if (!staleKeys.isEmpty()) {
+            redissonClient.getKeys().delete(staleKeys.toArray(new String[0]));
+        }
+
+        days.forEach(day -> rebuild(day.getCrewId(), day.getDate()));
+
+        log.info("좌석 카운터 정합성 복구 완료: rebuilt={}, removed={}", days.size(), staleKeys.size() / 2);
+    }
+
+    /**
+     * 카운터 최초 적재 (동시에 여러 요청이 적재하지 않도록 크루-날짜 예약 락으로 직렬화)
+     *
+     * @return 락 대기 시간 안에 적재(또는 다른 요청이 적재)했으면 true
+     */
+    private boolean loadIfAbsent(Long crewId, LocalDate date) {
+        RLock lock = lockOf(crewId, date);
+
+        try {
+            boolean available = lock.tryLock(5, 3, TimeUnit.SECONDS);
+            if (!available) {
+                log.warn("좌석 카운터 적재 락 획득 실패: crewId={}, date={}", crewId, date);
+                return false;
+            }
+
+            if (!redissonClient.getMap(counterKey(crewId, date), StringCodec.INSTANCE).isExists()) {
+                rebuild(crewId, date);
+            }
+            return true;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void write(Long crewId, LocalDate date, List<ReservationHolder> holders) {
+        List<Object> args = new ArrayList<>();
+        args.add(String.valueOf(ttlSeconds(date)));
+        args.add(String.valueOf(inFlightCutoff(System.currentTimeMillis())));
+        holders.forEach(h -> args.add(holderOf(h.getUserId(), h.getGuestId()) + "|" + ownerOf(h.getUserId())
+                + "|" + (h.getStatus() == ReservationStatus.CONFIRMED ? "0" : "1")));
+
+        eval(LOAD_SCRIPT, crewId, date, args.toArray());
+    }
+
+    private void invalidate(Long crewId, LocalDate date) {
+        // 진행 중 목록은 남겨 두어 다음 적재에 반영
+        String key = counterKey(crewId, date);
+        redissonClient.getKeys().delete(key, key + HOLDERS_SUFFIX);
+    }
+
+    private RLock lockOf(Long crewId, LocalDate date) {
+        return redissonClient.getLock("lock:reservation:" + crewId + ":" + date);
+    }
+
+    /**
+     * 진행 중 목록 보관 기준 시각 (이보다 오래된 획득은 커밋 또는 롤백이 끝난 것으로 간주)
+     */
+    private long inFlightCutoff(long now) {
+        return now - TimeUnit.SECONDS.toMillis(reservationProperties.getCounter().getInFlightSeconds());
+    }
+
+    private Long eval(String script, Long crewId, LocalDate date, Object... args) {
+        String key = counterKey(crewId, date);
+        return redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                script,
+                RScript.ReturnType.INTEGER,
+                Arrays.<Object>asList(key, key + HOLDERS_SUFFIX, key + IN_FLIGHT_SUFFIX),
+                args);
+    }
+
+    private String counterKey(Long crewId, LocalDate date) {
+        return KEY_PREFIX + crewId + ":" + date;
+    }
+
+    /**
+     * 카운터 만료 시간 (예약 마감 다음날까지 유지, 최소 1시간)
+     */
+    private long ttlSeconds(LocalDate date) {
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        long seconds = Duration.between(now, date.plusDays(2).atStartOfDay()).getSeconds();
+        return Math.max(seconds, 3600);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
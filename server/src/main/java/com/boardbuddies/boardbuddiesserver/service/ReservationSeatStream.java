@@ -0,0 +1,321 @@
+package com.boardbuddies.boardbuddiesserver.service;
+
+import com.boardbuddies.boardbuddiesserver.config.AuthContext;
+import com.boardbuddies.boardbuddiesserver.config.ReservationProperties;
+import com.boardbuddies.boardbuddiesserver.domain.Crew;
+import com.boardbuddies.boardbuddiesserver.domain.CrewDayStats;
+import com.boardbuddies.boardbuddiesserver.domain.CrewDayStatsId;
+import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationSeatEvent;
+import com.boardbuddies.boardbuddiesserver.repository.CrewDayStatsRepository;
+import com.boardbuddies.boardbuddiesserver.repository.CrewRepository;
+import com.boardbuddies.boardbuddiesserver.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 크루-날짜별 좌석 현황 실시간 전송 (Server-Sent Events)
+ *
+ * 예약 오픈 시각에 상세 조회를 반복 호출하는 대신, 구독한 크루-날짜의 확정/대기/정원을 변경될 때마다 받습니다.
+ * 예약 변경 이벤트(모든 서버)를 받으면 해당 크루-날짜를 변경 표시만 해두고, 주기적으로 변경된 크루-날짜마다 현황을 한 번 조회해 모든 구독자에게 보냅니다.
+ * 구독자 수와 관계없이 변경된 크루-날짜당 조회 1회이며, 오픈 직후 연속된 변경도 주기 단위로 묶입니다.
+ *
+ * 실제 전송은 전송 전용 풀(reservationStreamExecutor)에서 하고, 구독자별로 아직 보내지 못한 현황은 최신 것 하나만 남깁니다.
+ * 전송에 실패했거나 전송 한 건이 제한 시간(send-timeout-millis)을 넘긴 연결은 구독자에서 제외합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationSeatStream {
+
+    private static final String EVENT_NAME = "seats";
+
+    /**
+     * 연결 유지용 주석 (보내지 못한 현황이 있으면 현황이 대신 연결 유지)
+     */
+    private static final Object PING = new Object();
+
+    /**
+     * 연결 종료 (삭제된 크루)
+     */
+    private static final Object COMPLETE = new Object();
+
+    private final CrewDayStatsRepository crewDayStatsRepository;
+    private final CrewRepository crewRepository;
+    private final UserRepository userRepository;
+    private final ReservationProperties reservationProperties;
+    private final MeterRegistry meterRegistry;
+    private final ReservationChangeBus reservationChangeBus;
+    private final Executor reservationStreamExecutor;
+
+    /**
+     * 크루-날짜("{crewId}:{date}")별 구독자
+     */
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    /**
+     * 마지막 전송 이후 변경된 크루-날짜
+     */
+    private final Set<String> changedKeys = ConcurrentHashMap.newKeySet();
+
+    private Counter sentCounter;
+    private Counter droppedCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        sentCounter = Counter.builder("reservation.stream.sent")
+                .description("좌석 현황 이벤트 전송 수")
+                .register(meterRegistry);
+        droppedCounter = Counter.builder("reservation.stream.dropped")
+                .description("전송 실패, 전송 시간 초과, 전송 대기 초과로 끊은 연결 수")
+                .register(meterRegistry);
+        Gauge.builder("reservation.stream.subscribers", subscribers,
+                        map -> map.values().stream().mapToInt(Set::size).sum())
+                .description("좌석 현황 구독 연결 수")
+                .register(meterRegistry);
+
+        // 모든 서버의 예약 변경 수신 (구독자가 있는 크루-날짜만 변경 표시)
+        reservationChangeBus.addListener(event -> changed(key(event.getCrewId(), event.getDate())));
+    }
+
+    /**
+     * 구독 (연결 직후 현재 현황을 한 번 보냄)
+     */
+    public SseEmitter subscribe(Long userId, Long crewId, LocalDate date) {
+        if (userId == null || crewId == null || date == null) {
+            throw new IllegalArgumentException("User ID, Crew ID and date must not be null");
+        }
+
+        Crew crew = crewRepository.findById(crewId)
+                .orElseThrow(() -> new RuntimeException("크루를 찾을 수 없습니다."));
+        AuthContext auth = AuthContext.resolve(userId, userRepository);
+        if (!auth.isMemberOf(crew.getId())) {
+            throw new RuntimeException("해당 크루의 회원이 아닙니다.");
+        }
+
+        String key = key(crewId, date);
+        SseEmitter emitter = createEmitter(
+                Duration.ofSeconds(reservationProperties.getStream().getTimeoutSeconds()).toMillis());
+        Subscriber subscriber = new Subscriber(key, emitter);
+        Runnable remove = () -> unsubscribe(subscriber);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        subscribers.compute(key, (k, current) -> {
+            Set<Subscriber> target = current != null ? current : new CopyOnWriteArraySet<>();
+            target.add(subscriber);
+            return target;
+        });
+        subscriber.enqueue(load(crew, date));
+        return emitter;
+    }
+
+    /**
+     * 변경된 크루-날짜 현황 전송 (조회만 하고 전송은 전송 풀에 맡김)
+     */
+    @Scheduled(fixedDelayString = "${reservation.stream.flush-interval-ms:200}")
+    public void flush() {
+        Iterator<String> iterator = changedKeys.iterator();
+        while (iterator.hasNext()) {
+            String key = iterator.next();
+            iterator.remove();
+
+            Set<Subscriber> targets = subscribers.get(key);
+            if (targets == null || targets.isEmpty()) {
+                continue;
+            }
+
+            try {
+                String[] parts = key.split(":");
+                Crew crew = crewRepository.findById(Long.valueOf(parts[0])).orElse(null);
+                if (crew == null) {
+                    // 삭제된 크루: 연결 종료
+                    targets.forEach(subscriber -> subscriber.enqueue(COMPLETE));
+                    continue;
+                }
+                ReservationSeatEvent event = load(crew, LocalDate.parse(parts[1]));
+                targets.forEach(subscriber -> subscriber.enqueue(event));
+            } catch (RuntimeException e) {
+                log.warn("좌석 현황 전송 실패: key={}", key, e);
+            }
+        }
+    }
+
+    /**
+     * 연결 유지용 주석 전송, 전송이 멈춘 연결 정리
+     */
+    @Scheduled(fixedDelayString = "${reservation.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        long deadline = System.currentTimeMillis() - reservationProperties.getStream().getSendTimeoutMillis();
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> {
+            if (subscriber.isStuckSince(deadline)) {
+                log.debug("좌석 현황 전송 시간 초과, 연결 제외: key={}", subscriber.key);
+                drop(subscriber);
+                return;
+            }
+            subscriber.ping();
+        }));
+    }
+
+    /**
+     * 구독 연결 생성 (테스트에서 전송 결과를 확인할 수 있도록 분리)
+     */
+    SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private void changed(String key) {
+        if (subscribers.containsKey(key)) {
+            changedKeys.add(key);
+        }
+    }
+
+    private ReservationSeatEvent load(Crew crew, LocalDate date) {
+        CrewDayStats stats = crewDayStatsRepository.findById(new CrewDayStatsId(crew.getId(), date))
+                .orElse(null);
+        return ReservationSeatEvent.builder()
+                .date(date)
+                .booked(stats != null ? stats.getConfirmedCount() : 0)
+                .waitingCount(stats != null ? stats.getWaitingCount() : 0)
+                .capacity(crew.getDailyCapacity())
+                .build();
+    }
+
+    /**
+     * 구독자 제외 (전송 실패, 시간 초과, 전송 대기 초과)
+     * 전송 중인 스레드가 연결을 잡고 있을 수 있으므로 종료(complete)는 호출하지 않고, 연결 만료 또는 쓰기 실패로 정리되게 둡니다.
+     */
+    private void drop(Subscriber subscriber) {
+        if (subscriber.dropped.compareAndSet(false, true)) {
+            unsubscribe(subscriber);
+            droppedCounter.increment();
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.key, (k, targets) -> {
+            targets.remove(subscriber);
+            return targets.isEmpty() ? null : targets;
+        });
+    }
+
+    private String key(Long crewId, LocalDate date) {
+        return crewId + ":" + date;
+    }
+
+    /**
+     * 구독 연결별 전송 상태
+     * 보내지 못한 현황은 최신 것 하나만 남기고(pending), 전송 풀에는 연결당 작업을 하나만 올립니다(scheduled).
+     */
+    private final class Subscriber {
+
+        private final String key;
+        private final SseEmitter emitter;
+        private final AtomicReference<Object> pending = new AtomicReference<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean dropped = new AtomicBoolean();
+
+        /**
+         * 전송 시작 시각 (밀리초, 전송 중이 아니면 0)
+         */
+        private volatile long sendingSince;
+
+        private Subscriber(String key, SseEmitter emitter) {
+            this.key = key;
+            this.emitter = emitter;
+        }
+
+        /**
+         * 현황 전송 예약 (아직 보내지 못한 현황은 덮어씀)
+         */
+        void enqueue(Object payload) {
+            pending.set(payload);
+            schedule();
+        }
+
+        /**
+         * 연결 유지용 주석 전송 예약 (보낼 현황이 있으면 생략)
+         */
+        void ping() {
+            if (pending.compareAndSet(null, PING)) {
+                schedule();
+            }
+        }
+
+        boolean isStuckSince(long deadline) {
+            long since = sendingSince;
+            return since != 0 && since < deadline;
+        }
+
+        private void schedule() {
+            if (dropped.get() || !scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                reservationStreamExecutor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+                log.debug("좌석 현황 전송 대기 초과, 연결 제외: key={}", key);
+                drop(this);
+            }
+        }
+
+        private void drain() {
+            Object payload;
+            while (!dropped.get() && (payload = pending.getAndSet(null)) != null) {
+                if (!send(payload)) {
+                    return;
+                }
+            }
+            scheduled.set(false);
+            // 작업을 끝내는 사이 들어온 현황
+            if (pending.get() != null) {
+                schedule();
+            }
+        }
+
+        private boolean send(Object payload) {
+            sendingSince = System.currentTimeMillis();
+            try {
+                if (payload == COMPLETE) {
+                    unsubscribe(this);
+                    emitter.complete();
+                    return false;
+                }
+                if (payload == PING) {
+                    emitter.send(SseEmitter.event().comment("ping"));
+                } else {
+                    emitter.send(SseEmitter.event().name(EVENT_NAME).data(payload));
+                    sentCounter.increment();
+                }
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트 연결 종료
+                drop(this);
+                return false;
+            } finally {
+                sendingSince = 0;
+            }
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package com.boardbuddies.boardbuddiesserver.service;
 
+import com.boardbuddies.boardbuddiesserver.config.AuthContext;
+import com.boardbuddies.boardbuddiesserver.config.ReservationProperties;
 import com.boardbuddies.boardbuddiesserver.domain.*;
+import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationChangeEvent;
+import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationDayMember;
 import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationMultiResponse;
+import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationOutcome;
 import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationRequest;
 import com.boardbuddies.boardbuddiesserver.repository.CrewRepository;
 import com.boardbuddies.boardbuddiesserver.repository.GuestRepository;
@@ -11,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionTemplate;
@@ -19,8 +25,15 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @Slf4j
 @Service
@@ -33,6 +46,15 @@ public class ReservationService {
     private final ReservationRepository reservationRepository;
     private final RedissonClient redissonClient;
     private final TransactionTemplate transactionTemplate;
+    private final ReservationProperties reservationProperties;
+    private final ReservationSeatCounter reservationSeatCounter;
+    private final ReservationLottery reservationLottery;
+    private final ReservationWaitlist reservationWaitlist;
+    private final CrewDayStatsService crewDayStatsService;
+    private final CrewVersionService crewVersionService;
+    private final ReservationChangeBus reservationChangeBus;
+    private final ReservationDayDetailCache reservationDayDetailCache;
+    private final Executor reservationExecutor;
 
     /**
      * 시즌방 예약 (일괄 신청)
@@ -66,63 +88,296 @@ public class ReservationService {
         // 3. 오픈 시각 검증
         validateOpenTime(crew, request.getDates());
 
-        List<ReservationMultiResponse.ReservationResult> results = new ArrayList<>();
-        int succeeded = 0;
-        int failed = 0;
-
-        // 4. 날짜별 처리
-        for (LocalDate date : request.getDates()) {
-            try {
-                // 개별 날짜 검증 및 예약 (분산 락 적용)
-                Reservation reservation = processSingleReservationWithLock(user, crew, date, guest);
-
-                String status = "created";
-                if ("waiting".equals(reservation.getStatus())) {
-                    status = "waiting";
-                }
-
-                results.add(ReservationMultiResponse.ReservationResult.builder()
-                        .date(date)
-                        .status(status)
-                        .reservationId(reservation.getId())
-                        .build());
-                succeeded++;
-            } catch (Exception e) {
-                String status = "invalid";
-                String reason = e.getMessage();
-
-                if (reason.contains("잔여 수량"))
-                    status = "sold_out";
-                else if (reason.contains("오픈 전") || reason.contains("마감"))
-                    status = "closed";
-                else if (reason.contains("이미 예약"))
-                    status = "duplicated";
+        // 4. 추첨 접수 (추첨 모드 크루의 접수 시간 중인 날짜는 접수만 하고 마감 후 일괄 배정)
+        List<LocalDate> dates = request.getDates();
+        ReservationMultiResponse.ReservationResult[] entered = new ReservationMultiResponse.ReservationResult[dates.size()];
+        List<LocalDate> immediateDates = new ArrayList<>();
+        for (int i = 0; i < dates.size(); i++) {
+            LocalDate date = dates.get(i);
+            if (crew.isLotteryEnabled() && crew.getReservationDay() != null && crew.getReservationTime() != null) {
+                entered[i] = reservationLottery.enter(user, crew, date, guest, getOpenDateTime(date, crew));
+            }
+            if (entered[i] == null) {
+                immediateDates.add(date);
+            }
+        }
 
-                // 락 획득 실패 시 (너무 많은 요청 몰림)
-                else if (reason.contains("잠시 후"))
-                    status = "retry_lazily";
+        // 5. 날짜별 처리
+        List<ReservationMultiResponse.ReservationResult> immediate;
+        if (immediateDates.isEmpty()) {
+            immediate = List.of();
+        } else if (reservationProperties.getMultiDate() == ReservationProperties.MultiDate.BATCH
+                && reservationProperties.getEngine() == ReservationProperties.Engine.LOCK) {
+            immediate = reserveBatch(user, crew, immediateDates, guest);
+        } else if (reservationProperties.getMultiDate() == ReservationProperties.MultiDate.PARALLEL) {
+            immediate = reserveParallel(user, crew, immediateDates, guest);
+        } else {
+            immediate = reserveSequential(user, crew, immediateDates, guest);
+        }
 
-                results.add(ReservationMultiResponse.ReservationResult.builder()
-                        .date(date)
-                        .status(status)
-                        .build());
-                failed++;
-            }
+        // 요청 순서대로 결과 병합
+        List<ReservationMultiResponse.ReservationResult> results = new ArrayList<>();
+        Iterator<ReservationMultiResponse.ReservationResult> immediateResults = immediate.iterator();
+        for (ReservationMultiResponse.ReservationResult result : entered) {
+            results.add(withWaitingOrder(crew, result != null ? result : immediateResults.next()));
         }
 
-        // 5. 응답 생성
+        int succeeded = (int) results.stream()
+                .filter(r -> r.getStatus().isSucceeded())
+                .count();
+
+        // 6. 응답 생성
         return ReservationMultiResponse.builder()
                 .crewId(crew.getId())
                 .results(results)
                 .summary(ReservationMultiResponse.ReservationSummary.builder()
                         .requested(request.getDates().size())
                         .succeeded(succeeded)
-                        .failed(failed)
+                        .failed(results.size() - succeeded)
                         .build())
                 .build();
     }
 
-    private Reservation processSingleReservationWithLock(User user, Crew crew, LocalDate date, Guest guest) {
+    /**
+     * 대기 예약이면 대기 번호 추가
+     */
+    private ReservationMultiResponse.ReservationResult withWaitingOrder(Crew crew,
+            ReservationMultiResponse.ReservationResult result) {
+        if (result.getStatus() != ReservationOutcome.WAITING || result.getReservationId() == null) {
+            return result;
+        }
+        return result.toBuilder()
+                .waitingOrder(reservationWaitlist.position(crew, result.getDate(), result.getReservationId()))
+                .build();
+    }
+
+    /**
+     * 날짜별 순차 예약 (날짜마다 락/카운터 판정과 트랜잭션을 따로 수행)
+     */
+    private List<ReservationMultiResponse.ReservationResult> reserveSequential(User user, Crew crew,
+            List<LocalDate> dates, Guest guest) {
+        List<ReservationMultiResponse.ReservationResult> results = new ArrayList<>();
+        for (LocalDate date : dates) {
+            results.add(reserveDate(user, crew, date, guest));
+        }
+        return results;
+    }
+
+    /**
+     * 날짜별 병렬 예약
+     * 날짜마다 락 키와 예약 행이 독립적이므로 전용 스레드 풀에서 동시에 처리하고, 결과는 요청 순서대로 합칩니다.
+     */
+    private List<ReservationMultiResponse.ReservationResult> reserveParallel(User user, Crew crew,
+            List<LocalDate> dates, Guest guest) {
+        List<CompletableFuture<ReservationMultiResponse.ReservationResult>> futures = dates.stream()
+                .map(date -> CompletableFuture.supplyAsync(
+                        () -> reserveDate(user, crew, date, guest), reservationExecutor))
+                .toList();
+
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+
+    private ReservationMultiResponse.ReservationResult reserveDate(User user, Crew crew, LocalDate date,
+            Guest guest) {
+        try {
+            // 개별 날짜 검증 및 예약 (분산 락 또는 좌석 카운터 적용) - 예상 가능한 실패는 결과 값으로 반환
+            return processSingleReservation(user, crew, date, guest);
+        } catch (DataIntegrityViolationException e) {
+            // 동시 요청이 중복 체크를 함께 통과한 경우 (유니크 제약)
+            return ReservationMultiResponse.ReservationResult.of(date, ReservationOutcome.DUPLICATED);
+        } catch (Exception e) {
+            log.error("예약 처리 실패: crewId={}, userId={}, date={}", crew.getId(), user.getId(), date, e);
+            return ReservationMultiResponse.ReservationResult.of(date, ReservationOutcome.INVALID);
+        }
+    }
+
+    /**
+     * 일괄 예약 (전체 날짜 락 일괄 획득 + 단일 트랜잭션)
+     * 날짜 순으로 정렬한 MultiLock으로 교착을 방지하고, 중복/용량 체크는 그룹 쿼리 한 번씩으로 처리합니다.
+     * 트랜잭션 시간이 날짜 수에 비례하므로 고정 보유 시간 대신 watchdog으로 커밋까지 락을 연장합니다.
+     */
+    private List<ReservationMultiResponse.ReservationResult> reserveBatch(User user, Crew crew,
+            List<LocalDate> dates, Guest guest) {
+        if (dates.isEmpty()) {
+            return List.of();
+        }
+
+        RLock[] locks = dates.stream()
+                .distinct()
+                .sorted()
+                .map(date -> redissonClient.getLock("lock:reservation:" + crew.getId() + ":" + date))
+                .toArray(RLock[]::new);
+        RLock multiLock = redissonClient.getMultiLock(locks);
+        boolean locked = false;
+
+        try {
+            // waitTime: 락 획득 대기 시간 (5초), leaseTime: -1 (watchdog 자동 연장, 해제 시까지 보유)
+            locked = multiLock.tryLock(5, -1, java.util.concurrent.TimeUnit.SECONDS);
+            if (!locked) {
+                // 락 획득 실패 시 (너무 많은 요청 몰림)
+                return failAll(dates, ReservationOutcome.RETRY);
+            }
+
+            try {
+                return transactionTemplate.execute(status -> processBatchReservationLogic(user, crew, dates, guest));
+            } catch (DataIntegrityViolationException e) {
+                // 동시 요청이 중복 체크를 함께 통과한 경우 (유니크 제약) - 단일 트랜잭션이므로 전체 롤백
+                return failAll(dates, ReservationOutcome.DUPLICATED);
+            } catch (RuntimeException e) {
+                log.error("일괄 예약 처리 실패: crewId={}, userId={}", crew.getId(), user.getId(), e);
+                return failAll(dates, ReservationOutcome.INVALID);
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // 인터럽트 상태 복구
+            throw new RuntimeException("서버 오류가 발생했습니다.");
+        } finally {
+            // MultiLock은 보유 여부를 확인할 수 없으므로 날짜 락별로 확인 후 해제
+            if (locked) {
+                for (RLock lock : locks) {
+                    if (lock.isHeldByCurrentThread()) {
+                        lock.unlock();
+                    }
+                }
+            }
+        }
+    }
+
+    protected List<ReservationMultiResponse.ReservationResult> processBatchReservationLogic(User user, Crew crew,
+            List<LocalDate> dates, Guest guest) {
+        LocalDate today = LocalDate.now();
+        List<LocalDate> targetDates = dates.stream()
+                .filter(date -> !date.isBefore(today))
+                .distinct()
+                .toList();
+
+        // 1. 중복 체크 (게스트 예약인 경우 게스트 기준, 일반 예약인 경우 사용자 기준) - 그룹 쿼리 1회
+        Set<LocalDate> reservedDates = new HashSet<>();
+        // 2. 용량(Capacity) 체크 - 그룹 쿼리 1회
+        Map<LocalDate, Long> countMap = new HashMap<>();
+
+        if (!targetDates.isEmpty()) {
+            reservedDates.addAll(guest != null
+                    ? reservationRepository.findReservedDatesByCrewAndGuestAndDateIn(crew, guest, targetDates)
+                    : reservationRepository.findReservedDatesByUserAndDateIn(user, targetDates));
+            reservationRepository.findDailyCountsByCrewAndDateIn(crew, targetDates)
+                    .forEach(count -> countMap.put(count.getDate(), count.getCount()));
+        }
+
+        // 3. 요청 순서대로 판정 (같은 요청 내 중복 날짜 포함)
+        List<ReservationOutcome> statuses = new ArrayList<>();
+        List<Reservation> reservations = new ArrayList<>();
+
+        for (LocalDate date : dates) {
+            if (date.isBefore(today)) {
+                statuses.add(ReservationOutcome.INVALID);
+                reservations.add(null);
+                continue;
+            }
+            if (!reservedDates.add(date)) {
+                statuses.add(ReservationOutcome.DUPLICATED);
+                reservations.add(null);
+                continue;
+            }
+
+            long currentCount = countMap.merge(date, 1L, Long::sum) - 1;
+            ReservationStatus status = ReservationStatus.CONFIRMED;
+            if (crew.getIsCapacityLimited() && currentCount >= crew.getDailyCapacity()) {
+                status = ReservationStatus.WAITING;
+            }
+
+            statuses.add(status == ReservationStatus.CONFIRMED ? ReservationOutcome.CREATED : ReservationOutcome.WAITING);
+            reservations.add(Reservation.builder()
+                    .user(user)
+                    .crew(crew)
+                    .guest(guest)
+                    .date(date)
+                    .status(status)
+                    .build());
+        }
+
+        // 4. 예약 일괄 저장
+        List<Reservation> saved = reservationRepository.saveAll(reservations.stream().filter(Objects::nonNull).toList());
+        crewDayStatsService.reservedAll(saved);
+        reservations.stream()
+                .filter(r -> r != null && r.isWaiting())
+                .forEach(reservationWaitlist::addAfterCommit);
+
+        List<ReservationMultiResponse.ReservationResult> results = new ArrayList<>();
+        for (int i = 0; i < dates.size(); i++) {
+            Reservation reservation = reservations.get(i);
+            results.add(ReservationMultiResponse.ReservationResult.of(dates.get(i), statuses.get(i),
+                    reservation != null ? reservation.getId() : null));
+        }
+        return results;
+    }
+
+    private List<ReservationMultiResponse.ReservationResult> failAll(List<LocalDate> dates,
+            ReservationOutcome status) {
+        return dates.stream()
+                .map(date -> ReservationMultiResponse.ReservationResult.of(date, status))
+                .toList();
+    }
+
+    private ReservationMultiResponse.ReservationResult processSingleReservation(User user, Crew crew, LocalDate date, Guest guest) {
+        if (reservationProperties.getEngine() == ReservationProperties.Engine.COUNTER) {
+            return processSingleReservationWithCounter(user, crew, date, guest);
+        }
+        return processSingleReservationWithLock(user, crew, date, guest);
+    }
+
+    /**
+     * 좌석 카운터 기반 예약 (락, COUNT 쿼리 없이 Redis에서 확정/대기 판정 후 짧은 트랜잭션으로 저장)
+     */
+    private ReservationMultiResponse.ReservationResult processSingleReservationWithCounter(User user, Crew crew,
+            LocalDate date, Guest guest) {
+        // 1. 과거 날짜 제외
+        if (date.isBefore(LocalDate.now())) {
+            return ReservationMultiResponse.ReservationResult.of(date, ReservationOutcome.INVALID);
+        }
+
+        // 2. 중복 체크 및 확정/대기 판정 (원자적)
+        ReservationSeatCounter.Decision decision = reservationSeatCounter.acquire(crew, date, user, guest);
+
+        if (decision == ReservationSeatCounter.Decision.DUPLICATED) {
+            return ReservationMultiResponse.ReservationResult.of(date, ReservationOutcome.DUPLICATED);
+        }
+        if (decision == ReservationSeatCounter.Decision.BUSY) {
+            // 카운터 적재 락 대기 초과 (요청 폭주)
+            return ReservationMultiResponse.ReservationResult.of(date, ReservationOutcome.RETRY);
+        }
+
+        ReservationStatus status = decision == ReservationSeatCounter.Decision.CONFIRMED
+                ? ReservationStatus.CONFIRMED
+                : ReservationStatus.WAITING;
+
+        // 3. 예약 생성 (실패 시 획득한 좌석 반납)
+        try {
+            return transactionTemplate.execute(tx -> {
+                Reservation reservation = reservationRepository.save(Reservation.builder()
+                        .user(user)
+                        .crew(crew)
+                        .guest(guest)
+                        .date(date)
+                        .status(status)
+                        .build());
+                crewDayStatsService.reserved(reservation);
+                if (status == ReservationStatus.WAITING) {
+                    reservationWaitlist.addAfterCommit(reservation);
+                }
+                return outcomeOf(reservation);
+            });
+        } catch (RuntimeException e) {
+            reservationSeatCounter.release(crew.getId(), date, user, guest,
+                    decision == ReservationSeatCounter.Decision.CONFIRMED, false);
+            throw e;
+        }
+    }
+
+    private ReservationMultiResponse.ReservationResult processSingleReservationWithLock(User user, Crew crew,
+            LocalDate date, Guest guest) {
         String lockKey = "lock:reservation:" + crew.getId() + ":" + date;
         // 락 획득 시도
         RLock lock = redissonClient.getLock(lockKey);
@@ -131,7 +386,8 @@ public class ReservationService {
             // waitTime: 락 획득 대기 시간 (5초), leaseTime: 락 보유 시간 (3초 - 자동 해제)
             boolean available = lock.tryLock(5, 3, java.util.concurrent.TimeUnit.SECONDS);
             if (!available) {
-                throw new RuntimeException("접속량이 많아 처리가 지연되고 있습니다. 잠시 후 다시 시도해주세요.");
+                // 락 획득 실패 시 (너무 많은 요청 몰림)
+                return ReservationMultiResponse.ReservationResult.of(date, ReservationOutcome.RETRY);
             }
 
             // 트랜잭션 템플릿을 사용하여 트랜잭션 보장
@@ -147,10 +403,11 @@ public class ReservationService {
         }
     }
 
-    protected Reservation processSingleReservationLogic(User user, Crew crew, LocalDate date, Guest guest) {
+    protected ReservationMultiResponse.ReservationResult processSingleReservationLogic(User user, Crew crew,
+            LocalDate date, Guest guest) {
         // 1. 과거 날짜 제외
         if (date.isBefore(LocalDate.now())) {
-            throw new RuntimeException("과거 날짜는 예약할 수 없습니다.");
+            return ReservationMultiResponse.ReservationResult.of(date, ReservationOutcome.INVALID);
         }
 
         // 2. 중복 체크 (게스트 예약인 경우 게스트 기준, 일반 예약인 경우 사용자 기준)
@@ -160,23 +417,23 @@ public class ReservationService {
             boolean exists = guestReservations.stream()
                     .anyMatch(r -> r.getGuest() != null && r.getGuest().getId().equals(guest.getId()));
             if (exists) {
-                throw new RuntimeException("이미 해당 날짜에 게스트 예약이 존재합니다.");
+                return ReservationMultiResponse.ReservationResult.of(date, ReservationOutcome.DUPLICATED);
             }
         } else {
             // 일반 예약 중복 체크
             List<Reservation> myReservations = reservationRepository.findAllByUserAndDateBetweenOrderByCreatedAtDesc(
                     user, date, date);
             if (!myReservations.isEmpty()) {
-                throw new RuntimeException("이미 해당 날짜에 예약이 존재합니다.");
+                return ReservationMultiResponse.ReservationResult.of(date, ReservationOutcome.DUPLICATED);
             }
         }
 
         // 3. 용량(Capacity) 체크 - 제한 설정된 경우에만
         Long currentCount = reservationRepository.countByCrewAndDate(crew, date);
-        String status = "confirmed";
+        ReservationStatus status = ReservationStatus.CONFIRMED;
 
         if (crew.getIsCapacityLimited() && currentCount >= crew.getDailyCapacity()) {
-            status = "waiting";
+            status = ReservationStatus.WAITING;
         }
 
         // 4. 예약 생성
@@ -189,7 +446,17 @@ public class ReservationService {
                 .build();
 
         reservationRepository.save(reservation);
-        return reservation;
+        crewDayStatsService.reserved(reservation);
+        if (status == ReservationStatus.WAITING) {
+            reservationWaitlist.addAfterCommit(reservation);
+        }
+        return outcomeOf(reservation);
+    }
+
+    private ReservationMultiResponse.ReservationResult outcomeOf(Reservation reservation) {
+        return ReservationMultiResponse.ReservationResult.of(reservation.getDate(),
+                reservation.isWaiting() ? ReservationOutcome.WAITING : ReservationOutcome.CREATED,
+                reservation.getId());
     }
 
     /**
@@ -236,99 +503,169 @@ public class ReservationService {
                     .orElseThrow(() -> new RuntimeException("해당 날짜에 일반 예약이 없습니다. 게스트 예약을 취소하려면 guest_id를 포함해주세요."));
         }
 
-        String oldStatus = myReservation.getStatus();
+        ReservationStatus oldStatus = myReservation.getStatus();
 
         // 예약 삭제
         reservationRepository.delete(myReservation);
+        crewDayStatsService.removed(myReservation);
 
         // 만약 기존 상태가 CONFIRMED였다면, 대기열 승격 시도
-        if ("confirmed".equals(oldStatus)) {
-            promoteNextWaitingUser(crew, date);
+        boolean promoted = false;
+        if (oldStatus == ReservationStatus.CONFIRMED) {
+            promoted = promoteNextWaitingUser(crew, date);
+        } else if (oldStatus == ReservationStatus.WAITING) {
+            reservationWaitlist.removeAfterCommit(crew.getId(), date, myReservation.getId());
+        }
+
+        // 좌석 카운터 반영 (커밋 후)
+        if (reservationProperties.getEngine() == ReservationProperties.Engine.COUNTER) {
+            reservationSeatCounter.releaseAfterCommit(crew.getId(), date, myReservation.getUser(),
+                    myReservation.getGuest(), oldStatus == ReservationStatus.CONFIRMED, promoted);
         }
     }
 
-    private void promoteNextWaitingUser(Crew crew, LocalDate date) {
-        // 대기열에서 가장 오래된 예약 조회
-        List<Reservation> waitingList = reservationRepository.findByCrewAndDateAndStatusOrderByCreatedAtAsc(
-                crew, date, "waiting");
+    private boolean promoteNextWaitingUser(Crew crew, LocalDate date) {
+        // 대기열(Redis)에서 가장 오래된 예약 조회 - DB와 어긋난 항목(삭제/승격된 예약)은 제거 후 다음 대기자 확인
+        Set<Long> skipped = new HashSet<>();
+        Long nextId;
+        while ((nextId = reservationWaitlist.first(crew, date)) != null && skipped.add(nextId)) {
+            Reservation nextReservation = reservationRepository.findById(nextId).orElse(null);
+
+            if (nextReservation != null && nextReservation.isWaiting()
+                    && nextReservation.getCrew().getId().equals(crew.getId())
+                    && nextReservation.getDate().equals(date)) {
+                promote(crew, date, nextReservation);
+                return true;
+            }
+            reservationWaitlist.remove(crew.getId(), date, nextId);
+        }
 
-        if (!waitingList.isEmpty()) {
-            Reservation nextReservation = waitingList.get(0);
-            nextReservation.confirm();
-            log.info("대기열 승격: reservationId={}, userId={}", nextReservation.getId(), nextReservation.getUser().getId());
+        // 대기열이 비어 있거나 제거되지 않는 항목만 남은 경우 DB에서 확인 (Redis 대기열 유실 대비)
+        Reservation fallback = reservationRepository
+                .findFirstByCrewAndDateAndStatusOrderByCreatedAtAscIdAsc(crew, date, ReservationStatus.WAITING)
+                .orElse(null);
+        if (fallback == null) {
+            return false;
         }
+        log.warn("대기열에 없는 대기 예약 승격, 대기열 재구성: crewId={}, date={}, reservationId={}",
+                crew.getId(), date, fallback.getId());
+        promote(crew, date, fallback);
+        reservationWaitlist.rebuildAfterCommit(crew, List.of(date));
+        return true;
+    }
+
+    private void promote(Crew crew, LocalDate date, Reservation reservation) {
+        reservation.confirm();
+        crewDayStatsService.promoted(reservation);
+        reservationWaitlist.removeAfterCommit(crew.getId(), date, reservation.getId());
+        log.info("대기열 승격: reservationId={}, userId={}", reservation.getId(), reservation.getUser().getId());
+    }
+
+    /**
+     * 회원 탈퇴로 일괄 삭제한 예약 반영 (커밋 후 크루-날짜별 대기열, 좌석 카운터를 DB 기준으로 재구성)
+     * 개별 취소와 달리 대기자 승격 없이 삭제하므로, 반납 대신 재구성으로 남은 예약만 반영합니다.
+     */
+    public void reservationsRemoved(List<Reservation> reservations) {
+        Map<Long, List<Reservation>> byCrew = new HashMap<>();
+        reservations.forEach(r -> byCrew.computeIfAbsent(r.getCrew().getId(), id -> new ArrayList<>()).add(r));
+
+        byCrew.values().forEach(crewReservations -> {
+            Crew crew = crewReservations.get(0).getCrew();
+            List<LocalDate> dates = crewReservations.stream()
+                    .map(Reservation::getDate)
+                    .distinct()
+                    .toList();
+            reservationWaitlist.rebuildAfterCommit(crew, dates);
+            if (reservationProperties.getEngine() == ReservationProperties.Engine.COUNTER) {
+                reservationSeatCounter.rebuildAfterCommit(crew, dates);
+            }
+        });
     }
 
     /**
      * 크루 수용 인원 증가 시 대기열 승격 처리
+     * 날짜 수와 관계없이 승격 대상 조회, 일괄 UPDATE, 승격 예약 조회 3개 쿼리로 처리합니다.
+     *
+     * @return 승격된 예약 목록 (로그/알림용)
      */
     @Transactional
-    public void promoteWaitingUsers(Crew crew) {
-        // 대기 중인 모든 예약 조회
-        List<Reservation> waitingReservations = reservationRepository.findByCrewAndStatus(crew, "waiting");
+    public List<Reservation> promoteWaitingUsers(Crew crew) {
+        // 제한 해제 시 대기 중인 사용자 모두 승격
+        long capacity = crew.getIsCapacityLimited() ? crew.getDailyCapacity() : Integer.MAX_VALUE;
 
-        // 날짜별로 그룹화
-        List<LocalDate> dates = waitingReservations.stream()
-                .map(Reservation::getDate)
-                .distinct()
-                .toList();
+        // 1. 날짜별 남은 자리만큼 오래된 대기 예약 조회 (확정 인원 집계 + 대기 순번, 단일 쿼리)
+        List<Long> promotableIds = reservationRepository.findPromotableWaitingIds(crew.getId(), capacity);
+        if (promotableIds.isEmpty()) {
+            return List.of();
+        }
 
-        for (LocalDate date : dates) {
-            // 해당 날짜의 현재 확정된 예약 수 조회
-            long confirmedCount = reservationRepository.findByCrewAndDate(crew, date).stream()
-                    .filter(r -> "confirmed".equals(r.getStatus()))
-                    .count();
-
-            // 남은 자리 계산
-            long remaining = crew.getDailyCapacity() - confirmedCount;
-
-            if (remaining > 0) {
-                // 대기열에서 오래된 순으로 조회
-                List<Reservation> waitingList = reservationRepository.findByCrewAndDateAndStatusOrderByCreatedAtAsc(
-                        crew, date, "waiting");
-
-                // 남은 자리만큼 승격
-                for (int i = 0; i < Math.min(remaining, waitingList.size()); i++) {
-                    Reservation reservation = waitingList.get(i);
-                    reservation.confirm();
-                    log.info("대기열 승격 (용량 증가): reservationId={}, userId={}", reservation.getId(),
-                            reservation.getUser().getId());
-                }
-            }
+        // 2. 일괄 승격 (단일 UPDATE)
+        reservationRepository.confirmAllByIdIn(promotableIds);
+
+        // 3. 승격된 예약 조회
+        List<Reservation> promoted = reservationRepository.findAllByIdInWithUser(promotableIds);
+        for (Reservation reservation : promoted) {
+            // 이미 영속성 컨텍스트에 있던 예약도 승격 상태로 맞춤
+            reservation.confirm();
+            reservationWaitlist.removeAfterCommit(crew.getId(), reservation.getDate(), reservation.getId());
+            log.info("대기열 승격 (용량 증가): reservationId={}, userId={}", reservation.getId(),
+                    reservation.getUser().getId());
+        }
+
+        // 날짜별 예약 현황 반영
+        crewDayStatsService.promotedAll(promoted);
+
+        // 좌석 카운터 재구성 (커밋 후)
+        if (reservationProperties.getEngine() == ReservationProperties.Engine.COUNTER) {
+            reservationSeatCounter.rebuildAfterCommit(crew, promoted.stream()
+                    .map(Reservation::getDate)
+                    .distinct()
+                    .toList());
         }
+
+        return promoted;
     }
 
     /**
      * 날짜별 예약 상세 조회 (단건)
+     * 캐시를 기다리는 동안 DB 연결을 잡지 않도록 트랜잭션 없이 실행합니다.
+     * 크루/사용자 조회와 스냅샷 조회(loader)는 각 Repository 조회의 읽기 전용 트랜잭션에서 실행됩니다.
      */
-    @Transactional(readOnly = true)
     public com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationDayDetailResponse getDayReservationDetail(
             Long userId, Long crewId, LocalDate date) {
         if (userId == null || crewId == null) {
             throw new IllegalArgumentException("User ID and Crew ID must not be null");
         }
 
-        // 1. 사용자 및 크루 조회
-        User user = Objects.requireNonNull(userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다.")));
+        // 1. 크루 조회 및 소속 확인
         Crew crew = crewRepository.findById(crewId)
                 .orElseThrow(() -> new RuntimeException("크루를 찾을 수 없습니다."));
 
-        if (!user.getCrew().equals(crew)) {
+        if (!AuthContext.resolve(userId, userRepository).isMemberOf(crew.getId())) {
             throw new RuntimeException("해당 크루의 회원이 아닙니다.");
         }
 
-        // 2. 상태 결정 (open/closed)
+        // 2. 크루-날짜 공통 스냅샷 (캐시, 동시 조회는 하나로 묶음) + 내 예약
+        return reservationDayDetailCache.get(crewId, date, () -> loadDayDetailSnapshot(crew, date))
+                .toResponse(date, userId);
+    }
+
+    /**
+     * 날짜별 예약 상세 스냅샷 조회 (사용자와 무관한 부분 + 사용자별 내 예약)
+     * 조회는 프로젝션 쿼리 하나이므로 별도 트랜잭션 없이 Repository의 읽기 전용 트랜잭션을 사용합니다.
+     */
+    private ReservationDayDetailCache.Snapshot loadDayDetailSnapshot(Crew crew, LocalDate date) {
+        // 1. 상태 결정 (open/closed)
         String status = "open";
         LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
 
-        // 2-1. 마감 시간 체크 (예약일 다음날 새벽 2시까지)
+        // 1-1. 마감 시간 체크 (예약일 다음날 새벽 2시까지)
         LocalDateTime deadline = getDeadline(date);
         if (now.isAfter(deadline)) {
             status = "closed";
         }
 
-        // 2-2. 오픈 시간 체크
+        // 1-2. 오픈 시간 체크
         if (crew.getReservationDay() != null && crew.getReservationTime() != null) {
             LocalDateTime openDateTime = getOpenDateTime(date, crew);
             if (now.isBefore(openDateTime)) {
@@ -336,56 +673,55 @@ public class ReservationService {
             }
         }
 
-        // Fetch Join으로 N+1 문제 방지
-        List<Reservation> reservations = reservationRepository.findAllByCrewAndDateOrderByCreatedAtAscWithFetch(crew, date);
+        // 2. 응답에 필요한 컬럼만 조회 (엔티티 미적재)
+        List<ReservationDayMember> reservations = reservationRepository.findDayMembersByCrewIdAndDate(crew.getId(), date);
 
         int booked = 0;
         List<com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationMemberResponse> memberList = new ArrayList<>();
         List<com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationMemberResponse> waitingMemberList = new ArrayList<>();
-        com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationDayDetailResponse.MyReservationInfo myReservationInfo = null;
+        Map<Long, com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationDayDetailResponse.MyReservationInfo> myReservations = new HashMap<>();
 
-        for (Reservation r : reservations) {
+        for (ReservationDayMember r : reservations) {
             com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationMemberResponse.ReservationMemberResponseBuilder memberResponseBuilder = com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationMemberResponse
                     .builder()
-                    .reservationId(r.getId())
-                    .userId(r.getUser().getId())
-                    .profileImageUrl(r.getUser().getProfileImageUrl());
+                    .reservationId(r.getReservationId())
+                    .userId(r.getUserId())
+                    .profileImageUrl(r.getProfileImageUrl());
             
             // 게스트 예약인 경우 게스트 이름을 name에 표시, 예약한 부원 이름은 registeredByName에 표시, role은 'VISITOR'
-            if (r.getGuest() != null) {
-                memberResponseBuilder.name(r.getGuest().getName())  // 게스트 이름
-                        .guestId(r.getGuest().getId())
-                        .registeredByName(r.getUser().getName())  // 예약한 부원 이름
+            if (r.getGuestId() != null) {
+                memberResponseBuilder.name(r.getGuestName())  // 게스트 이름
+                        .guestId(r.getGuestId())
+                        .registeredByName(r.getUserName())  // 예약한 부원 이름
                         .role("VISITOR")  // 게스트 예약인 경우 role은 'VISITOR'
                         .teaching(r.getTeaching());
             } else {
-                memberResponseBuilder.name(r.getUser().getName())  // 일반 예약은 부원 이름
-                        .role(r.getUser().getRole() != null ? r.getUser().getRole().name() : null)  // 일반 예약은 부원의 role
+                memberResponseBuilder.name(r.getUserName())  // 일반 예약은 부원 이름
+                        .role(r.getRole() != null ? r.getRole().name() : null)  // 일반 예약은 부원의 role
                         .teaching(r.getTeaching());
             }
             
             com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationMemberResponse memberResponse = memberResponseBuilder.build();
 
-            if ("confirmed".equals(r.getStatus())) {
+            if (r.getStatus() == ReservationStatus.CONFIRMED) {
                 booked++;
                 memberList.add(memberResponse);
-            } else if ("waiting".equals(r.getStatus())) {
+            } else if (r.getStatus() == ReservationStatus.WAITING) {
                 waitingMemberList.add(memberResponse);
             }
 
-            // 내 예약 확인 (일반 예약 또는 본인이 예약한 게스트 예약)
-            if (r.getUser().getId().equals(userId)) {
-                myReservationInfo = com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationDayDetailResponse.MyReservationInfo
-                        .builder()
-                        .reservationId(r.getId())
-                        .teaching(r.getTeaching())
-                        .build();
-            }
+            // 사용자별 내 예약 (일반 예약 또는 본인이 예약한 게스트 예약, 신청 순 마지막 예약)
+            myReservations.put(r.getUserId(), com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationDayDetailResponse.MyReservationInfo
+                    .builder()
+                    .reservationId(r.getReservationId())
+                    .teaching(r.getTeaching())
+                    .build());
         }
 
-        return com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationDayDetailResponse.builder().date(date)
+        return ReservationDayDetailCache.Snapshot.builder()
                 .status(status).booked(booked).waitingCount(waitingMemberList.size()).capacity(crew.getDailyCapacity())
-                .memberList(memberList).waitingMemberList(waitingMemberList).myReservation(myReservationInfo).build();
+                .memberList(List.copyOf(memberList)).waitingMemberList(List.copyOf(waitingMemberList))
+                .myReservations(Map.copyOf(myReservations)).loadedAt(System.currentTimeMillis()).build();
     }
 
     /**
@@ -489,7 +825,7 @@ public class ReservationService {
                 .map(r -> com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationCalendarResponse.builder()
                         .reservationId(r.getId())
                         .date(r.getDate())
-                        .status(r.getStatus())
+                        .status(r.getStatus().getValue())
                         .teaching(r.getTeaching())
                         .build())
                 .toList();
@@ -505,13 +841,11 @@ public class ReservationService {
             throw new IllegalArgumentException("User ID, Crew ID, and Reservation ID must not be null");
         }
 
-        // 1. 사용자 및 크루 조회
-        User user = Objects.requireNonNull(userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다.")));
+        // 1. 크루 조회 및 소속 확인
         Crew crew = crewRepository.findById(crewId)
                 .orElseThrow(() -> new RuntimeException("크루를 찾을 수 없습니다."));
 
-        if (!user.getCrew().equals(crew)) {
+        if (!AuthContext.resolve(userId, userRepository).isMemberOf(crew.getId())) {
             throw new RuntimeException("해당 크루의 회원이 아닙니다.");
         }
 
@@ -535,12 +869,14 @@ public class ReservationService {
         }
 
         // 6. 예약 상태 확인 (확정된 경우에만 강습 신청 가능)
-        if (!"confirmed".equals(reservation.getStatus())) {
+        if (!reservation.isConfirmed()) {
             throw new RuntimeException("예약이 확정된 경우에만 강습을 신청할 수 있습니다.");
         }
 
         // 7. 강습 신청
         reservation.applyTeaching();
+        crewVersionService.bumpCrewAfterCommit(crewId);
+        reservationChangeBus.publishAfterCommit(List.of(ReservationChangeEvent.teaching(reservation)));
     }
 
     /**
@@ -552,13 +888,11 @@ public class ReservationService {
             throw new IllegalArgumentException("User ID, Crew ID, and Reservation ID must not be null");
         }
 
-        // 1. 사용자 및 크루 조회
-        User user = Objects.requireNonNull(userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다.")));
+        // 1. 크루 조회 및 소속 확인
         Crew crew = crewRepository.findById(crewId)
                 .orElseThrow(() -> new RuntimeException("크루를 찾을 수 없습니다."));
 
-        if (!user.getCrew().equals(crew)) {
+        if (!AuthContext.resolve(userId, userRepository).isMemberOf(crew.getId())) {
             throw new RuntimeException("해당 크루의 회원이 아닙니다.");
         }
 
@@ -578,5 +912,7 @@ public class ReservationService {
 
         // 5. 강습 취소
         reservation.cancelTeaching();
+        crewVersionService.bumpCrewAfterCommit(crewId);
+        reservationChangeBus.publishAfterCommit(List.of(ReservationChangeEvent.teaching(reservation)));
     }
 }
@@ -0,0 +1,310 @@
+package com.boardbuddies.boardbuddiesserver.service;
+
+import com.boardbuddies.boardbuddiesserver.domain.Crew;
+import com.boardbuddies.boardbuddiesserver.domain.Reservation;
+import com.boardbuddies.boardbuddiesserver.domain.ReservationStatus;
+import com.boardbuddies.boardbuddiesserver.dto.reservation.CrewDayReservationCount;
+import com.boardbuddies.boardbuddiesserver.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 시즌방 대기열 (Redis)
+ *
+ * 크루-날짜별 대기 예약을 등록 시각 순 sorted set으로 유지하여
+ * 대기 번호 조회(ZRANK)와 취소 시 다음 대기자 조회(첫 원소)를 DB 정렬 쿼리 없이 처리합니다.
+ * DB가 원본이며, 대기열이 없으면 DB에서 다시 적재하고 서버 시작 시 전체를 재구성합니다.
+ *
+ * 재구성(DB 조회 -> 덮어쓰기)과 등록/제거는 크루-날짜별 대기열 락으로 직렬화하여,
+ * 재구성 중 커밋된 대기 등록이 덮어쓰기로 사라지지 않도록 합니다.
+ * 락을 얻지 못하면 적재 표시를 지워 다음 조회 시 DB에서 다시 적재합니다.
+ *
+ * 등록 시각이 같은 예약은 DB와 같이 예약 ID 순으로 정렬되도록, 멤버를 19자리 0 채움 ID로 저장합니다.
+ * (같은 점수의 멤버는 사전 순으로 정렬됨)
+ *
+ * key: "waitlist:reservation:{crewId}:{date}" (sorted set: 0 채움 reservationId, score = 등록 시각)
+ * key: "waitlist:reservation:{crewId}:{date}:loaded" (적재 여부)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationWaitlist {
+
+    /**
+     * 대기 등록 (적재된 대기열에만 추가)
+     * ARGV[1]: 등록 시각, ARGV[2]: 예약 ID
+     * 반환: -1 (미적재), 0 (추가)
+     */
+    private static final String ADD_SCRIPT = """
+            if redis.call('exists', KEYS[2]) == 0 then return -1 end
+            redis.call('zadd', KEYS[1], ARGV[1], ARGV[2])
+            return 0
+            """;
+
+    /**
+     * 대기열 재구성
+     * ARGV[1]: TTL (초), ARGV[2..]: 등록 시각, 예약 ID 쌍
+     */
+    private static final String LOAD_SCRIPT = """
+            redis.call('del', KEYS[1])
+            for i = 2, #ARGV, 2 do
+                redis.call('zadd', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('set', KEYS[2], '1', 'EX', ARGV[1])
+            redis.call('expire', KEYS[1], ARGV[1])
+            return 1
+            """;
+
+    private static final String KEY_PREFIX = "waitlist:reservation:";
+    private static final String LOADED_SUFFIX = ":loaded";
+    private static final String LOCK_PREFIX = "lock:waitlist:";
+
+    /**
+     * 서버 시작 시 전체 재구성 표시 (여러 서버가 함께 시작해도 한 번만 재구성)
+     */
+    private static final String REBUILT_KEY = "waitlist:rebuilt";
+    private static final Duration REBUILT_TTL = Duration.ofMinutes(5);
+
+    private final RedissonClient redissonClient;
+    private final ReservationRepository reservationRepository;
+
+    /**
+     * 대기 번호 조회 (1부터, 대기열에 없으면 null)
+     */
+    public Integer position(Crew crew, LocalDate date, Long reservationId) {
+        loadIfAbsent(crew.getId(), date);
+        Integer rank = waitlist(crew.getId(), date).rank(member(reservationId));
+        return rank != null ? rank + 1 : null;
+    }
+
+    /**
+     * 다음 대기자 예약 ID 조회 (대기자가 없으면 null)
+     */
+    public Long first(Crew crew, LocalDate date) {
+        loadIfAbsent(crew.getId(), date);
+        String first = waitlist(crew.getId(), date).first();
+        return first != null ? Long.valueOf(first) : null;
+    }
+
+    /**
+     * 대기열에서 제거 (0 채움 이전 형식의 멤버도 함께 제거)
+     */
+    public void remove(Long crewId, LocalDate date, Long reservationId) {
+        withLock(crewId, date, () -> waitlist(crewId, date)
+                .removeAll(List.of(member(reservationId), String.valueOf(reservationId))));
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 대기 등록
+     */
+    public void addAfterCommit(Reservation reservation) {
+        Long crewId = reservation.getCrew().getId();
+        LocalDate date = reservation.getDate();
+        String member = member(reservation.getId());
+        long score = score(reservation);
+
+        afterCommit(() -> withLock(crewId, date, () -> {
+            String key = waitlistKey(crewId, date);
+            Long result = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                    RScript.Mode.READ_WRITE,
+                    ADD_SCRIPT,
+                    RScript.ReturnType.INTEGER,
+                    Arrays.<Object>asList(key, key + LOADED_SUFFIX),
+                    String.valueOf(score),
+                    member);
+            if (result == -1) {
+                rebuild(crewId, date);
+            }
+        }));
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 대기열에서 제거 (대기 취소 또는 승격)
+     */
+    public void removeAfterCommit(Long crewId, LocalDate date, Long reservationId) {
+        afterCommit(() -> remove(crewId, date, reservationId));
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 해당 날짜들의 대기열을 DB 기준으로 재구성
+     */
+    public void rebuildAfterCommit(Crew crew, List<LocalDate> dates) {
+        Long crewId = crew.getId();
+        afterCommit(() -> dates.forEach(date -> rebuild(crewId, date)));
+    }
+
+    /**
+     * 대기열 재구성 (DB 기준, 크루-날짜별 대기열 락 안에서 수행)
+     */
+    public void rebuild(Long crewId, LocalDate date) {
+        withLock(crewId, date, () -> write(crewId, date, reservationRepository
+                .findByCrewIdAndDateAndStatusOrderByCreatedAtAscIdAsc(crewId, date, ReservationStatus.WAITING)));
+    }
+
+    /**
+     * 전체 대기열 재구성
+     * 오늘 이후 대기 예약이 있는 크루-날짜(집계 쿼리)를 하나씩 재구성하고, 대기 예약이 없는 대기열은 적재 표시를 지웁니다.
+     * 여러 서버가 함께 시작하면 먼저 표시한 서버만 수행합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildAll() {
+        if (!redissonClient.getBucket(REBUILT_KEY, StringCodec.INSTANCE).setIfAbsent("1", REBUILT_TTL)) {
+            log.info("대기열 재구성 생략: 다른 서버에서 최근 재구성됨");
+            return;
+        }
+
+        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+
+        List<CrewDayReservationCount> days = reservationRepository
+                .findCrewDayCountsByStatusFrom(ReservationStatus.WAITING, today);
+        Set<String> liveKeys = days.stream()
+                .map(day -> waitlistKey(day.getCrewId(), day.getDate()))
+                .collect(Collectors.toSet());
+
+        // 적재 표시만 지우면 다음 조회/등록 시 락 안에서 DB 기준으로 다시 적재됨
+        Set<String> staleKeys = new HashSet<>();
+        for (String key : redissonClient.getKeys().getKeysByPattern(KEY_PREFIX + "*" + LOADED_SUFFIX)) {
+            if (!liveKeys.contains(key.substring(0, key.length() - LOADED_SUFFIX.length()))) {
+                staleKeys.add(key);
+            }
+        }
+        if (!staleKeys.isEmpty()) {
+            redissonClient.getKeys().delete(staleKeys.toArray(new String[0]));
+        }
+
+        days.forEach(day -> rebuild(day.getCrewId(), day.getDate()));
+
+        log.info("대기열 재구성 완료: rebuilt={}, invalidated={}", days.size(), staleKeys.size());
+    }
+
+    private void loadIfAbsent(Long crewId, LocalDate date) {
+        if (isLoaded(crewId, date)) {
+            return;
+        }
+        // 락 안에서 다시 확인 (동시에 여러 요청이 적재하지 않도록)
+        withLock(crewId, date, () -> {
+            if (!isLoaded(crewId, date)) {
+                rebuild(crewId, date);
+            }
+        });
+    }
+
+    private boolean isLoaded(Long crewId, LocalDate date) {
+        return redissonClient.getBucket(waitlistKey(crewId, date) + LOADED_SUFFIX, StringCodec.INSTANCE).isExists();
+    }
+
+    /**
+     * 크루-날짜별 대기열 락 안에서 실행 (재진입 가능)
+     * 락을 얻지 못하면 적재 표시를 지워 다음 조회 시 DB에서 다시 적재합니다.
+     */
+    private void withLock(Long crewId, LocalDate date, Runnable action) {
+        RLock lock = redissonClient.getLock(LOCK_PREFIX + crewId + ":" + date);
+        boolean locked = false;
+
+        try {
+            locked = lock.tryLock(5, 10, TimeUnit.SECONDS);
+            if (!locked) {
+                log.warn("대기열 락 획득 실패, 적재 표시 삭제: crewId={}, date={}", crewId, date);
+                invalidate(crewId, date);
+                return;
+            }
+            action.run();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            invalidate(crewId, date);
+        } finally {
+            if (locked && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void invalidate(Long crewId, LocalDate date) {
+        redissonClient.getKeys().delete(waitlistKey(crewId, date) + LOADED_SUFFIX);
+    }
+
+    private void write(Long crewId, LocalDate date, List<Reservation> waiting) {
+        List<Object> args = new ArrayList<>();
+        args.add(String.valueOf(ttlSeconds(date)));
+        for (Reservation reservation : waiting) {
+            args.add(String.valueOf(score(reservation)));
+            args.add(member(reservation.getId()));
+        }
+
+        String key = waitlistKey(crewId, date);
+        redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                LOAD_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                Arrays.<Object>asList(key, key + LOADED_SUFFIX),
+                args.toArray());
+    }
+
+    private RScoredSortedSet<String> waitlist(Long crewId, LocalDate date) {
+        return redissonClient.getScoredSortedSet(waitlistKey(crewId, date), StringCodec.INSTANCE);
+    }
+
+    private String waitlistKey(Long crewId, LocalDate date) {
+        return KEY_PREFIX + crewId + ":" + date;
+    }
+
+    /**
+     * 대기열 멤버 (등록 시각이 같으면 ID 순으로 정렬되도록 19자리 0 채움)
+     */
+    private static String member(Long reservationId) {
+        return String.format("%019d", reservationId);
+    }
+
+    /**
+     * 대기 순서 점수 (등록 시각, 밀리초)
+     */
+    private long score(Reservation reservation) {
+        LocalDateTime createdAt = reservation.getCreatedAt() != null ? reservation.getCreatedAt() : LocalDateTime.now();
+        return createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 대기열 만료 시간 (예약 마감 다음날까지 유지, 최소 1시간)
+     */
+    private long ttlSeconds(LocalDate date) {
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        long seconds = Duration.between(now, date.plusDays(2).atStartOfDay()).getSeconds();
+        return Math.max(seconds, 3600);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,54 @@
+package com.boardbuddies.boardbuddiesserver.service;
+
+import com.boardbuddies.boardbuddiesserver.domain.Reservation;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+
+/**
+ * 집계 테이블(crew_day_stats, member_usage_stats) 증감 공통 처리
+ *
+ * 증감할 행이 없으면 호출하는 쪽 트랜잭션 안에서 빈 행을 만든 뒤(INSERT ... ON CONFLICT DO NOTHING) 다시 증감합니다.
+ * 같은 행을 동시에 만들면 나중 트랜잭션은 먼저 만든 트랜잭션이 끝날 때까지 기다린 뒤 무시하므로 한쪽이 실패하지 않습니다.
+ */
+final class StatsCounters {
+
+    private StatsCounters() {
+    }
+
+    /**
+     * 행 증감 (행이 없으면 빈 행 생성 후 다시 증감)
+     *
+     * @param increment      증감 쿼리 (갱신된 행 수 반환)
+     * @param insertIfAbsent 빈 행 생성 쿼리 (이미 있으면 무시)
+     */
+    static void increment(IntSupplier increment, Runnable insertIfAbsent) {
+        if (increment.getAsInt() > 0) {
+            return;
+        }
+        insertIfAbsent.run();
+        increment.getAsInt();
+    }
+
+    /**
+     * 행(키)별 증감량 합산
+     *
+     * @param key         집계 행 식별자
+     * @param firstColumn true면 첫 번째 값([0]), false면 두 번째 값([1])에 반영
+     * @param sign        예약 1건당 증감량 (1 또는 -1)
+     * @return 키별 [첫 번째 값, 두 번째 값] 증감량 (예약 순서 유지)
+     */
+    static <K> Map<K, int[]> sumDeltas(Collection<Reservation> reservations, Function<Reservation, K> key,
+            Predicate<Reservation> firstColumn, int sign) {
+        Map<K, int[]> deltas = new LinkedHashMap<>();
+        for (Reservation reservation : reservations) {
+            int[] delta = deltas.computeIfAbsent(key.apply(reservation), k -> new int[2]);
+            delta[firstColumn.test(reservation) ? 0 : 1] += sign;
+        }
+        return deltas;
+    }
+}
@@ -0,0 +1,61 @@
+package com.boardbuddies.boardbuddiesserver.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 집계 테이블 재계산 명령
+ *
+ * 실행 시 옵션을 주면 예약 테이블 기준으로 집계 테이블을 다시 계산합니다.
+ *   --rebuild-crew-day-stats      크루-날짜별 예약 현황 (crew_day_stats)
+ *   --rebuild-member-usage-stats  크루-부원별 이용 횟수 (member_usage_stats)
+ *
+ *   전체:  java -jar app.jar --rebuild-crew-day-stats
+ *   크루별: java -jar app.jar --rebuild-crew-day-stats=1,2
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatsRebuildRunner implements ApplicationRunner {
+
+    static final String CREW_DAY_STATS_OPTION = "rebuild-crew-day-stats";
+    static final String MEMBER_USAGE_STATS_OPTION = "rebuild-member-usage-stats";
+
+    private final CrewDayStatsService crewDayStatsService;
+    private final MemberUsageStatsService memberUsageStatsService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        rebuild(args, CREW_DAY_STATS_OPTION, crewDayStatsService::rebuild, crewDayStatsService::rebuild);
+        rebuild(args, MEMBER_USAGE_STATS_OPTION, memberUsageStatsService::rebuild, memberUsageStatsService::rebuild);
+    }
+
+    /**
+     * 옵션 값이 없으면 전체, 크루 ID 목록(쉼표 구분)이면 크루별 재계산
+     */
+    private void rebuild(ApplicationArguments args, String option, Runnable rebuildAll, Consumer<Long> rebuildCrew) {
+        if (!args.containsOption(option)) {
+            return;
+        }
+
+        List<String> values = args.getOptionValues(option);
+        if (values == null || values.isEmpty() || values.stream().allMatch(String::isBlank)) {
+            rebuildAll.run();
+            return;
+        }
+
+        for (String value : values) {
+            for (String crewId : value.split(",")) {
+                if (!crewId.isBlank()) {
+                    rebuildCrew.accept(Long.valueOf(crewId.trim()));
+                }
+            }
+        }
+    }
+}
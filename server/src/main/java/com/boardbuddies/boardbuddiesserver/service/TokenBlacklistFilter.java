@@ -0,0 +1,166 @@
+package com.boardbuddies.boardbuddiesserver.service;
+
+import com.boardbuddies.boardbuddiesserver.config.JwtProperties;
+import com.boardbuddies.boardbuddiesserver.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.StatusListener;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 블랙리스트 토큰 로컬 필터 (블룸 필터 + Redis pub/sub)
+ *
+ * 로그아웃된 토큰은 거의 없으므로, 서버 메모리의 블룸 필터에 없는 토큰은 Redis를 조회하지 않고 블랙리스트가 아닌 것으로 판정합니다.
+ * 필터에 있다고 나오면(오탐 포함) Redis에서 확인합니다.
+ *
+ * - 시작 시 Redis의 블랙리스트 키로 채우고, 로그아웃한 서버가 토픽으로 알리면 모든 서버(자신 포함)가 추가합니다.
+ * - 구독이 끊겼다가 다시 연결되면 놓친 메시지를 채우기 위해 Redis에서 다시 읽습니다.
+ * - 삭제가 안 되므로 액세스 토큰 유효 시간마다 세대를 교체하고 새 세대는 Redis에서 채웁니다. (현재 + 이전 세대 확인, 블랙리스트 유지 시간은 토큰 유효 시간 이하)
+ *   새 세대를 채우지 못하면 교체하지 않고 기존 세대를 유지합니다.
+ * - Redis에서 채우기 전에는 모든 토큰을 Redis에서 확인합니다.
+ *
+ * 다른 서버의 로그아웃은 메시지가 도착할 때까지(보통 수 ms) 이 서버에서 통과될 수 있습니다.
+ *
+ * topic: "token:blacklist" (메시지: 토큰 ID)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenBlacklistFilter {
+
+    private static final String TOPIC = "token:blacklist";
+
+    private final RedissonClient redissonClient;
+    private final JwtProperties jwtProperties;
+    private final MeterRegistry meterRegistry;
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter previous;
+    private volatile boolean ready;
+
+    private RTopic topic;
+    private int topicListenerId;
+    private int statusListenerId;
+
+    private Counter skippedCounter;
+    private Counter checkedCounter;
+
+    @PostConstruct
+    void init() {
+        skippedCounter = Counter.builder("token.blacklist.lookup")
+                .tag("result", "skipped")
+                .description("로컬 필터로 Redis 조회를 생략한 토큰 수")
+                .register(meterRegistry);
+        checkedCounter = Counter.builder("token.blacklist.lookup")
+                .tag("result", "checked")
+                .description("Redis에서 블랙리스트 여부를 확인한 토큰 수")
+                .register(meterRegistry);
+
+        current = newFilter();
+        previous = newFilter();
+
+        // 구독 후 채워야 그 사이 로그아웃을 놓치지 않음
+        topic = redissonClient.getTopic(TOPIC, StringCodec.INSTANCE);
+        topicListenerId = topic.addListener(String.class, (channel, tokenId) -> current.put(tokenId));
+        statusListenerId = topic.addListener(new StatusListener() {
+            @Override
+            public void onSubscribe(String channel) {
+                // 재연결 후 다시 구독됨 - 끊긴 동안의 메시지를 Redis에서 보충 (Redisson 이벤트 스레드를 막지 않도록 별도 실행)
+                if (ready) {
+                    CompletableFuture.runAsync(() -> seed(current));
+                }
+            }
+
+            @Override
+            public void onUnsubscribe(String channel) {
+            }
+        });
+        seed(current);
+    }
+
+    @PreDestroy
+    void close() {
+        topic.removeListener(topicListenerId, statusListenerId);
+    }
+
+    /**
+     * 블랙리스트 가능성 (false면 블랙리스트가 아님이 확실)
+     */
+    public boolean mightContain(String tokenId) {
+        if (ready && !current.mightContain(tokenId) && !previous.mightContain(tokenId)) {
+            skippedCounter.increment();
+            return false;
+        }
+        checkedCounter.increment();
+        return true;
+    }
+
+    /**
+     * 블랙리스트 추가 알림 (이 서버에는 즉시 반영, 다른 서버는 토픽으로)
+     */
+    public void add(String tokenId) {
+        current.put(tokenId);
+        try {
+            topic.publish(tokenId);
+        } catch (RuntimeException e) {
+            // 다른 서버는 다음 세대 교체 때 Redis에서 다시 읽음
+            log.warn("블랙리스트 추가 알림 실패", e);
+        }
+    }
+
+    /**
+     * 세대 교체 (액세스 토큰 유효 시간마다)
+     * 이전 세대의 토큰은 모두 만료되었으므로 버리고, 현재 세대를 이전 세대로 넘긴 뒤 새 세대를 Redis에서 채웁니다.
+     * (놓친 알림도 이때 반영됨)
+     * 새 세대를 먼저 채운 뒤 교체하며, 채우는 동안 도착한 알림은 현재 세대에 들어가 교체 후 이전 세대로 확인됩니다.
+     * Redis에서 채우지 못하면 빈 세대로 교체하지 않고 기존 세대를 유지합니다. (다음 교체 때 다시 시도)
+     */
+    @Scheduled(fixedRateString = "${jwt.access-token-expiration:3600000}",
+            initialDelayString = "${jwt.access-token-expiration:3600000}")
+    public void rotate() {
+        BloomFilter next = newFilter();
+        if (!seed(next)) {
+            log.warn("블랙리스트 로컬 필터 세대 교체 생략: 기존 세대 유지");
+            return;
+        }
+        previous = current;
+        current = next;
+    }
+
+    /**
+     * Redis의 블랙리스트 키로 필터 채우기
+     *
+     * @return 채우지 못했으면 false
+     */
+    private boolean seed(BloomFilter target) {
+        try {
+            int count = 0;
+            for (String key : redissonClient.getKeys().getKeysByPattern(RedisTokenService.BLACKLIST_KEY_PREFIX + "*")) {
+                target.put(key.substring(RedisTokenService.BLACKLIST_KEY_PREFIX.length()));
+                count++;
+            }
+            ready = true;
+            log.info("블랙리스트 로컬 필터 적재 완료: tokens={}, bytes={}", count, target.sizeInBytes());
+            return true;
+        } catch (RuntimeException e) {
+            // 적재 전까지는 모든 토큰을 Redis에서 확인
+            log.warn("블랙리스트 로컬 필터 적재 실패", e);
+            return false;
+        }
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(jwtProperties.getBlacklistFilterExpectedInsertions(),
+                jwtProperties.getBlacklistFilterFalsePositiveRate());
+    }
+}
@@ -1,70 +1,141 @@
 package com.boardbuddies.boardbuddiesserver.util;
 
 import com.boardbuddies.boardbuddiesserver.config.JwtProperties;
+import com.boardbuddies.boardbuddiesserver.domain.Role;
 import com.boardbuddies.boardbuddiesserver.exception.JwtTokenExpiredException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT 토큰 생성 및 검증 유틸리티
+ *
+ * 서명 키와 파서는 시작 시 한 번 만들어 재사용합니다. (JwtParser는 불변이라 여러 스레드에서 공유 가능)
+ * 인증 필터의 액세스 토큰 검증은 최근 검증한 토큰의 클레임을 만료 시각(exp)까지 보관해, 같은 토큰의 반복 요청은 서명 검증과 파싱을 건너뜁니다.
+ * (토큰 원문 대신 SHA-256 다이제스트를 키로 보관해 메모리에 토큰이 남지 않으며, 다른 토큰이 같은 항목에 맞을 수 없음)
+ *
+ * 액세스/리프레시 토큰은 짧은 무작위 ID(jti, 96비트 - base64url 16자)를 가지며,
+ * 블랙리스트와 리프레시 토큰 저장(Redis)은 토큰 전체 대신 이 ID를 사용합니다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtUtil {
 
+    /**
+     * 액세스 토큰 권한 클레임 (소속 크루 ID, 크루 내 역할, 사용자별 권한 버전)
+     */
+    public static final String CLAIM_CREW_ID = "crewId";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_AUTH_VERSION = "av";
+
+    private static final int TOKEN_ID_BYTES = 12;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     private final JwtProperties jwtProperties;
+    private final MeterRegistry meterRegistry;
+
+    private SecretKey signingKey;
+    private JwtParser parser;
 
     /**
-     * SecretKey 생성
+     * 최근 검증한 액세스 토큰 다이제스트(SHA-256) -> 클레임 (토큰 만료 시각까지, 최대 jwt.verified-token-cache-size개)
      */
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private Cache<String, Claims> verifiedTokens;
+
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getVerifiedTokenCacheSize())
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.verified.tokens");
     }
 
     /**
      * 액세스 토큰 생성
      * 
-     * @param userId 사용자 ID
+     * @param userId      사용자 ID
+     * @param crewId      소속 크루 ID (없으면 null)
+     * @param role        크루 내 역할
+     * @param authVersion 사용자별 권한 버전 (AuthVersionService)
      * @return 액세스 토큰
      */
-    public String generateAccessToken(Long userId) {
+    public String generateAccessToken(Long userId, Long crewId, Role role, long authVersion) {
         Date now = new Date();
         Date expiration = new Date(now.getTime() + jwtProperties.getAccessTokenExpiration());
 
         return Jwts.builder()
                 .subject(String.valueOf(userId))
                 .claim("type", "access")
+                .claim(CLAIM_CREW_ID, crewId)
+                .claim(CLAIM_ROLE, role.name())
+                .claim(CLAIM_AUTH_VERSION, authVersion)
+                .id(newTokenId())
                 .issuedAt(now)
                 .expiration(expiration)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
     /**
      * 리프레시 토큰 생성
      * 
-     * @param userId 사용자 ID
+     * @param userId  사용자 ID
+     * @param tokenId 토큰 ID (newTokenId, Redis에 저장해 재발급 시 비교)
      * @return 리프레시 토큰
      */
-    public String generateRefreshToken(Long userId) {
+    public String generateRefreshToken(Long userId, String tokenId) {
         Date now = new Date();
         Date expiration = new Date(now.getTime() + jwtProperties.getRefreshTokenExpiration());
 
         return Jwts.builder()
                 .subject(String.valueOf(userId))
                 .claim("type", "refresh")
+                .id(tokenId)
                 .issuedAt(now)
                 .expiration(expiration)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -88,10 +159,30 @@ public class JwtUtil {
                 .claim("email", email)
                 .issuedAt(now)
                 .expiration(expiration)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
+    /**
+     * 토큰 ID 생성 (jti)
+     */
+    public String newTokenId() {
+        byte[] bytes = new byte[TOKEN_ID_BYTES];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * 토큰 ID (jti가 없는 이전 토큰은 토큰 전체)
+     *
+     * @param claims 검증한 토큰의 클레임
+     * @param token  JWT 토큰
+     * @return 토큰 ID
+     */
+    public String getTokenId(Claims claims, String token) {
+        return claims.getId() != null ? claims.getId() : token;
+    }
+
     /**
      * 토큰에서 소셜 정보 추출
      */
@@ -99,6 +190,47 @@ public class JwtUtil {
         return parseToken(token);
     }
 
+    /**
+     * 액세스 토큰 검증 (인증 필터용, 한 번만 파싱)
+     * 최근 검증한 토큰이면 보관한 클레임을 그대로 반환합니다.
+     *
+     * @param token JWT 토큰
+     * @return Claims
+     * @throws JwtTokenExpiredException 만료된 토큰
+     * @throws JwtException             유효하지 않거나 액세스 토큰이 아닌 경우 (필터에서 스택 트레이스 없이 기록)
+     */
+    public Claims parseAccessToken(String token) {
+        String key = digest(token);
+        Claims cached = verifiedTokens.getIfPresent(key);
+        if (cached != null && cached.getExpiration().getTime() > System.currentTimeMillis()) {
+            return cached;
+        }
+
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (ExpiredJwtException e) {
+            throw new JwtTokenExpiredException("만료된 JWT 토큰입니다.", e);
+        }
+        if (!"access".equals(claims.get("type", String.class))) {
+            throw new UnsupportedJwtException("액세스 토큰이 아닙니다.");
+        }
+        verifiedTokens.put(key, claims);
+        return claims;
+    }
+
+    /**
+     * 검증 캐시 키 (토큰의 SHA-256 다이제스트, base64url)
+     */
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
     /**
      * 토큰에서 사용자 ID 추출
      * 
@@ -110,14 +242,6 @@ public class JwtUtil {
         return Long.parseLong(claims.getSubject());
     }
 
-    /**
-     * 토큰 만료 시간 조회
-     */
-    public Long getExpiration(String token) {
-        Claims claims = parseToken(token);
-        return claims.getExpiration().getTime();
-    }
-
     /**
      * 토큰 파싱
      * 
@@ -126,11 +250,7 @@ public class JwtUtil {
      */
     public Claims parseToken(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return parser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) {
             log.error("만료된 JWT 토큰입니다.", e);
             throw new JwtTokenExpiredException("만료된 JWT 토큰입니다.", e);
@@ -150,31 +270,29 @@ public class JwtUtil {
     }
 
     /**
-     * 토큰 검증
+     * 토큰 파싱 (유효하지 않으면 null)
      * 
      * @param token JWT 토큰
-     * @return 유효한 토큰이면 true
+     * @return Claims (유효하지 않으면 null)
+     * @throws JwtTokenExpiredException 만료된 토큰 (상위에서 처리할 수 있도록 그대로 전달)
      */
-    public boolean validateToken(String token) {
+    public Claims parseTokenOrNull(String token) {
         try {
-            parseToken(token);
-            return true;
+            return parseToken(token);
         } catch (JwtTokenExpiredException e) {
-            // 만료 토큰은 상위에서 처리할 수 있도록 그대로 전달
             throw e;
         } catch (RuntimeException e) {
-            return false;
+            return null;
         }
     }
 
     /**
-     * 토큰 타입 확인
+     * 토큰 검증
      * 
      * @param token JWT 토큰
-     * @return 토큰 타입 (access, refresh, temp)
+     * @return 유효한 토큰이면 true
      */
-    public String getTokenType(String token) {
-        Claims claims = parseToken(token);
-        return claims.get("type", String.class);
+    public boolean validateToken(String token) {
+        return parseTokenOrNull(token) != null;
     }
 }
@@ -0,0 +1,66 @@
+-- 기준 스키마 (ddl-auto로 생성되던 스키마)
+-- 기존 운영 DB는 baseline-on-migrate로 V1을 적용된 것으로 간주하고 V2부터 실행
+
+CREATE TABLE crew (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name                VARCHAR(50)  NOT NULL,
+    univ                VARCHAR(50)  NOT NULL,
+    reservation_day     VARCHAR(10)  CHECK (reservation_day IN ('SUNDAY', 'MONDAY', 'TUESDAY', 'WEDNESDAY', 'THURSDAY', 'FRIDAY', 'SATURDAY')),
+    reservation_time    TIME(6),
+    status              VARCHAR(20)  NOT NULL,
+    crew_pin            INTEGER      NOT NULL,
+    daily_capacity      INTEGER      NOT NULL,
+    profile_image_url   VARCHAR(500),
+    is_capacity_limited BOOLEAN      NOT NULL,
+    created_at          TIMESTAMP(6) NOT NULL,
+    updated_at          TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE users (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    social_provider   VARCHAR(20)  NOT NULL CHECK (social_provider IN ('KAKAO', 'NAVER')),
+    social_id         VARCHAR(100) NOT NULL UNIQUE,
+    email             VARCHAR(100),
+    profile_image_url VARCHAR(500),
+    name              VARCHAR(50),
+    birth_date        DATE,
+    school            VARCHAR(100),
+    student_id        VARCHAR(20),
+    gender            VARCHAR(10)  CHECK (gender IN ('MALE', 'FEMALE')),
+    phone_number      VARCHAR(20),
+    crew_id           BIGINT REFERENCES crew (id),
+    role              VARCHAR(20)  NOT NULL CHECK (role IN ('GUEST', 'MEMBER', 'MANAGER', 'PRESIDENT')),
+    is_registered     BOOLEAN      NOT NULL,
+    created_at        TIMESTAMP(6) NOT NULL,
+    updated_at        TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE guests (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name         VARCHAR(50)  NOT NULL,
+    phone_number VARCHAR(20)  NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    updated_at   TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE application (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id      BIGINT       NOT NULL REFERENCES users (id),
+    crew_id      BIGINT       NOT NULL REFERENCES crew (id),
+    status       VARCHAR(20)  NOT NULL CHECK (status IN ('PENDING', 'APPROVED', 'REJECTED')),
+    created_at   TIMESTAMP(6) NOT NULL,
+    updated_at   TIMESTAMP(6) NOT NULL,
+    processed_at TIMESTAMP(6),
+    UNIQUE (user_id, crew_id, status)
+);
+
+CREATE TABLE reservation (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id    BIGINT       NOT NULL REFERENCES users (id),
+    crew_id    BIGINT       NOT NULL REFERENCES crew (id),
+    guest_id   BIGINT REFERENCES guests (id),
+    date       DATE         NOT NULL,
+    status     VARCHAR(255) NOT NULL,
+    teaching   BOOLEAN      NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL
+);
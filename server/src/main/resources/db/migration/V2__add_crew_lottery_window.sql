@@ -0,0 +1,2 @@
+-- 크루 추첨 접수 시간 (초, NULL 또는 0이면 선착순)
+ALTER TABLE crew ADD COLUMN IF NOT EXISTS lottery_window_seconds INTEGER;
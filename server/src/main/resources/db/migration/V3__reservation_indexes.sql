@@ -0,0 +1,65 @@
+-- 시즌방 예약 조회용 인덱스
+
+-- 크루-날짜 조회, 날짜별 집계, 상태별 대기 순번 (crew_id, date [, status, created_at])
+CREATE INDEX IF NOT EXISTS idx_reservation_crew_date_status_created
+    ON reservation (crew_id, date, status, created_at);
+
+-- 사용자 날짜별 예약 조회 / 일괄 예약 중복 체크
+CREATE INDEX IF NOT EXISTS idx_reservation_user_date
+    ON reservation (user_id, date);
+
+-- 일반 예약 이용 횟수 (게스트 예약 제외)
+CREATE INDEX IF NOT EXISTS idx_reservation_member_user_crew_status
+    ON reservation (user_id, crew_id, status)
+    WHERE guest_id IS NULL;
+
+-- 게스트 예약 조회 / 중복 체크
+CREATE INDEX IF NOT EXISTS idx_reservation_guest_crew_date
+    ON reservation (guest_id, crew_id, date)
+    WHERE guest_id IS NOT NULL;
+
+-- 일반 예약 중복 방지 (사용자-크루-날짜당 1건)
+-- 기존 중복 예약은 가장 먼저 생성된 예약만 남기고, 나머지는 reservation_duplicate_archive에 보관한 뒤 정리
+CREATE TABLE IF NOT EXISTS reservation_duplicate_archive AS
+SELECT r.*, now() AS archived_at
+FROM reservation r
+WITH NO DATA;
+
+INSERT INTO reservation_duplicate_archive
+SELECT r.*, now()
+FROM reservation r
+WHERE r.guest_id IS NULL
+  AND EXISTS (SELECT 1
+              FROM reservation o
+              WHERE o.guest_id IS NULL
+                AND o.user_id = r.user_id
+                AND o.crew_id = r.crew_id
+                AND o.date = r.date
+                AND o.id < r.id);
+
+DO $$
+DECLARE
+    archived bigint;
+BEGIN
+    SELECT COUNT(*) INTO archived FROM reservation_duplicate_archive;
+    IF archived > 0 THEN
+        RAISE WARNING '중복 일반 예약 % 건을 reservation_duplicate_archive에 보관 후 삭제합니다.', archived;
+    END IF;
+END $$;
+
+DELETE FROM reservation r
+    USING reservation o
+WHERE r.guest_id IS NULL
+  AND o.guest_id IS NULL
+  AND r.user_id = o.user_id
+  AND r.crew_id = o.crew_id
+  AND r.date = o.date
+  AND r.id > o.id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_reservation_member_user_crew_date
+    ON reservation (user_id, crew_id, date)
+    WHERE guest_id IS NULL;
+
+-- 크루 역할별 부원 조회 (회장/운영진 조회)
+CREATE INDEX IF NOT EXISTS idx_users_crew_role
+    ON users (crew_id, role);
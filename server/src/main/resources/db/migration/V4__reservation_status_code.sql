@@ -0,0 +1,13 @@
+-- 예약 상태를 문자열에서 smallint 코드로 변환 (ReservationStatus: 1 = confirmed, 2 = waiting)
+-- 알 수 없는 값이 있으면 NOT NULL 위반으로 마이그레이션이 중단됩니다.
+-- 컬럼 타입 변경 시 status를 포함한 인덱스(idx_reservation_crew_date_status_created,
+-- idx_reservation_member_user_crew_status)는 함께 재생성됩니다.
+ALTER TABLE reservation
+    ALTER COLUMN status TYPE SMALLINT
+    USING CASE status
+              WHEN 'confirmed' THEN 1
+              WHEN 'waiting' THEN 2
+          END;
+
+ALTER TABLE reservation
+    ADD CONSTRAINT ck_reservation_status CHECK (status IN (1, 2));
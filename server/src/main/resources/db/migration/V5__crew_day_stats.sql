@@ -0,0 +1,18 @@
+-- 크루-날짜별 예약 현황 (달력 조회용 집계 테이블)
+-- 예약/취소/승격 시 같은 트랜잭션에서 증감하며, 기본 키 (crew_id, date) 범위 조회로 달력을 만듭니다.
+CREATE TABLE crew_day_stats (
+    crew_id         BIGINT  NOT NULL REFERENCES crew (id) ON DELETE CASCADE,
+    date            DATE    NOT NULL,
+    confirmed_count INTEGER NOT NULL DEFAULT 0,
+    waiting_count   INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (crew_id, date)
+);
+
+-- 기존 예약 기준 초기 적재 (상태 코드: 1 = 확정, 2 = 대기)
+INSERT INTO crew_day_stats (crew_id, date, confirmed_count, waiting_count)
+SELECT crew_id,
+       date,
+       SUM(CASE WHEN status = 1 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN status = 2 THEN 1 ELSE 0 END)
+FROM reservation
+GROUP BY crew_id, date;
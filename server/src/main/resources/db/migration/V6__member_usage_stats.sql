@@ -0,0 +1,19 @@
+-- 크루-부원별 시즌방 이용 횟수 (이용 통계, 나의 달력용 집계 테이블)
+-- 예약 확정/취소/승격 시 같은 트랜잭션에서 증감하며, 기본 키 (crew_id, user_id)로 조회합니다.
+CREATE TABLE member_usage_stats (
+    crew_id               BIGINT  NOT NULL REFERENCES crew (id) ON DELETE CASCADE,
+    user_id               BIGINT  NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    confirmed_count       INTEGER NOT NULL DEFAULT 0,
+    guest_confirmed_count INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (crew_id, user_id)
+);
+
+-- 기존 확정 예약 기준 초기 적재 (상태 코드: 1 = 확정)
+INSERT INTO member_usage_stats (crew_id, user_id, confirmed_count, guest_confirmed_count)
+SELECT crew_id,
+       user_id,
+       SUM(CASE WHEN guest_id IS NULL THEN 1 ELSE 0 END),
+       SUM(CASE WHEN guest_id IS NOT NULL THEN 1 ELSE 0 END)
+FROM reservation
+WHERE status = 1
+GROUP BY crew_id, user_id;
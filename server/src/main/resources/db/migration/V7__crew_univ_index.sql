@@ -0,0 +1,3 @@
+-- 대학교별 크루 목록 커서 페이지네이션 (WHERE univ = ? AND id > ? ORDER BY id)
+CREATE INDEX IF NOT EXISTS idx_crew_univ_id
+    ON crew (univ, id);
@@ -0,0 +1,128 @@
+package com.boardbuddies.boardbuddiesserver.api;
+
+import com.boardbuddies.boardbuddiesserver.service.CrewApplicationService;
+import com.boardbuddies.boardbuddiesserver.service.CrewService;
+import com.boardbuddies.boardbuddiesserver.service.CrewVersionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 크루 달력/목록 ETag (If-None-Match가 같으면 조회 없이 304, 크루 확인은 ETag 비교 전)
+ */
+@ExtendWith(MockitoExtension.class)
+class CrewControllerTest {
+
+    @InjectMocks
+    private CrewController crewController;
+
+    @Mock
+    private CrewService crewService;
+
+    @Mock
+    private CrewApplicationService crewApplicationService;
+
+    @Mock
+    private CrewVersionService crewVersionService;
+
+    private final LocalDate date = LocalDate.of(2025, 1, 15);
+
+    @Test
+    @DisplayName("크루 달력 - If-None-Match가 현재 버전과 같으면 서비스 호출 없이 304")
+    void getCrewCalendar_NotModified() {
+        // given: 첫 조회로 ETag 발급
+        given(crewVersionService.crewVersion(1L)).willReturn(5L);
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        crewController.getCrewCalendar(10L, 1L, date, false, webRequest(null, first));
+        String etag = first.getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+
+        // when
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        var response = crewController.getCrewCalendar(10L, 1L, date, false, webRequest(etag, second));
+
+        // then
+        assertThat(response).isNull();
+        assertThat(second.getStatus()).isEqualTo(304);
+        verify(crewService, times(1)).getCrewCalendar(anyLong(), anyLong(), any(LocalDate.class), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("크루 달력 - 버전이 오르면 이전 ETag로는 304가 아니라 다시 조회")
+    void getCrewCalendar_VersionBumped() {
+        // given
+        given(crewVersionService.crewVersion(1L)).willReturn(5L, 6L);
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        crewController.getCrewCalendar(10L, 1L, date, false, webRequest(null, first));
+        String etag = first.getHeader(HttpHeaders.ETAG);
+
+        // when
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        crewController.getCrewCalendar(10L, 1L, date, false, webRequest(etag, second));
+
+        // then
+        assertThat(second.getStatus()).isEqualTo(200);
+        assertThat(second.getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+        verify(crewService, times(2)).getCrewCalendar(anyLong(), anyLong(), any(LocalDate.class), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("없는 크루 달력 - If-None-Match가 같아도 304가 아니라 404")
+    void getCrewCalendar_MissingCrew_NotFoundBeforeEtag() {
+        // given
+        willThrow(new RuntimeException("해당 크루를 찾을 수 없습니다.")).given(crewService).checkCalendarAccess(10L, 1L);
+
+        // when
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        var result = crewController.getCrewBriefCalendar(10L, 1L, date,
+                webRequest("\"crew-1-v0-w2025-01-13\"", response));
+
+        // then
+        assertThat(result.getStatusCode().value()).isEqualTo(404);
+        verify(crewVersionService, never()).crewVersion(anyLong());
+        verify(crewService, never()).getCrewBriefCalendar(anyLong(), anyLong(), any(LocalDate.class));
+    }
+
+    @Test
+    @DisplayName("크루 목록 - If-None-Match가 같으면 서비스 호출 없이 304")
+    void getCrews_NotModified() {
+        // given
+        given(crewVersionService.crewListVersion()).willReturn(3L);
+
+        // when: 조건 없는 첫 페이지 ETag
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        var result = crewController.getCrews(null, null, null, webRequest("\"crews-v3-c-s-u\"", response));
+
+        // then
+        assertThat(result).isNull();
+        assertThat(response.getStatus()).isEqualTo(304);
+        verify(crewService, never()).getCrews(any(), any(), any());
+    }
+
+    private ServletWebRequest webRequest(String ifNoneMatch, MockHttpServletResponse response) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/crews");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, response);
+    }
+}
@@ -0,0 +1,60 @@
+package com.boardbuddies.boardbuddiesserver.config;
+
+import com.boardbuddies.boardbuddiesserver.domain.Role;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthContextTest {
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("현재 요청 권한 정보 - 같은 사용자일 때만 반환")
+    void current_SameUserOnly() {
+        // given
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(1L, null, List.of());
+        authentication.setDetails(new AuthContext(1L, 10L, Role.MANAGER));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        // when & then
+        assertThat(AuthContext.current(1L)).get()
+                .extracting(AuthContext::getCrewId, AuthContext::getRole)
+                .containsExactly(10L, Role.MANAGER);
+        assertThat(AuthContext.current(2L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("권한 정보 없음 (클레임이 오래됨) - 비어 있음")
+    void current_NoContext() {
+        // given
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(1L, null, List.of());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        // when & then
+        assertThat(AuthContext.current(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("크루 권한 확인 - 다른 크루, 무소속, 역할별")
+    void crewChecks() {
+        AuthContext manager = new AuthContext(1L, 10L, Role.MANAGER);
+        AuthContext president = new AuthContext(2L, 10L, Role.PRESIDENT);
+        AuthContext noCrew = new AuthContext(3L, null, Role.GUEST);
+
+        assertThat(manager.isManagerOf(10L)).isTrue();
+        assertThat(manager.isPresidentOf(10L)).isFalse();
+        assertThat(manager.isMemberOf(20L)).isFalse();
+        assertThat(president.isPresidentOf(10L)).isTrue();
+        assertThat(noCrew.isMemberOf(10L)).isFalse();
+    }
+}
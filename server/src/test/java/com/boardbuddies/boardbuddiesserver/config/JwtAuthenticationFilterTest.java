@@ -0,0 +1,116 @@
+package com.boardbuddies.boardbuddiesserver.config;
+
+import com.boardbuddies.boardbuddiesserver.domain.Role;
+import com.boardbuddies.boardbuddiesserver.service.AuthVersionService;
+import com.boardbuddies.boardbuddiesserver.service.RedisTokenService;
+import com.boardbuddies.boardbuddiesserver.util.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * JWT 인증 필터 권한 클레임 (권한 버전이 같을 때만 토큰 클레임 사용)
+ */
+class JwtAuthenticationFilterTest {
+
+    private JwtUtil jwtUtil;
+    private AuthVersionService authVersionService;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret("test-secret-key-for-jwt-authentication-filter");
+        jwtUtil = new JwtUtil(jwtProperties, new SimpleMeterRegistry());
+        jwtUtil.init();
+
+        authVersionService = mock(AuthVersionService.class);
+        filter = new JwtAuthenticationFilter(jwtUtil, mock(RedisTokenService.class), authVersionService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("권한 버전이 같으면 - 토큰 클레임으로 권한 정보 설정")
+    void currentVersion_UsesClaims() throws Exception {
+        // given
+        String token = jwtUtil.generateAccessToken(10L, 1L, Role.MANAGER, 5L);
+        when(authVersionService.findVersion(10L)).thenReturn(5L);
+
+        // when
+        doFilter(token);
+
+        // then
+        assertThat(AuthContext.current(10L)).get()
+                .extracting(AuthContext::getCrewId, AuthContext::getRole)
+                .containsExactly(1L, Role.MANAGER);
+    }
+
+    @Test
+    @DisplayName("발급 후 권한 버전이 오르면 - 이전 토큰 클레임은 쓰지 않고 인증만 유지")
+    void bumpedVersion_IgnoresStaleClaims() throws Exception {
+        // given: 역할 변경으로 버전 증가
+        String token = jwtUtil.generateAccessToken(10L, 1L, Role.MANAGER, 5L);
+        when(authVersionService.findVersion(10L)).thenReturn(6L);
+
+        // when
+        doFilter(token);
+
+        // then
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication.getPrincipal()).isEqualTo(10L);
+        assertThat(authentication.getDetails()).isNotInstanceOf(AuthContext.class);
+        assertThat(AuthContext.current(10L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("권한 버전이 없으면 (Redis 초기화) - 토큰 클레임을 쓰지 않음")
+    void missingVersion_IgnoresClaims() throws Exception {
+        // given
+        String token = jwtUtil.generateAccessToken(10L, 1L, Role.MANAGER, 5L);
+        when(authVersionService.findVersion(10L)).thenReturn(null);
+
+        // when
+        doFilter(token);
+
+        // then
+        assertThat(AuthContext.current(10L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("서명이 맞지 않는 토큰 - 예외 없이 인증 정보 없이 다음 필터로 진행")
+    void invalidSignature_ContinuesUnauthenticated() throws Exception {
+        // given
+        String token = jwtUtil.generateAccessToken(10L, 1L, Role.MANAGER, 5L);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        // when
+        MockFilterChain chain = doFilter(tampered);
+
+        // then
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    private MockFilterChain doFilter(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/crews");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        return chain;
+    }
+}
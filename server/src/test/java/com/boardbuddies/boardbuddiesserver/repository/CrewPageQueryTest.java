@@ -0,0 +1,114 @@
+package com.boardbuddies.boardbuddiesserver.repository;
+
+import com.boardbuddies.boardbuddiesserver.domain.Crew;
+import com.boardbuddies.boardbuddiesserver.domain.Role;
+import com.boardbuddies.boardbuddiesserver.domain.User;
+import com.boardbuddies.boardbuddiesserver.dto.auth.SocialProvider;
+import com.boardbuddies.boardbuddiesserver.dto.crew.CrewListResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 크루 목록 커서 페이지 조회 (회장 ID 조인, 대학교 필터)
+ */
+@DataJpaTest
+class CrewPageQueryTest {
+
+    @Autowired
+    private CrewRepository crewRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private final List<Crew> crews = new ArrayList<>();
+    private User president;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 1; i <= 5; i++) {
+            crews.add(em.persist(Crew.builder()
+                    .name("Crew" + i)
+                    .univ(i % 2 == 0 ? "A" : "B")
+                    .crewPIN(1234)
+                    .build()));
+        }
+
+        president = em.persist(User.builder()
+                .socialProvider(SocialProvider.KAKAO)
+                .socialId("social-president")
+                .name("president")
+                .build());
+        president.joinCrew(crews.get(0), Role.PRESIDENT);
+
+        User member = em.persist(User.builder()
+                .socialProvider(SocialProvider.KAKAO)
+                .socialId("social-member")
+                .name("member")
+                .build());
+        member.joinCrew(crews.get(0), Role.MEMBER);
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("커서 이후 크루 ID 순, 회장이 없는 크루도 포함")
+    void findPageAfter() {
+        // when
+        List<CrewListResponse> first = crewRepository.findPageAfter(0L, PageRequest.ofSize(2));
+        List<CrewListResponse> next = crewRepository.findPageAfter(first.get(1).getCrewId(), PageRequest.ofSize(10));
+
+        // then
+        assertThat(first).extracting(CrewListResponse::getCrewId)
+                .containsExactly(crews.get(0).getId(), crews.get(1).getId());
+        assertThat(first.get(0).getPresidentId()).isEqualTo(president.getId());
+        assertThat(first.get(1).getPresidentId()).isNull();
+        assertThat(next).extracting(CrewListResponse::getCrewId)
+                .containsExactly(crews.get(2).getId(), crews.get(3).getId(), crews.get(4).getId());
+    }
+
+    @Test
+    @DisplayName("회장이 여러 명인 크루도 한 번만, 가장 작은 사용자 ID의 회장으로 조회")
+    void findPageAfter_MultiplePresidents() {
+        // given
+        User another = em.persist(User.builder()
+                .socialProvider(SocialProvider.KAKAO)
+                .socialId("social-president-2")
+                .name("president2")
+                .build());
+        another.joinCrew(em.find(Crew.class, crews.get(0).getId()), Role.PRESIDENT);
+        em.flush();
+        em.clear();
+
+        // when
+        List<CrewListResponse> page = crewRepository.findPageAfter(0L, PageRequest.ofSize(3));
+        List<CrewListResponse> univPage = crewRepository.findPageByUnivAfter("B", 0L, PageRequest.ofSize(10));
+
+        // then
+        assertThat(page).extracting(CrewListResponse::getCrewId)
+                .containsExactly(crews.get(0).getId(), crews.get(1).getId(), crews.get(2).getId());
+        assertThat(page.get(0).getPresidentId()).isEqualTo(president.getId());
+        assertThat(univPage).extracting(CrewListResponse::getName).containsExactly("Crew1", "Crew3", "Crew5");
+    }
+
+    @Test
+    @DisplayName("대학교 필터")
+    void findPageByUnivAfter() {
+        // when
+        List<CrewListResponse> page = crewRepository.findPageByUnivAfter("B", crews.get(0).getId(),
+                PageRequest.ofSize(10));
+
+        // then
+        assertThat(page).extracting(CrewListResponse::getName).containsExactly("Crew3", "Crew5");
+    }
+}
@@ -0,0 +1,103 @@
+package com.boardbuddies.boardbuddiesserver.repository;
+
+import com.boardbuddies.boardbuddiesserver.domain.Crew;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2차 캐시 - 기본 키 조회 적중, 비즈니스 메서드 변경 후 갱신
+ * 커밋 시점에 캐시가 채워지므로 테스트 트랜잭션 없이 실행하고 직접 정리합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EntitySecondLevelCacheTest {
+
+    @Autowired
+    private CrewRepository crewRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private TransactionTemplate tx;
+    private Long crewId;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        crewId = tx.execute(status -> crewRepository.save(Crew.builder()
+                .name("Crew")
+                .univ("Univ")
+                .crewPIN(1234)
+                .build()).getId());
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        tx.executeWithoutResult(status -> crewRepository.deleteById(crewId));
+    }
+
+    @Test
+    @DisplayName("기본 키 재조회 - 2차 캐시 적중, 쿼리 없음")
+    void findById_HitsCache() {
+        // given
+        findCrew();
+        Statistics statistics = statistics();
+
+        // when
+        Crew crew = findCrew();
+
+        // then
+        assertThat(crew.getName()).isEqualTo("Crew");
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("updateName / updateDailyCapacity 커밋 - 캐시가 새 값으로 갱신")
+    void update_RefreshesCache() {
+        // given
+        findCrew();
+
+        // when
+        tx.executeWithoutResult(status -> {
+            Crew crew = crewRepository.findById(crewId).orElseThrow();
+            crew.updateName("Renamed");
+            crew.updateDailyCapacity(30);
+        });
+        Statistics statistics = statistics();
+        Crew crew = findCrew();
+
+        // then
+        assertThat(crew.getName()).isEqualTo("Renamed");
+        assertThat(crew.getDailyCapacity()).isEqualTo(30);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    private Crew findCrew() {
+        return tx.execute(status -> crewRepository.findById(crewId).orElseThrow());
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
@@ -0,0 +1,142 @@
+package com.boardbuddies.boardbuddiesserver.repository;
+
+import com.boardbuddies.boardbuddiesserver.domain.ReservationStatus;
+import com.boardbuddies.boardbuddiesserver.dto.crew.MyReservationWaitingOrder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 내 예약 + 대기 번호 조회 (ROW_NUMBER 네이티브 쿼리, smallint 상태 코드) - PostgreSQL + Flyway 마이그레이션
+ * Docker가 없는 환경에서는 건너뜁니다.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class MyReservationWaitingOrderQueryTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    private final LocalDate first = LocalDate.of(2025, 1, 15);
+    private final LocalDate second = first.plusDays(1);
+    private final LocalDateTime base = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private long crewId;
+    private long me;
+    private long cancelledReservationId;
+    private long myWaitingId;
+    private long myConfirmedId;
+
+    @BeforeEach
+    void setUp() {
+        crewId = crew();
+        long otherCrewId = crew();
+        me = user(crewId, "me");
+        long a = user(crewId, "a");
+        long b = user(crewId, "b");
+        long c = user(crewId, "c");
+        long d = user(crewId, "d");
+        long outsider = user(otherCrewId, "outsider");
+
+        // 첫째 날: 확정 1명, 대기 a -> b -> 나 -> c (다른 크루 대기는 순번에 포함하지 않음)
+        reservation(d, crewId, null, first, ReservationStatus.CONFIRMED, false, base);
+        reservation(outsider, otherCrewId, null, first, ReservationStatus.WAITING, false, base.plusMinutes(1));
+        reservation(a, crewId, null, first, ReservationStatus.WAITING, false, base.plusMinutes(2));
+        cancelledReservationId = reservation(b, crewId, null, first, ReservationStatus.WAITING, false, base.plusMinutes(3));
+        myWaitingId = reservation(me, crewId, null, first, ReservationStatus.WAITING, false, base.plusMinutes(4));
+        reservation(c, crewId, null, first, ReservationStatus.WAITING, false, base.plusMinutes(5));
+
+        // 둘째 날: 내 확정 예약(강습 신청) + 내가 등록한 게스트 대기 예약
+        myConfirmedId = reservation(me, crewId, null, second, ReservationStatus.CONFIRMED, true, base);
+        long guestId = jdbcTemplate.queryForObject(
+                "INSERT INTO guests (name, phone_number, created_at, updated_at) "
+                        + "VALUES ('guest', '010-0000-0000', now(), now()) RETURNING id",
+                Long.class);
+        reservation(me, crewId, guestId, second, ReservationStatus.WAITING, false, base.plusMinutes(1));
+
+        // 조회 범위 밖
+        reservation(me, crewId, null, second.plusDays(1), ReservationStatus.WAITING, false, base);
+    }
+
+    @Test
+    @DisplayName("대기 예약만 대기 번호, 확정 예약은 null - 게스트 예약과 범위 밖 날짜 제외, 날짜 순")
+    void findMyReservations_WaitingOrder() {
+        // when
+        List<MyReservationWaitingOrder> reservations = reservationRepository
+                .findMyReservationsWithWaitingOrder(crewId, me, first, second);
+
+        // then
+        assertThat(reservations)
+                .extracting(MyReservationWaitingOrder::getId, MyReservationWaitingOrder::getDate,
+                        MyReservationWaitingOrder::getStatus, MyReservationWaitingOrder::getTeaching,
+                        MyReservationWaitingOrder::getWaitingOrder)
+                .containsExactly(
+                        tuple(myWaitingId, first, ReservationStatus.WAITING.getCode(), false, 3),
+                        tuple(myConfirmedId, second, ReservationStatus.CONFIRMED.getCode(), true, null));
+        assertThat(ReservationStatus.fromCode(reservations.get(0).getStatus())).isEqualTo(ReservationStatus.WAITING);
+    }
+
+    @Test
+    @DisplayName("앞 순번 대기 예약 취소 - 뒤 순번 대기 번호가 하나씩 당겨짐")
+    void findMyReservations_AfterCancelInMiddle() {
+        // given
+        jdbcTemplate.update("DELETE FROM reservation WHERE id = ?", cancelledReservationId);
+
+        // when
+        List<MyReservationWaitingOrder> reservations = reservationRepository
+                .findMyReservationsWithWaitingOrder(crewId, me, first, first);
+
+        // then
+        assertThat(reservations)
+                .extracting(MyReservationWaitingOrder::getId, MyReservationWaitingOrder::getWaitingOrder)
+                .containsExactly(tuple(myWaitingId, 2));
+    }
+
+    private long crew() {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO crew (name, univ, status, crew_pin, daily_capacity, is_capacity_limited, created_at, updated_at) "
+                        + "VALUES ('Crew', 'Univ', 'ACTIVE', 1234, 1, true, now(), now()) RETURNING id",
+                Long.class);
+    }
+
+    private long user(long crewId, String socialId) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO users (social_provider, social_id, crew_id, role, is_registered, created_at, updated_at) "
+                        + "VALUES ('KAKAO', ?, ?, 'MEMBER', true, now(), now()) RETURNING id",
+                Long.class, socialId, crewId);
+    }
+
+    private long reservation(long userId, long crewId, Long guestId, LocalDate date, ReservationStatus status,
+            boolean teaching, LocalDateTime createdAt) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO reservation (user_id, crew_id, guest_id, date, status, teaching, created_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?) RETURNING id",
+                Long.class, userId, crewId, guestId, date, status.getCode(), teaching, createdAt);
+    }
+}
@@ -0,0 +1,161 @@
+package com.boardbuddies.boardbuddiesserver.repository;
+
+import com.boardbuddies.boardbuddiesserver.domain.Crew;
+import com.boardbuddies.boardbuddiesserver.domain.Guest;
+import com.boardbuddies.boardbuddiesserver.domain.Reservation;
+import com.boardbuddies.boardbuddiesserver.domain.ReservationStatus;
+import com.boardbuddies.boardbuddiesserver.domain.Role;
+import com.boardbuddies.boardbuddiesserver.domain.User;
+import com.boardbuddies.boardbuddiesserver.dto.auth.SocialProvider;
+import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationDayMember;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 날짜별 예약 상세 조회 - 엔티티 Fetch Join 조회와 프로젝션 조회 비교
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ReservationDayMemberQueryTest {
+
+    private static final int MEMBER_COUNT = 50;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Crew crew;
+    private LocalDate date;
+    private Reservation guestReservation;
+
+    @BeforeEach
+    void setUp() {
+        crew = em.persist(Crew.builder()
+                .name("Crew")
+                .univ("Univ")
+                .crewPIN(1234)
+                .dailyCapacity(MEMBER_COUNT)
+                .build());
+        date = LocalDate.now().plusDays(1);
+
+        for (int i = 1; i <= MEMBER_COUNT; i++) {
+            User user = em.persist(User.builder()
+                    .socialProvider(SocialProvider.KAKAO)
+                    .socialId("social-" + i)
+                    .name("user" + i)
+                    .build());
+            em.persist(Reservation.builder()
+                    .user(user)
+                    .crew(crew)
+                    .date(date)
+                    .status(i <= MEMBER_COUNT - 10 ? ReservationStatus.CONFIRMED : ReservationStatus.WAITING)
+                    .build());
+        }
+
+        User host = em.persist(User.builder()
+                .socialProvider(SocialProvider.KAKAO)
+                .socialId("social-host")
+                .name("host")
+                .build());
+        Guest guest = em.persist(Guest.builder()
+                .name("guest")
+                .phoneNumber("010-0000-0000")
+                .build());
+        guestReservation = em.persist(Reservation.builder()
+                .user(host)
+                .crew(crew)
+                .guest(guest)
+                .date(date)
+                .status(ReservationStatus.WAITING)
+                .build());
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("프로젝션 조회 - 단일 쿼리, 영속성 컨텍스트에 엔티티를 올리지 않음")
+    void projection_LoadsNoEntities() {
+        // given
+        Statistics statistics = statistics();
+
+        // when
+        List<ReservationDayMember> members = reservationRepository.findDayMembersByCrewIdAndDate(crew.getId(), date);
+
+        // then
+        assertThat(members).hasSize(MEMBER_COUNT + 1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(em.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("엔티티 조회 (비교) - 예약/부원/게스트 엔티티를 모두 영속성 컨텍스트에 적재")
+    void entityFetchJoin_LoadsAllEntities() {
+        // given
+        Statistics statistics = statistics();
+
+        // when
+        List<Reservation> reservations = em.getEntityManager()
+                .createQuery("SELECT r FROM Reservation r LEFT JOIN FETCH r.user LEFT JOIN FETCH r.guest " +
+                        "WHERE r.crew = :crew AND r.date = :date ORDER BY r.createdAt ASC", Reservation.class)
+                .setParameter("crew", crew)
+                .setParameter("date", date)
+                .getResultList();
+
+        // then: 예약 51 + 부원 51 + 게스트 1
+        assertThat(reservations).hasSize(MEMBER_COUNT + 1);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(2L * (MEMBER_COUNT + 1) + 1);
+        assertThat(em.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount())
+                .isEqualTo(2 * (MEMBER_COUNT + 1) + 1);
+    }
+
+    @Test
+    @DisplayName("프로젝션 조회 - 신청 순, 게스트 예약은 게스트 이름과 예약한 부원 이름을 함께 반환")
+    void projection_Columns() {
+        // when
+        List<ReservationDayMember> members = reservationRepository.findDayMembersByCrewIdAndDate(crew.getId(), date);
+
+        // then
+        assertThat(members.get(0))
+                .extracting(ReservationDayMember::getStatus, ReservationDayMember::getUserName,
+                        ReservationDayMember::getRole, ReservationDayMember::getGuestId,
+                        ReservationDayMember::getTeaching)
+                .containsExactly(ReservationStatus.CONFIRMED, "user1", Role.GUEST, null, false);
+        assertThat(members).last()
+                .extracting(ReservationDayMember::getReservationId, ReservationDayMember::getStatus,
+                        ReservationDayMember::getUserName, ReservationDayMember::getGuestName)
+                .containsExactly(guestReservation.getId(), ReservationStatus.WAITING, "host", "guest");
+        assertThat(members).filteredOn(member -> member.getStatus() == ReservationStatus.WAITING)
+                .hasSize(11)
+                .extracting(ReservationDayMember::getUserName)
+                .startsWith("user" + (MEMBER_COUNT - 9));
+        assertThat(members).filteredOn(member -> member.getGuestId() != null)
+                .extracting(ReservationDayMember::getGuestId, ReservationDayMember::getGuestName)
+                .containsExactly(tuple(guestReservation.getGuest().getId(), "guest"));
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
@@ -0,0 +1,177 @@
+package com.boardbuddies.boardbuddiesserver.repository;
+
+import com.boardbuddies.boardbuddiesserver.domain.Crew;
+import com.boardbuddies.boardbuddiesserver.domain.Guest;
+import com.boardbuddies.boardbuddiesserver.domain.ReservationStatus;
+import com.boardbuddies.boardbuddiesserver.domain.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 예약 인덱스 사용 여부 확인 (PostgreSQL + Flyway 마이그레이션)
+ * 리포지토리 메서드가 실제로 실행하는 SQL을 가로채 EXPLAIN 합니다.
+ * Docker가 없는 환경에서는 건너뜁니다.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.boardbuddies.boardbuddiesserver.repository.ReservationIndexTest$SqlCapture"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class ReservationIndexTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private long crewId;
+
+    /**
+     * Hibernate가 실행하는 SQL 기록
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        crewId = jdbcTemplate.queryForObject(
+                "INSERT INTO crew (name, univ, status, crew_pin, daily_capacity, is_capacity_limited, created_at, updated_at) "
+                        + "VALUES ('Crew', 'Univ', 'ACTIVE', 1234, 20, true, now(), now()) RETURNING id",
+                Long.class);
+        jdbcTemplate.update(
+                "INSERT INTO users (social_provider, social_id, crew_id, role, is_registered, created_at, updated_at) "
+                        + "SELECT 'KAKAO', 'social-' || g, ?, 'MEMBER', true, now(), now() "
+                        + "FROM generate_series(1, 500) g",
+                crewId);
+        jdbcTemplate.update(
+                "INSERT INTO reservation (user_id, crew_id, date, status, teaching, created_at) "
+                        + "SELECT u.id, u.crew_id, current_date + d, "
+                        + "CASE WHEN (u.id + d) % 5 = 0 THEN 2 ELSE 1 END, false, now() "
+                        + "FROM users u, generate_series(0, 13) d");
+        jdbcTemplate.execute("ANALYZE reservation");
+        // 소량 데이터에서도 인덱스 사용 가능 여부만 확인
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+    }
+
+    @Test
+    @DisplayName("크루-날짜-상태 조회 (대기열 재구성) - 복합 인덱스 사용")
+    void crewDateStatus_UsesCompositeIndex() {
+        String sql = capture(() -> reservationRepository.findByCrewIdAndDateAndStatusOrderByCreatedAtAscIdAsc(
+                crewId, LocalDate.now(), ReservationStatus.WAITING));
+
+        String plan = explain(sql, crewId, "current_date", ReservationStatus.WAITING.getCode());
+
+        assertThat(plan).contains("idx_reservation_crew_date_status_created");
+    }
+
+    @Test
+    @DisplayName("사용자 날짜 범위 조회 - (user_id, date) 인덱스 사용")
+    void userDate_UsesUserDateIndex() {
+        String sql = capture(() -> reservationRepository.findAllByUserAndDateBetweenOrderByCreatedAtDesc(
+                em.getReference(User.class, 1L), LocalDate.now(), LocalDate.now().plusDays(7)));
+
+        String plan = explain(sql, 1, "current_date", "current_date + 7");
+
+        assertThat(plan).contains("idx_reservation_user_date");
+    }
+
+    @Test
+    @DisplayName("크루 일반 예약 날짜 범위 조회 - 게스트 제외 부분 인덱스 사용")
+    void memberReservations_UsesPartialIndex() {
+        String sql = capture(() -> reservationRepository.findAllByCrewAndUserAndDateBetweenAndGuestIsNull(
+                em.getReference(Crew.class, crewId), em.getReference(User.class, 1L),
+                LocalDate.now(), LocalDate.now().plusDays(7)));
+
+        String plan = explain(sql, crewId, 1, "current_date", "current_date + 7");
+
+        assertThat(plan).containsAnyOf("idx_reservation_member_user_crew_status",
+                "uk_reservation_member_user_crew_date");
+    }
+
+    @Test
+    @DisplayName("게스트 예약 중복 체크 - 게스트 부분 인덱스 사용")
+    void guestDuplicate_UsesGuestIndex() {
+        String sql = capture(() -> reservationRepository.findByGuestAndCrewAndDate(
+                em.getReference(Guest.class, 1L), em.getReference(Crew.class, crewId), LocalDate.now()));
+
+        String plan = explain(sql, 1, crewId, "current_date");
+
+        assertThat(plan).contains("idx_reservation_guest_crew_date");
+    }
+
+    @Test
+    @DisplayName("일반 예약 중복 - 사용자-크루-날짜 유니크 제약 위반")
+    void memberDuplicate_Rejected() {
+        assertThrows(DataIntegrityViolationException.class, () -> jdbcTemplate.update(
+                "INSERT INTO reservation (user_id, crew_id, date, status, teaching, created_at) "
+                        + "SELECT user_id, crew_id, date, 2, false, now() FROM reservation "
+                        + "WHERE guest_id IS NULL LIMIT 1"));
+    }
+
+    /**
+     * 리포지토리 호출 중 실행된 마지막 조회 SQL
+     */
+    private String capture(Runnable query) {
+        SqlCapture.statements.clear();
+        query.run();
+        return SqlCapture.statements.stream()
+                .filter(sql -> sql.trim().toLowerCase().startsWith("select"))
+                .reduce((first, second) -> second)
+                .orElseThrow();
+    }
+
+    /**
+     * 바인딩 파라미터(?)를 순서대로 값으로 바꿔 실행 계획 조회
+     */
+    private String explain(String sql, Object... values) {
+        StringBuilder bound = new StringBuilder();
+        int next = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                bound.append(values[next++]);
+            } else {
+                bound.append(c);
+            }
+        }
+        assertThat(next).isEqualTo(values.length);
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + bound, String.class));
+    }
+}
@@ -0,0 +1,125 @@
+package com.boardbuddies.boardbuddiesserver.service;
+
+import com.boardbuddies.boardbuddiesserver.config.JwtProperties;
+import com.boardbuddies.boardbuddiesserver.domain.Role;
+import com.boardbuddies.boardbuddiesserver.domain.User;
+import com.boardbuddies.boardbuddiesserver.dto.auth.SocialLoginResponse;
+import com.boardbuddies.boardbuddiesserver.repository.UserRepository;
+import com.boardbuddies.boardbuddiesserver.util.JwtUtil;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 토큰 ID(jti) 기반 로그아웃 블랙리스트와 리프레시 토큰 비교
+ */
+class AuthServiceTest {
+
+    private static final String SECRET = "test-secret-key-for-auth-service-token-id";
+
+    private JwtUtil jwtUtil;
+    private RedisTokenService redisTokenService;
+    private AuthService authService;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+        jwtUtil = new JwtUtil(jwtProperties, new SimpleMeterRegistry());
+        jwtUtil.init();
+
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findFreshById(10L)).thenReturn(Optional.of(User.builder().id(10L).role(Role.MEMBER).build()));
+        redisTokenService = mock(RedisTokenService.class);
+        AuthVersionService authVersionService = mock(AuthVersionService.class);
+        when(authVersionService.currentVersion(10L)).thenReturn(1L);
+
+        authService = new AuthService(userRepository, mock(SocialLoginService.class), jwtUtil, redisTokenService,
+                jwtProperties, authVersionService);
+    }
+
+    @Test
+    @DisplayName("로그아웃 - 액세스 토큰 전체가 아닌 jti로 블랙리스트 등록")
+    void logout_BlacklistsTokenId() {
+        // given
+        String accessToken = jwtUtil.generateAccessToken(10L, 1L, Role.MEMBER, 1L);
+        String tokenId = jwtUtil.parseToken(accessToken).getId();
+
+        // when
+        authService.logout(accessToken);
+
+        // then
+        verify(redisTokenService).deleteRefreshToken(10L);
+        verify(redisTokenService).setBlackList(eq(tokenId), anyLong());
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 - 저장된 jti와 같으면 재발급하고 새 jti 저장")
+    void refreshToken_SameTokenId() {
+        // given
+        String tokenId = jwtUtil.newTokenId();
+        String refreshToken = jwtUtil.generateRefreshToken(10L, tokenId);
+        when(redisTokenService.getRefreshToken(10L)).thenReturn(tokenId);
+
+        // when
+        SocialLoginResponse response = authService.refreshToken(refreshToken);
+
+        // then
+        ArgumentCaptor<String> savedTokenId = ArgumentCaptor.forClass(String.class);
+        verify(redisTokenService).saveRefreshToken(eq(10L), savedTokenId.capture(), anyLong());
+        assertThat(savedTokenId.getValue()).isNotEqualTo(tokenId);
+        assertThat(jwtUtil.parseToken(response.getRefreshToken()).getId()).isEqualTo(savedTokenId.getValue());
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 - 저장된 jti와 다르면 (이미 재발급된 토큰) 거절")
+    void refreshToken_DifferentTokenId() {
+        // given
+        String refreshToken = jwtUtil.generateRefreshToken(10L, jwtUtil.newTokenId());
+        when(redisTokenService.getRefreshToken(10L)).thenReturn(jwtUtil.newTokenId());
+
+        // when & then
+        assertThatThrownBy(() -> authService.refreshToken(refreshToken))
+                .hasMessage("유효하지 않은 리프레시 토큰입니다.");
+        verify(redisTokenService, never()).saveRefreshToken(eq(10L), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 - jti가 없는 이전 리프레시 토큰은 저장된 토큰 전체와 비교")
+    void refreshToken_LegacyToken() {
+        // given: 이전에는 Redis에 리프레시 토큰 전체를 저장
+        String legacyToken = Jwts.builder()
+                .subject("10")
+                .claim("type", "refresh")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 60000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+        when(redisTokenService.getRefreshToken(10L)).thenReturn(legacyToken);
+
+        // when
+        SocialLoginResponse response = authService.refreshToken(legacyToken);
+
+        // then
+        assertThat(response.getAccessToken()).isNotNull();
+        verify(redisTokenService).saveRefreshToken(eq(10L), anyString(), anyLong());
+    }
+}
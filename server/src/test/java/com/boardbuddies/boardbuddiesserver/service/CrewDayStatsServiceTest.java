@@ -0,0 +1,129 @@
+package com.boardbuddies.boardbuddiesserver.service;
+
+import com.boardbuddies.boardbuddiesserver.domain.Crew;
+import com.boardbuddies.boardbuddiesserver.domain.Reservation;
+import com.boardbuddies.boardbuddiesserver.domain.ReservationStatus;
+import com.boardbuddies.boardbuddiesserver.domain.User;
+import com.boardbuddies.boardbuddiesserver.repository.CrewDayStatsRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 예약 현황 반영 (빈 행 생성, 예약/취소/승격 시 크루 데이터 버전 증가)
+ */
+@ExtendWith(MockitoExtension.class)
+class CrewDayStatsServiceTest {
+
+    @InjectMocks
+    private CrewDayStatsService crewDayStatsService;
+
+    @Mock
+    private CrewDayStatsRepository crewDayStatsRepository;
+
+    @Mock
+    private CrewVersionService crewVersionService;
+
+    @Mock
+    private ReservationChangeBus reservationChangeBus;
+
+    @Mock
+    private MemberUsageStatsService memberUsageStatsService;
+
+    private final LocalDate date = LocalDate.of(2025, 1, 15);
+    private final Crew crew = Crew.builder().id(1L).build();
+    private final User user = User.builder().id(10L).build();
+
+    @Test
+    @DisplayName("예약 - 크루 데이터 버전 증가")
+    void reserved_BumpsCrewVersion() {
+        // given
+        Reservation reservation = reservation(ReservationStatus.CONFIRMED);
+        given(crewDayStatsRepository.increment(1L, date, 1, 0)).willReturn(1);
+
+        // when
+        crewDayStatsService.reserved(reservation);
+
+        // then
+        verify(crewVersionService).bumpCrewAfterCommit(1L);
+    }
+
+    @Test
+    @DisplayName("취소 - 크루 데이터 버전 증가")
+    void removed_BumpsCrewVersion() {
+        // given
+        Reservation reservation = reservation(ReservationStatus.WAITING);
+        given(crewDayStatsRepository.increment(1L, date, 0, -1)).willReturn(1);
+
+        // when
+        crewDayStatsService.removed(reservation);
+
+        // then
+        verify(crewVersionService).bumpCrewAfterCommit(1L);
+    }
+
+    @Test
+    @DisplayName("승격 - 크루 데이터 버전 증가")
+    void promoted_BumpsCrewVersion() {
+        // given
+        Reservation reservation = reservation(ReservationStatus.CONFIRMED);
+        given(crewDayStatsRepository.increment(1L, date, 1, -1)).willReturn(1);
+
+        // when
+        crewDayStatsService.promoted(reservation);
+
+        // then
+        verify(crewVersionService).bumpCrewAfterCommit(1L);
+    }
+
+    @Test
+    @DisplayName("첫 예약 - 현황 행이 없으면 빈 행 생성 후 다시 증가")
+    void reserved_InsertsIfAbsent() {
+        // given: 첫 증가는 갱신 행 없음
+        Reservation reservation = reservation(ReservationStatus.CONFIRMED);
+        given(crewDayStatsRepository.increment(1L, date, 1, 0)).willReturn(0, 1);
+
+        // when
+        crewDayStatsService.reserved(reservation);
+
+        // then
+        InOrder inOrder = inOrder(crewDayStatsRepository);
+        inOrder.verify(crewDayStatsRepository).increment(1L, date, 1, 0);
+        inOrder.verify(crewDayStatsRepository).insertIfAbsent(1L, date);
+        inOrder.verify(crewDayStatsRepository).increment(1L, date, 1, 0);
+    }
+
+    @Test
+    @DisplayName("현황 행이 있으면 빈 행을 만들지 않음")
+    void reserved_ExistingRow_NoInsert() {
+        // given
+        given(crewDayStatsRepository.increment(1L, date, 1, 0)).willReturn(1);
+
+        // when
+        crewDayStatsService.reserved(reservation(ReservationStatus.CONFIRMED));
+
+        // then
+        verify(crewDayStatsRepository, never()).insertIfAbsent(1L, date);
+    }
+
+    private Reservation reservation(ReservationStatus status) {
+        return Reservation.builder()
+                .id(100L)
+                .user(user)
+                .crew(crew)
+                .date(date)
+                .status(status)
+                .build();
+    }
+}
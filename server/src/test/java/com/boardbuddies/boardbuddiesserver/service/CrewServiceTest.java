@@ -1,10 +1,10 @@
 package com.boardbuddies.boardbuddiesserver.service;
 
 import com.boardbuddies.boardbuddiesserver.domain.Crew;
+import com.boardbuddies.boardbuddiesserver.domain.CrewDayStats;
 import com.boardbuddies.boardbuddiesserver.domain.User;
 import com.boardbuddies.boardbuddiesserver.dto.crew.CrewUpdateRequest;
 import com.boardbuddies.boardbuddiesserver.dto.crew.CrewCalendarResponse;
-import com.boardbuddies.boardbuddiesserver.dto.crew.DailyReservationCount;
 import com.boardbuddies.boardbuddiesserver.repository.CrewRepository;
 import com.boardbuddies.boardbuddiesserver.repository.ReservationRepository;
 import com.boardbuddies.boardbuddiesserver.repository.UserRepository;
@@ -23,6 +23,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class CrewServiceTest {
@@ -45,6 +46,18 @@ class CrewServiceTest {
     @Mock
     private FileStorageService fileStorageService;
 
+    @Mock
+    private CrewDayStatsService crewDayStatsService;
+
+    @Mock
+    private CrewVersionService crewVersionService;
+
+    @Mock
+    private MemberUsageStatsService memberUsageStatsService;
+
+    @Mock
+    private AuthVersionService authVersionService;
+
     @Test
     @DisplayName("주간 간략 크루 달력 조회 - 정상 동작")
     void getCrewBriefCalendar() {
@@ -68,32 +81,22 @@ class CrewServiceTest {
         given(crewRepository.findById(crewId)).willReturn(Optional.of(crew));
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
 
-        // Mocking reservation data
-        DailyReservationCount count1 = new DailyReservationCount() {
-            @Override
-            public LocalDate getDate() {
-                return expectedStart; // Monday
-            }
-
-            @Override
-            public Long getCount() {
-                return 3L; // LOW
-            }
-        };
-        DailyReservationCount count2 = new DailyReservationCount() {
-            @Override
-            public LocalDate getDate() {
-                return expectedEnd; // Sunday
-            }
-
-            @Override
-            public Long getCount() {
-                return 12L; // HIGH
-            }
-        };
-
-        given(reservationRepository.findDailyCountsByCrewAndDateBetween(eq(crew), eq(expectedStart), eq(expectedEnd)))
-                .willReturn(List.of(count1, count2));
+        // Mocking reservation data (확정 + 대기 합계 기준)
+        CrewDayStats monday = CrewDayStats.builder()
+                .crewId(crewId)
+                .date(expectedStart) // Monday
+                .confirmedCount(2)
+                .waitingCount(1) // 3 -> LOW
+                .build();
+        CrewDayStats sunday = CrewDayStats.builder()
+                .crewId(crewId)
+                .date(expectedEnd) // Sunday
+                .confirmedCount(10)
+                .waitingCount(2) // 12 -> HIGH
+                .build();
+
+        given(crewDayStatsService.findBetween(eq(crewId), eq(expectedStart), eq(expectedEnd)))
+                .willReturn(List.of(monday, sunday));
 
         // when
         List<CrewCalendarResponse> result = crewService.getCrewBriefCalendar(userId, crewId, today);
@@ -171,7 +174,7 @@ class CrewServiceTest {
         String newName = "New Name";
 
         CrewUpdateRequest request = new CrewUpdateRequest(
-                newName, null, null, null, null, null, null);
+                newName, null, null, null, null, null, null, null);
 
         Crew crew = Crew.builder().id(crewId).name("Old Name").build();
         User user = User.builder().id(userId).build();
@@ -185,6 +188,8 @@ class CrewServiceTest {
 
         // then
         assertThat(crew.getName()).isEqualTo(newName);
+        verify(crewVersionService).bumpCrewAfterCommit(crewId);
+        verify(crewVersionService).bumpCrewListAfterCommit();
     }
 
     @Test
@@ -223,7 +228,7 @@ class CrewServiceTest {
         String newName = "New Name";
 
         com.boardbuddies.boardbuddiesserver.dto.crew.CrewUpdateRequest request = new com.boardbuddies.boardbuddiesserver.dto.crew.CrewUpdateRequest(
-                newName, null, null, null, null, null, null);
+                newName, null, null, null, null, null, null, null);
 
         Crew crew = Crew.builder().id(crewId).build();
         User user = User.builder().id(userId).build();
@@ -247,7 +252,7 @@ class CrewServiceTest {
         Long crewId = 1L;
 
         com.boardbuddies.boardbuddiesserver.dto.crew.CrewUpdateRequest request = new com.boardbuddies.boardbuddiesserver.dto.crew.CrewUpdateRequest(
-                null, null, 1234, "MONDAY", "10:00", 20, null);
+                null, null, 1234, "MONDAY", "10:00", 20, null, null);
 
         Crew crew = Crew.builder().id(crewId).build();
         User user = User.builder().id(userId).build();
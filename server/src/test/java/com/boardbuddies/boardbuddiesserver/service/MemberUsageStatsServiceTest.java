@@ -0,0 +1,133 @@
+package com.boardbuddies.boardbuddiesserver.service;
+
+import com.boardbuddies.boardbuddiesserver.domain.Crew;
+import com.boardbuddies.boardbuddiesserver.domain.Guest;
+import com.boardbuddies.boardbuddiesserver.domain.Reservation;
+import com.boardbuddies.boardbuddiesserver.domain.ReservationStatus;
+import com.boardbuddies.boardbuddiesserver.domain.User;
+import com.boardbuddies.boardbuddiesserver.dto.auth.SocialProvider;
+import com.boardbuddies.boardbuddiesserver.dto.crew.MemberUsageResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+// 빈 행 생성(ON CONFLICT DO NOTHING)은 PostgreSQL 문법이므로 H2를 PostgreSQL 모드로 실행
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:member-usage;MODE=PostgreSQL")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(MemberUsageStatsService.class)
+class MemberUsageStatsServiceTest {
+
+    @Autowired
+    private MemberUsageStatsService memberUsageStatsService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private Crew crew;
+    private User alice;
+    private User bob;
+    private Reservation aliceConfirmed;
+    private int daySequence;
+
+    @BeforeEach
+    void setUp() {
+        crew = em.persist(Crew.builder()
+                .name("Crew")
+                .univ("Univ")
+                .crewPIN(1234)
+                .build());
+        alice = persistUser("alice");
+        bob = persistUser("bob");
+        Guest guest = em.persist(Guest.builder()
+                .name("guest")
+                .phoneNumber("010-0000-0000")
+                .build());
+
+        aliceConfirmed = reserve(alice, null, ReservationStatus.CONFIRMED);
+        reserve(alice, null, ReservationStatus.CONFIRMED);
+        reserve(alice, guest, ReservationStatus.CONFIRMED);
+        reserve(alice, null, ReservationStatus.WAITING);
+        reserve(bob, null, ReservationStatus.CONFIRMED);
+        em.flush();
+    }
+
+    @Test
+    @DisplayName("재계산 - 확정 예약만, 이용 통계는 게스트 포함 / 나의 이용 횟수는 게스트 제외")
+    void rebuild_CountsConfirmedOnly() {
+        // when
+        memberUsageStatsService.rebuild(crew.getId());
+        em.clear();
+
+        // then
+        List<MemberUsageResponse> usage = memberUsageStatsService.findUsageByCrew(crew.getId());
+        assertThat(usage).extracting(MemberUsageResponse::getName, MemberUsageResponse::getUsageCount)
+                .containsExactly(tuple("alice", 3L), tuple("bob", 1L));
+        assertThat(memberUsageStatsService.findConfirmedCount(crew.getId(), alice.getId())).isEqualTo(2);
+        assertThat(memberUsageStatsService.findConfirmedCount(crew.getId(), 0L)).isZero();
+    }
+
+    @Test
+    @DisplayName("확정 예약 취소 반영 - 해당 부원 이용 횟수만 감소, 0이 되면 통계에서 제외")
+    void removedAll_Decrements() {
+        // given
+        memberUsageStatsService.rebuild(crew.getId());
+
+        // when
+        memberUsageStatsService.removedAll(List.of(aliceConfirmed));
+        memberUsageStatsService.apply(crew.getId(), bob.getId(), -1, 0);
+        em.clear();
+
+        // then
+        assertThat(memberUsageStatsService.findConfirmedCount(crew.getId(), alice.getId())).isEqualTo(1);
+        assertThat(memberUsageStatsService.findUsageByCrew(crew.getId()))
+                .extracting(MemberUsageResponse::getName, MemberUsageResponse::getUsageCount)
+                .containsExactly(tuple("alice", 2L));
+    }
+
+    @Test
+    @DisplayName("첫 이용 반영 - 행이 없으면 같은 트랜잭션에서 빈 행을 만든 뒤 증가, 이미 있으면 생성 무시")
+    void apply_InsertsIfAbsent() {
+        // given: 집계 행 없음
+        assertThat(memberUsageStatsService.findConfirmedCount(crew.getId(), bob.getId())).isZero();
+
+        // when
+        memberUsageStatsService.apply(crew.getId(), bob.getId(), 1, 0);
+        memberUsageStatsService.apply(crew.getId(), bob.getId(), 1, 1);
+        em.clear();
+
+        // then
+        assertThat(memberUsageStatsService.findConfirmedCount(crew.getId(), bob.getId())).isEqualTo(2);
+        assertThat(memberUsageStatsService.findUsageByCrew(crew.getId()))
+                .extracting(MemberUsageResponse::getName, MemberUsageResponse::getUsageCount)
+                .containsExactly(tuple("bob", 3L));
+    }
+
+    private User persistUser(String name) {
+        return em.persist(User.builder()
+                .socialProvider(SocialProvider.KAKAO)
+                .socialId("social-" + name)
+                .name(name)
+                .build());
+    }
+
+    private Reservation reserve(User user, Guest guest, ReservationStatus status) {
+        return em.persist(Reservation.builder()
+                .user(user)
+                .crew(crew)
+                .guest(guest)
+                .date(LocalDate.now().plusDays(++daySequence))
+                .status(status)
+                .build());
+    }
+}
@@ -0,0 +1,256 @@
+package com.boardbuddies.boardbuddiesserver.service;
+
+import com.boardbuddies.boardbuddiesserver.config.ReservationProperties;
+import com.boardbuddies.boardbuddiesserver.domain.Crew;
+import com.boardbuddies.boardbuddiesserver.domain.Role;
+import com.boardbuddies.boardbuddiesserver.domain.User;
+import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationMultiResponse;
+import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationRequest;
+import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationTicketResponse;
+import com.boardbuddies.boardbuddiesserver.repository.CrewRepository;
+import com.boardbuddies.boardbuddiesserver.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 예약 오픈 대기열 (등록 순서 처리, 처리 속도 제한, 대기 시간 초과, 처리 중 티켓 정리) - Redis 컨테이너
+ * Docker가 없는 환경에서는 건너뜁니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ReservationAdmissionServiceTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static RedissonClient redissonClient;
+
+    private final Crew crew = Crew.builder().id(1L).build();
+    private final ReservationRequest request = ReservationRequest.builder()
+            .crewId(1L)
+            .dates(List.of(LocalDate.now().plusDays(1)))
+            .build();
+
+    private UserRepository userRepository;
+    private ReservationService reservationService;
+    private ReservationProperties reservationProperties;
+    private ThreadPoolTaskExecutor executor;
+
+    /**
+     * 예약 엔진에 넘어온 사용자 ID (처리 순서)
+     */
+    private final List<Long> reservedUsers = new CopyOnWriteArrayList<>();
+
+    @BeforeAll
+    static void connect() {
+        Config config = new Config();
+        config.useSingleServer().setAddress("redis://" + redis.getHost() + ":" + redis.getMappedPort(6379));
+        redissonClient = Redisson.create(config);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        redissonClient.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redissonClient.getKeys().flushall();
+
+        userRepository = mock(UserRepository.class);
+        for (long userId = 10; userId <= 12; userId++) {
+            User user = User.builder().id(userId).isRegistered(true).build();
+            user.joinCrew(crew, Role.MEMBER);
+            when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        }
+
+        reservationService = mock(ReservationService.class);
+        when(reservationService.reserve(anyLong(), eq(1L), any(ReservationRequest.class))).thenAnswer(invocation -> {
+            reservedUsers.add(invocation.getArgument(0));
+            return ReservationMultiResponse.builder().crewId(1L).results(List.of()).build();
+        });
+
+        reservationProperties = new ReservationProperties();
+        reservationProperties.getAdmission().setEnabled(true);
+
+        // 처리 스레드 1개 (등록 순서대로 처리)
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(16);
+        executor.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("등록 후 처리 - 등록 순서대로 예약 엔진에 넘기고 결과 저장")
+    void enqueueThenDrain_InOrder() {
+        // given
+        ReservationAdmissionService service = newService();
+        String first = service.enqueue(11L, 1L, request).getTicketId();
+        String second = service.enqueue(10L, 1L, request).getTicketId();
+        String third = service.enqueue(12L, 1L, request).getTicketId();
+        assertThat(service.getTicket(12L, 1L, third).getPosition()).isEqualTo(3L);
+
+        // when
+        service.drain();
+
+        // then
+        awaitStatus(service, 11L, first, "DONE");
+        awaitStatus(service, 10L, second, "DONE");
+        ReservationTicketResponse done = awaitStatus(service, 12L, third, "DONE");
+        assertThat(done.getResult().getCrewId()).isEqualTo(1L);
+        assertThat(reservedUsers).containsExactly(11L, 10L, 12L);
+    }
+
+    @Test
+    @DisplayName("처리 속도 제한 - 초당 처리 건수만큼만 꺼내고 나머지는 대기 순번 유지")
+    void drain_RateLimited() {
+        // given: 초당 2건
+        reservationProperties.getAdmission().setDrainRate(2);
+        ReservationAdmissionService service = newService();
+        String first = service.enqueue(10L, 1L, request).getTicketId();
+        String second = service.enqueue(11L, 1L, request).getTicketId();
+        String third = service.enqueue(12L, 1L, request).getTicketId();
+
+        // when
+        service.drain();
+
+        // then
+        awaitStatus(service, 10L, first, "DONE");
+        awaitStatus(service, 11L, second, "DONE");
+        ReservationTicketResponse waiting = service.getTicket(12L, 1L, third);
+        assertThat(waiting.getStatus()).isEqualTo("QUEUED");
+        assertThat(waiting.getPosition()).isEqualTo(1L);
+        assertThat(reservedUsers).containsExactly(10L, 11L);
+    }
+
+    @Test
+    @DisplayName("대기 시간 초과 - 처리하지 않고 EXPIRED로 종료, 처리 허용량은 다음 티켓이 사용")
+    void drain_ExpiredTicket_ClosedWithoutPermit() throws InterruptedException {
+        // given: 대기 제한 1초, 초당 1건
+        reservationProperties.getAdmission().setTicketTtlSeconds(1);
+        reservationProperties.getAdmission().setDrainRate(1);
+        ReservationAdmissionService service = newService();
+        String expired = service.enqueue(10L, 1L, request).getTicketId();
+        Thread.sleep(1100);
+        String fresh = service.enqueue(11L, 1L, request).getTicketId();
+        assertThat(service.getTicket(10L, 1L, expired).getStatus()).isEqualTo("EXPIRED");
+
+        // when
+        service.drain();
+
+        // then
+        awaitStatus(service, 11L, fresh, "DONE");
+        ReservationTicketResponse closed = service.getTicket(10L, 1L, expired);
+        assertThat(closed.getStatus()).isEqualTo("EXPIRED");
+        assertThat(closed.getMessage()).isEqualTo("대기 시간이 초과되었습니다. 다시 시도해주세요.");
+        assertThat(reservedUsers).containsExactly(11L);
+    }
+
+    @Test
+    @DisplayName("등록 후 크루 회원이 아니게 되면 - 처리하지 않고 FAILED로 종료")
+    void drain_NoLongerMember_Failed() {
+        // given
+        ReservationAdmissionService service = newService();
+        String ticketId = service.enqueue(10L, 1L, request).getTicketId();
+        when(userRepository.findById(10L)).thenReturn(Optional.of(User.builder().id(10L).build()));
+
+        // when
+        service.drain();
+
+        // then
+        ReservationTicketResponse failed = service.getTicket(10L, 1L, ticketId);
+        assertThat(failed.getStatus()).isEqualTo("FAILED");
+        assertThat(failed.getMessage()).isEqualTo("해당 크루의 회원이 아닙니다.");
+        verify(reservationService, never()).reserve(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("처리 제한 시간 초과 - 처리 중으로 남은 티켓을 실패로 정리")
+    void sweepStuckTickets_FailsTimedOut() throws InterruptedException {
+        // given: 처리 제한 0초, 예약 엔진이 끝나지 않음
+        reservationProperties.getAdmission().setProcessingTimeoutSeconds(0);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        when(reservationService.reserve(anyLong(), eq(1L), any(ReservationRequest.class))).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return ReservationMultiResponse.builder().crewId(1L).results(List.of()).build();
+        });
+        ReservationAdmissionService service = newService();
+        String ticketId = service.enqueue(10L, 1L, request).getTicketId();
+        service.drain();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(10);
+
+        try {
+            // when
+            service.sweepStuckTickets();
+
+            // then
+            ReservationTicketResponse failed = service.getTicket(10L, 1L, ticketId);
+            assertThat(failed.getStatus()).isEqualTo("FAILED");
+            assertThat(failed.getMessage()).contains("예약 처리 시간이 초과되었습니다.");
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private ReservationAdmissionService newService() {
+        ReservationAdmissionService service = new ReservationAdmissionService(redissonClient,
+                mock(CrewRepository.class), userRepository, reservationService, reservationProperties,
+                new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry(), executor);
+        service.registerMetrics();
+        return service;
+    }
+
+    private ReservationTicketResponse awaitStatus(ReservationAdmissionService service, Long userId, String ticketId,
+            String status) {
+        long deadline = System.currentTimeMillis() + 5000;
+        ReservationTicketResponse ticket = service.getTicket(userId, 1L, ticketId);
+        while (!status.equals(ticket.getStatus()) && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            ticket = service.getTicket(userId, 1L, ticketId);
+        }
+        assertThat(ticket.getStatus()).isEqualTo(status);
+        return ticket;
+    }
+}
@@ -0,0 +1,171 @@
+package com.boardbuddies.boardbuddiesserver.service;
+
+import com.boardbuddies.boardbuddiesserver.config.ReservationProperties;
+import com.boardbuddies.boardbuddiesserver.domain.Crew;
+import com.boardbuddies.boardbuddiesserver.domain.Reservation;
+import com.boardbuddies.boardbuddiesserver.domain.Role;
+import com.boardbuddies.boardbuddiesserver.domain.User;
+import com.boardbuddies.boardbuddiesserver.dto.crew.DailyReservationCount;
+import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationMultiResponse;
+import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationOutcome;
+import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationRequest;
+import com.boardbuddies.boardbuddiesserver.repository.CrewRepository;
+import com.boardbuddies.boardbuddiesserver.repository.ReservationRepository;
+import com.boardbuddies.boardbuddiesserver.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 일괄 예약 (전체 날짜 락 + 단일 트랜잭션: 확정, 중복, 용량 초과 대기, 유니크 제약 충돌)
+ */
+@ExtendWith(MockitoExtension.class)
+class ReservationBatchTest {
+
+    @InjectMocks
+    private ReservationService reservationService;
+
+    @Mock
+    private CrewRepository crewRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private ReservationProperties reservationProperties = new ReservationProperties();
+
+    @Mock
+    private CrewDayStatsService crewDayStatsService;
+
+    @Mock
+    private ReservationWaitlist reservationWaitlist;
+
+    private final LocalDate first = LocalDate.now().plusDays(1);
+    private final LocalDate second = LocalDate.now().plusDays(2);
+    private final Crew crew = Crew.builder().id(1L).dailyCapacity(2).isCapacityLimited(true).build();
+    private final User user = User.builder().id(10L).isRegistered(true).build();
+    private final RLock firstLock = mock(RLock.class);
+    private final RLock secondLock = mock(RLock.class);
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        reservationProperties.setMultiDate(ReservationProperties.MultiDate.BATCH);
+        user.joinCrew(crew, Role.MEMBER);
+        given(crewRepository.findById(1L)).willReturn(Optional.of(crew));
+        given(userRepository.findById(10L)).willReturn(Optional.of(user));
+
+        RLock multiLock = mock(RLock.class);
+        given(redissonClient.getLock("lock:reservation:1:" + first)).willReturn(firstLock);
+        given(redissonClient.getLock("lock:reservation:1:" + second)).willReturn(secondLock);
+        given(redissonClient.getMultiLock(any(RLock[].class))).willReturn(multiLock);
+        given(multiLock.tryLock(5, -1, TimeUnit.SECONDS)).willReturn(true);
+        given(firstLock.isHeldByCurrentThread()).willReturn(true);
+        given(secondLock.isHeldByCurrentThread()).willReturn(true);
+        given(transactionTemplate.execute(any())).willAnswer(
+                invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("여러 날짜 모두 확정 - 한 번에 저장 후 날짜 락 해제")
+    void reserveBatch_AllCreated() {
+        // given
+        given(reservationRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        ReservationMultiResponse response = reserve();
+
+        // then
+        assertThat(response.getResults()).extracting(ReservationMultiResponse.ReservationResult::getStatus)
+                .containsExactly(ReservationOutcome.CREATED, ReservationOutcome.CREATED);
+        assertThat(response.getSummary().getSucceeded()).isEqualTo(2);
+        verify(firstLock).unlock();
+        verify(secondLock).unlock();
+    }
+
+    @Test
+    @DisplayName("이미 예약한 날짜 - 해당 날짜만 중복, 나머지는 확정")
+    void reserveBatch_Duplicated() {
+        // given
+        given(reservationRepository.findReservedDatesByUserAndDateIn(user, List.of(first, second)))
+                .willReturn(List.of(first));
+        given(reservationRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        ReservationMultiResponse response = reserve();
+
+        // then
+        assertThat(response.getResults()).extracting(ReservationMultiResponse.ReservationResult::getStatus)
+                .containsExactly(ReservationOutcome.DUPLICATED, ReservationOutcome.CREATED);
+    }
+
+    @Test
+    @DisplayName("수용 인원이 찬 날짜 - 해당 날짜만 대기 등록")
+    void reserveBatch_CapacityFull() {
+        // given: 첫 날짜는 정원(2명) 마감, 둘째 날짜는 1명
+        given(reservationRepository.findDailyCountsByCrewAndDateIn(crew, List.of(first, second)))
+                .willReturn(List.of(new DailyReservationCount(first, 2L), new DailyReservationCount(second, 1L)));
+        given(reservationRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        ReservationMultiResponse response = reserve();
+
+        // then
+        assertThat(response.getResults()).extracting(ReservationMultiResponse.ReservationResult::getStatus)
+                .containsExactly(ReservationOutcome.WAITING, ReservationOutcome.CREATED);
+        verify(reservationWaitlist).addAfterCommit(any(Reservation.class));
+    }
+
+    @Test
+    @DisplayName("동시 요청과 유니크 제약 충돌 - 전체 롤백, 모든 날짜 중복으로 응답하고 락 해제")
+    void reserveBatch_UniqueViolation_Duplicated() {
+        // given
+        given(reservationRepository.saveAll(anyList())).willThrow(new DataIntegrityViolationException("duplicate"));
+
+        // when
+        ReservationMultiResponse response = reserve();
+
+        // then
+        assertThat(response.getResults()).extracting(ReservationMultiResponse.ReservationResult::getStatus)
+                .containsExactly(ReservationOutcome.DUPLICATED, ReservationOutcome.DUPLICATED);
+        verify(firstLock).unlock();
+        verify(secondLock).unlock();
+    }
+
+    private ReservationMultiResponse reserve() {
+        return reservationService.reserve(10L, 1L, ReservationRequest.builder()
+                .crewId(1L)
+                .dates(List.of(first, second))
+                .build());
+    }
+}
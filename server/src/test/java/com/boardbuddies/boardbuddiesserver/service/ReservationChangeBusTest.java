@@ -0,0 +1,165 @@
+package com.boardbuddies.boardbuddiesserver.service;
+
+import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationChangeEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 예약 변경 이벤트 버스 (커밋 후 발행, 롤백 시 미발행, 처리 대기 초과 시 버림)
+ */
+class ReservationChangeBusTest {
+
+    private final ReservationChangeEvent event = ReservationChangeEvent.builder()
+            .type(ReservationChangeEvent.Type.CREATED)
+            .crewId(1L)
+            .date(LocalDate.of(2025, 1, 15))
+            .reservationId(100L)
+            .confirmedDelta(1)
+            .build();
+
+    private RTopic topic;
+    private ThreadPoolTaskExecutor executor;
+    private SimpleMeterRegistry meterRegistry;
+    private ReservationChangeBus bus;
+    private MessageListener<String> topicListener;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        topic = mock(RTopic.class);
+        when(redissonClient.getTopic("reservation:changes", StringCodec.INSTANCE)).thenReturn(topic);
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.initialize();
+
+        meterRegistry = new SimpleMeterRegistry();
+        bus = new ReservationChangeBus(redissonClient, new ObjectMapper().findAndRegisterModules(), meterRegistry,
+                executor);
+        bus.init();
+
+        ArgumentCaptor<MessageListener<String>> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(topic).addListener(eq(String.class), listener.capture());
+        topicListener = listener.getValue();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안 - 커밋 전에는 발행하지 않고 커밋 후 발행")
+    void publishAfterCommit_PublishesOnCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        bus.publishAfterCommit(List.of(event));
+
+        // then
+        verify(topic, never()).publish(anyString());
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        verify(topic).publish(anyString());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안 - 롤백되면 발행하지 않음")
+    void publishAfterCommit_RollbackDoesNotPublish() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        bus.publishAfterCommit(List.of(event));
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+                TransactionSynchronizationManager.getSynchronizations(),
+                TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // then
+        verify(topic, never()).publish(anyString());
+    }
+
+    @Test
+    @DisplayName("수신 - 등록된 리스너에 전달")
+    void receive_DispatchesToListeners() throws Exception {
+        // given
+        List<ReservationChangeEvent> received = new CopyOnWriteArrayList<>();
+        CountDownLatch dispatched = new CountDownLatch(1);
+        bus.addListener(e -> {
+            received.add(e);
+            dispatched.countDown();
+        });
+        String message = new ObjectMapper().findAndRegisterModules().writeValueAsString(List.of(event));
+
+        // when
+        topicListener.onMessage("reservation:changes", message);
+
+        // then
+        assertThat(dispatched.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(received).hasSize(1);
+        assertThat(received.get(0).getReservationId()).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("수신 - 처리 대기가 가득 차면 수신 스레드를 막지 않고 버림")
+    void receive_QueueFull_Drops() throws Exception {
+        // given: 처리 스레드가 멈춰 있고 대기열(1칸)도 가득 참
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.execute(() -> {
+        });
+        String message = new ObjectMapper().findAndRegisterModules().writeValueAsString(List.of(event));
+
+        try {
+            // when
+            topicListener.onMessage("reservation:changes", message);
+
+            // then
+            assertThat(meterRegistry.get("reservation.bus.dropped").counter().count()).isEqualTo(1);
+        } finally {
+            release.countDown();
+        }
+    }
+}
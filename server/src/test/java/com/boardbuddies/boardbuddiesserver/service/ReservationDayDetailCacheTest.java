@@ -0,0 +1,155 @@
+package com.boardbuddies.boardbuddiesserver.service;
+
+import com.boardbuddies.boardbuddiesserver.config.ReservationProperties;
+import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationChangeEvent;
+import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationDayDetailResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ReservationDayDetailCacheTest {
+
+    private static final Long CREW_ID = 1L;
+    private static final LocalDate DATE = LocalDate.of(2025, 12, 13);
+
+    private ReservationProperties reservationProperties;
+    private ReservationDayDetailCache cache;
+    private Consumer<ReservationChangeEvent> changeListener;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        reservationProperties = new ReservationProperties();
+        ReservationChangeBus reservationChangeBus = mock(ReservationChangeBus.class);
+        cache = new ReservationDayDetailCache(reservationProperties, reservationChangeBus, new SimpleMeterRegistry());
+        cache.init();
+
+        ArgumentCaptor<Consumer<ReservationChangeEvent>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(reservationChangeBus).addListener(captor.capture());
+        changeListener = captor.getValue();
+    }
+
+    @Test
+    @DisplayName("동시 조회 - 같은 크루-날짜는 한 번만 조회하고 나머지는 결과 공유")
+    void concurrentMisses_Coalesced() throws Exception {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        Future<ReservationDayDetailCache.Snapshot> first = executor.submit(() -> cache.get(CREW_ID, DATE, () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return snapshot(3);
+        }));
+        loading.await(5, TimeUnit.SECONDS);
+
+        List<Future<ReservationDayDetailCache.Snapshot>> others = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            others.add(executor.submit(() -> cache.get(CREW_ID, DATE, () -> {
+                loads.incrementAndGet();
+                return snapshot(0);
+            })));
+        }
+        release.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS).getBooked()).isEqualTo(3);
+        for (Future<ReservationDayDetailCache.Snapshot> other : others) {
+            assertThat(other.get(5, TimeUnit.SECONDS).getBooked()).isEqualTo(3);
+        }
+        assertThat(loads).hasValue(1);
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("예약 변경 이벤트 수신 - 해당 크루-날짜 스냅샷 삭제 후 다시 조회")
+    void changeEvent_Invalidates() {
+        // given
+        reservationProperties.getDetailCache().setTtlMillis(60_000);
+        cache.get(CREW_ID, DATE, () -> snapshot(1));
+
+        // when
+        changeListener.accept(ReservationChangeEvent.builder()
+                .type(ReservationChangeEvent.Type.CREATED)
+                .crewId(CREW_ID)
+                .date(DATE)
+                .confirmedDelta(1)
+                .build());
+
+        // then
+        assertThat(cache.get(CREW_ID, DATE, () -> snapshot(2)).getBooked()).isEqualTo(2);
+        assertThat(cache.get(CREW_ID, DATE.plusDays(1), () -> snapshot(5)).getBooked()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("유지 시간 경과 - 이벤트 없이도 다시 조회")
+    void expired_Reloads() {
+        // given
+        reservationProperties.getDetailCache().setTtlMillis(-1);
+        cache.get(CREW_ID, DATE, () -> snapshot(1));
+
+        // when & then
+        assertThat(cache.get(CREW_ID, DATE, () -> snapshot(2)).getBooked()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("내 예약 - 공유 스냅샷에서 사용자별로 채움")
+    void toResponse_FillsMyReservationPerUser() {
+        // given
+        ReservationDayDetailCache.Snapshot snapshot = ReservationDayDetailCache.Snapshot.builder()
+                .status("open")
+                .memberList(List.of())
+                .waitingMemberList(List.of())
+                .myReservations(Map.of(10L, ReservationDayDetailResponse.MyReservationInfo.builder()
+                        .reservationId(100L)
+                        .teaching(true)
+                        .build()))
+                .loadedAt(System.currentTimeMillis())
+                .build();
+
+        // when & then
+        assertThat(snapshot.toResponse(DATE, 10L).getMyReservation().getReservationId()).isEqualTo(100L);
+        assertThat(snapshot.toResponse(DATE, 11L).getMyReservation()).isNull();
+    }
+
+    private ReservationDayDetailCache.Snapshot snapshot(int booked) {
+        return ReservationDayDetailCache.Snapshot.builder()
+                .status("open")
+                .booked(booked)
+                .memberList(List.of())
+                .waitingMemberList(List.of())
+                .myReservations(Map.of())
+                .loadedAt(System.currentTimeMillis())
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.boardbuddies.boardbuddiesserver.service;
+
+import com.boardbuddies.boardbuddiesserver.config.ReservationProperties;
+import com.boardbuddies.boardbuddiesserver.exception.IdempotencyConflictException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RMap;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 멱등 처리 (처리 중 표시 연장, 재사용, 충돌)
+ */
+class ReservationIdempotencyServiceTest {
+
+    private RScript script;
+    private RMap<Object, Object> entry;
+    private TaskScheduler taskScheduler;
+    private ScheduledFuture<?> heartbeat;
+    private ReservationIdempotencyService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        script = mock(RScript.class);
+        entry = mock(RMap.class);
+        when(redissonClient.getScript(StringCodec.INSTANCE)).thenReturn(script);
+        when(redissonClient.getMap(anyString(), eq(StringCodec.INSTANCE))).thenReturn(entry);
+
+        taskScheduler = mock(TaskScheduler.class);
+        heartbeat = mock(ScheduledFuture.class);
+        doReturn(heartbeat).when(taskScheduler)
+                .scheduleAtFixedRate(any(Runnable.class), any(Instant.class), any(Duration.class));
+
+        service = new ReservationIdempotencyService(redissonClient, new ReservationProperties(), new ObjectMapper(),
+                new SimpleMeterRegistry(), taskScheduler);
+        service.registerMetrics();
+    }
+
+    @Test
+    @DisplayName("처음 요청 - 처리하는 동안 처리 중 표시를 유지 시간의 1/3 간격으로 연장하고, 끝나면 중단")
+    void newKey_RefreshesPendingWhileRunning() {
+        // given
+        givenBegin(List.of("NEW"));
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        ResponseEntity<?> response = service.execute(1L, "reserve:1", "key", Map.of("date", "2025-01-01"),
+                () -> {
+                    calls.incrementAndGet();
+                    return ResponseEntity.ok(Map.of("result", "ok"));
+                });
+
+        // then
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        assertThat(calls).hasValue(1);
+
+        ArgumentCaptor<Runnable> refresh = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).scheduleAtFixedRate(refresh.capture(), any(Instant.class), eq(Duration.ofSeconds(10)));
+        verify(heartbeat).cancel(false);
+        verify(entry).putAll(anyMap());
+
+        // 연장 작업은 처리 중일 때만 TTL을 다시 설정
+        refresh.getValue().run();
+        verify(script).eval(eq(RScript.Mode.READ_WRITE), contains("'PENDING'"), eq(RScript.ReturnType.INTEGER),
+                eq(List.of("idempotency:1:reserve:1:key")), eq("30"));
+    }
+
+    @Test
+    @DisplayName("처리 실패 - 키를 지워 다시 시도 가능, 연장 중단")
+    void actionFails_DeletesKey() {
+        // given
+        givenBegin(List.of("NEW"));
+
+        // when & then
+        assertThatThrownBy(() -> service.execute(1L, "reserve:1", "key", Map.of(), () -> {
+            throw new RuntimeException("실패");
+        })).hasMessage("실패");
+        verify(entry).delete();
+        verify(heartbeat).cancel(false);
+    }
+
+    @Test
+    @DisplayName("처리 중인 키 - 처리하지 않고 409")
+    void pendingKey_Conflict() {
+        // given
+        givenStored("PENDING", "", "");
+
+        // when & then
+        assertThatThrownBy(() -> service.execute(1L, "reserve:1", "key", Map.of(),
+                () -> ResponseEntity.ok().build()))
+                .isInstanceOf(IdempotencyConflictException.class);
+        verify(taskScheduler, never()).scheduleAtFixedRate(any(Runnable.class), any(Instant.class),
+                any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("처리된 키 - 저장된 응답 그대로 반환")
+    void doneKey_Replayed() {
+        // given
+        givenStored("DONE", "200", "{\"result\":\"ok\"}");
+
+        // when
+        ResponseEntity<?> response = service.execute(1L, "reserve:1", "key", Map.of(),
+                () -> {
+                    throw new AssertionError("다시 처리하면 안 됨");
+                });
+
+        // then
+        assertThat(response.getBody()).isEqualTo("{\"result\":\"ok\"}");
+        assertThat(response.getHeaders().getFirst(ReservationIdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    private void givenBegin(List<Object> result) {
+        when(script.eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.MULTI), anyList(),
+                any(Object[].class))).thenReturn(result);
+    }
+
+    /**
+     * 저장된 항목 (요청 지문은 요청마다 계산된 값을 그대로 돌려줌)
+     */
+    private void givenStored(String status, String code, String body) {
+        when(script.eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.MULTI), anyList(),
+                any(Object[].class))).thenAnswer(invocation -> List.of(status, invocation.getArgument(4), code, body));
+    }
+}
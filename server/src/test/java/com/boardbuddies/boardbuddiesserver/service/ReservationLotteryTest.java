@@ -0,0 +1,219 @@
+package com.boardbuddies.boardbuddiesserver.service;
+
+import com.boardbuddies.boardbuddiesserver.config.ReservationProperties;
+import com.boardbuddies.boardbuddiesserver.domain.Crew;
+import com.boardbuddies.boardbuddiesserver.domain.Guest;
+import com.boardbuddies.boardbuddiesserver.domain.Reservation;
+import com.boardbuddies.boardbuddiesserver.domain.ReservationStatus;
+import com.boardbuddies.boardbuddiesserver.domain.User;
+import com.boardbuddies.boardbuddiesserver.repository.CrewRepository;
+import com.boardbuddies.boardbuddiesserver.repository.GuestRepository;
+import com.boardbuddies.boardbuddiesserver.repository.ReservationRepository;
+import com.boardbuddies.boardbuddiesserver.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RLock;
+import org.redisson.api.RMap;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 추첨 배정 (추첨, 수용 인원 기준 확정/대기 배정)
+ */
+class ReservationLotteryTest {
+
+    private final LocalDate date = LocalDate.now().plusDays(7);
+    private final Crew crew = Crew.builder().id(1L).dailyCapacity(2).build();
+
+    private RedissonClient redissonClient;
+    private RScript script;
+    private RLock lock;
+    private UserRepository userRepository;
+    private GuestRepository guestRepository;
+    private ReservationRepository reservationRepository;
+    private ReservationWaitlist reservationWaitlist;
+    private ReservationLottery lottery;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws InterruptedException {
+        redissonClient = mock(RedissonClient.class);
+        script = mock(RScript.class);
+        lock = mock(RLock.class);
+        when(redissonClient.getScript(StringCodec.INSTANCE)).thenReturn(script);
+        when(redissonClient.getLock("lock:reservation:" + crew.getId() + ":" + date)).thenReturn(lock);
+        when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+        when(lock.isHeldByCurrentThread()).thenReturn(true);
+
+        userRepository = mock(UserRepository.class);
+        guestRepository = mock(GuestRepository.class);
+        reservationRepository = mock(ReservationRepository.class);
+        reservationWaitlist = mock(ReservationWaitlist.class);
+        when(reservationRepository.findByCrewAndDate(crew, date)).thenReturn(List.of());
+        when(guestRepository.findAllById(anyCollection())).thenReturn(List.of());
+
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(
+                invocation -> ((TransactionCallback<Integer>) invocation.getArgument(0)).doInTransaction(null));
+
+        ReservationProperties reservationProperties = new ReservationProperties();
+        reservationProperties.setEngine(ReservationProperties.Engine.LOCK);
+
+        lottery = new ReservationLottery(redissonClient, mock(CrewRepository.class), userRepository, guestRepository,
+                reservationRepository, transactionTemplate, reservationProperties,
+                mock(ReservationSeatCounter.class), reservationWaitlist, mock(CrewDayStatsService.class));
+    }
+
+    @Test
+    @DisplayName("추첨 - 수용 인원만큼 확정, 나머지는 대기, 모든 접수자 저장")
+    void draw_ConfirmsUpToCapacity() {
+        // given
+        List<User> users = users(10L, 11L, 12L, 13L);
+        givenEntries(users, List.of());
+
+        // when
+        lottery.draw(crew, date);
+
+        // then
+        List<Reservation> saved = savedReservations();
+        assertThat(saved).hasSize(4);
+        assertThat(saved).extracting(Reservation::getUser).containsExactlyInAnyOrderElementsOf(users);
+        assertThat(saved).filteredOn(r -> r.getStatus() == ReservationStatus.CONFIRMED).hasSize(2);
+        assertThat(saved).filteredOn(r -> r.getStatus() == ReservationStatus.WAITING).hasSize(2);
+        verify(reservationWaitlist).rebuildAfterCommit(crew, List.of(date));
+        verify(lock).unlock();
+    }
+
+    @Test
+    @DisplayName("추첨 - 기존 예약만큼 좌석을 빼고 배정, 이미 예약한 접수자는 제외 (대기열로 넘침)")
+    void draw_ExistingReservationsSpillToWaitlist() {
+        // given: 선착순으로 이미 1명 확정
+        List<User> users = users(10L, 11L, 12L);
+        Reservation existing = Reservation.builder()
+                .user(users.get(0))
+                .crew(crew)
+                .date(date)
+                .status(ReservationStatus.CONFIRMED)
+                .build();
+        when(reservationRepository.findByCrewAndDate(crew, date)).thenReturn(List.of(existing));
+        givenEntries(users, List.of());
+
+        // when
+        lottery.draw(crew, date);
+
+        // then
+        List<Reservation> saved = savedReservations();
+        assertThat(saved).extracting(Reservation::getUser).containsExactlyInAnyOrder(users.get(1), users.get(2));
+        assertThat(saved).filteredOn(r -> r.getStatus() == ReservationStatus.CONFIRMED).hasSize(1);
+        assertThat(saved).filteredOn(r -> r.getStatus() == ReservationStatus.WAITING).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("추첨 - 게스트 접수는 게스트 기준으로 배정")
+    void draw_GuestEntry() {
+        // given
+        User user = User.builder().id(10L).build();
+        Guest guest = Guest.builder().id(100L).build();
+        when(guestRepository.findAllById(anyCollection())).thenReturn(List.of(guest));
+        givenEntries(List.of(user), List.of(guest));
+
+        // when
+        lottery.draw(crew, date);
+
+        // then
+        List<Reservation> saved = savedReservations();
+        assertThat(saved).hasSize(2);
+        assertThat(saved).extracting(Reservation::getGuest).containsExactlyInAnyOrder(null, guest);
+        assertThat(saved).allMatch(r -> r.getStatus() == ReservationStatus.CONFIRMED);
+    }
+
+    @Test
+    @DisplayName("추첨 - 이미 추첨된 날짜는 다시 배정하지 않음")
+    void draw_AlreadyDrawn() {
+        // given: 마감 스크립트가 빈 목록 반환
+        when(script.eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.MULTI), anyList(),
+                any(Object[].class))).thenReturn(new ArrayList<>());
+
+        // when
+        lottery.draw(crew, date);
+
+        // then
+        verify(reservationRepository, never()).saveAll(anyCollection());
+    }
+
+    @Test
+    @DisplayName("추첨 - 저장 실패 시 마감 표시를 해제해 다시 추첨 가능")
+    @SuppressWarnings("unchecked")
+    void draw_SaveFailsReopens() {
+        // given
+        givenEntries(users(10L), List.of());
+        when(reservationRepository.saveAll(anyCollection())).thenThrow(new RuntimeException("저장 실패"));
+        RMap<Object, Object> lotteryMap = mock(RMap.class);
+        when(redissonClient.getMap("lottery:reservation:" + crew.getId() + ":" + date, StringCodec.INSTANCE))
+                .thenReturn(lotteryMap);
+
+        // when & then
+        assertThatThrownBy(() -> lottery.draw(crew, date)).hasMessage("저장 실패");
+        verify(lotteryMap).fastRemove("#drawn");
+        verify(lock).unlock();
+    }
+
+    private List<User> users(Long... ids) {
+        List<User> users = new ArrayList<>();
+        for (Long id : ids) {
+            users.add(User.builder().id(id).build());
+        }
+        when(userRepository.findAllById(anyCollection())).thenReturn(users);
+        return users;
+    }
+
+    /**
+     * 접수 목록 (사용자 본인 접수 + 첫 번째 사용자가 신청한 게스트 접수)
+     */
+    private void givenEntries(List<User> users, List<Guest> guests) {
+        List<Object> flat = new ArrayList<>();
+        for (User user : users) {
+            flat.add("u:" + user.getId());
+            flat.add(String.valueOf(user.getId()));
+        }
+        for (Guest guest : guests) {
+            flat.add("g:" + guest.getId());
+            flat.add(String.valueOf(users.get(0).getId()));
+        }
+        flat.add("#drawn");
+        flat.add("1");
+        when(script.eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.MULTI), anyList(),
+                any(Object[].class))).thenReturn(flat);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Reservation> savedReservations() {
+        ArgumentCaptor<Collection<Reservation>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(reservationRepository).saveAll(captor.capture());
+        return new ArrayList<>(captor.getValue());
+    }
+}
@@ -0,0 +1,187 @@
+package com.boardbuddies.boardbuddiesserver.service;
+
+import com.boardbuddies.boardbuddiesserver.config.ReservationProperties;
+import com.boardbuddies.boardbuddiesserver.domain.Crew;
+import com.boardbuddies.boardbuddiesserver.domain.Reservation;
+import com.boardbuddies.boardbuddiesserver.domain.Role;
+import com.boardbuddies.boardbuddiesserver.domain.User;
+import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationMultiResponse;
+import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationOutcome;
+import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationRequest;
+import com.boardbuddies.boardbuddiesserver.repository.CrewRepository;
+import com.boardbuddies.boardbuddiesserver.repository.GuestRepository;
+import com.boardbuddies.boardbuddiesserver.repository.ReservationRepository;
+import com.boardbuddies.boardbuddiesserver.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 날짜별 병렬 예약 (완료 순서와 관계없이 요청 순서대로 결과, 풀 포화 시 요청 스레드에서 처리)
+ */
+class ReservationParallelTest {
+
+    private final List<LocalDate> dates = IntStream.rangeClosed(1, 4)
+            .mapToObj(i -> LocalDate.now().plusDays(i))
+            .toList();
+    private final Crew crew = Crew.builder().id(1L).dailyCapacity(20).isCapacityLimited(true).build();
+    private final User user = User.builder().id(10L).isRegistered(true).build();
+
+    private CrewRepository crewRepository;
+    private UserRepository userRepository;
+    private ReservationRepository reservationRepository;
+    private RedissonClient redissonClient;
+    private TransactionTemplate transactionTemplate;
+    private ReservationProperties reservationProperties;
+    private final Map<LocalDate, RLock> locks = new HashMap<>();
+
+    /**
+     * 트랜잭션이 끝난 순서 (날짜, 처리 스레드)
+     */
+    private final List<LocalDate> completed = new CopyOnWriteArrayList<>();
+    private final List<Thread> completedThreads = new CopyOnWriteArrayList<>();
+
+    private ThreadPoolTaskExecutor poolExecutor;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        user.joinCrew(crew, Role.MEMBER);
+        crewRepository = mock(CrewRepository.class);
+        userRepository = mock(UserRepository.class);
+        reservationRepository = mock(ReservationRepository.class);
+        redissonClient = mock(RedissonClient.class);
+        transactionTemplate = mock(TransactionTemplate.class);
+        reservationProperties = new ReservationProperties();
+        reservationProperties.setMultiDate(ReservationProperties.MultiDate.PARALLEL);
+
+        when(crewRepository.findById(1L)).thenReturn(Optional.of(crew));
+        when(userRepository.findById(10L)).thenReturn(Optional.of(user));
+        // 셋째 날짜는 이미 예약함
+        when(reservationRepository.findAllByUserAndDateBetweenOrderByCreatedAtDesc(user, dates.get(2), dates.get(2)))
+                .thenReturn(List.of(Reservation.builder().id(1L).user(user).crew(crew).date(dates.get(2)).build()));
+
+        for (LocalDate date : dates) {
+            RLock lock = mock(RLock.class);
+            when(lock.tryLock(5, 3, TimeUnit.SECONDS)).thenReturn(true);
+            when(lock.isHeldByCurrentThread()).thenReturn(true);
+            when(redissonClient.getLock("lock:reservation:1:" + date)).thenReturn(lock);
+            locks.put(date, lock);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (poolExecutor != null) {
+            poolExecutor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("첫 날짜가 가장 늦게 끝나도 - 결과는 요청 순서대로")
+    void reserveParallel_OutOfOrderCompletion_KeepsRequestOrder() throws InterruptedException {
+        // given: 첫 날짜는 나머지 날짜가 모두 끝난 뒤에 락 획득
+        CountDownLatch othersDone = new CountDownLatch(dates.size() - 1);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            ReservationMultiResponse.ReservationResult result = invocation
+                    .<TransactionCallback<ReservationMultiResponse.ReservationResult>>getArgument(0)
+                    .doInTransaction(null);
+            completed.add(result.getDate());
+            if (!result.getDate().equals(dates.get(0))) {
+                othersDone.countDown();
+            }
+            return result;
+        });
+        doAnswer(invocation -> othersDone.await(5, TimeUnit.SECONDS))
+                .when(locks.get(dates.get(0))).tryLock(5, 3, TimeUnit.SECONDS);
+
+        // when: 날짜마다 별도 스레드
+        ReservationMultiResponse response = reserve(command -> new Thread(command).start());
+
+        // then
+        assertThat(completed.get(completed.size() - 1)).isEqualTo(dates.get(0));
+        assertThat(response.getResults()).extracting(ReservationMultiResponse.ReservationResult::getDate)
+                .containsExactlyElementsOf(dates);
+        assertThat(response.getResults()).extracting(ReservationMultiResponse.ReservationResult::getStatus)
+                .containsExactly(ReservationOutcome.CREATED, ReservationOutcome.CREATED,
+                        ReservationOutcome.DUPLICATED, ReservationOutcome.CREATED);
+    }
+
+    @Test
+    @DisplayName("전용 풀이 가득 차면 - 요청 스레드에서 처리해도 날짜별 결과 1개씩, 누락 없음")
+    void reserveParallel_CallerRuns_NoLostResults() throws InterruptedException {
+        // given: 스레드 1개, 큐 1칸 (예약 전용 풀과 같은 CallerRunsPolicy)
+        poolExecutor = new ThreadPoolTaskExecutor();
+        poolExecutor.setCorePoolSize(1);
+        poolExecutor.setMaxPoolSize(1);
+        poolExecutor.setQueueCapacity(1);
+        poolExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        poolExecutor.initialize();
+
+        // 첫 날짜는 요청 스레드가 넘친 날짜(셋째, 넷째)를 처리할 때까지 풀 스레드를 붙잡음
+        Thread caller = Thread.currentThread();
+        CountDownLatch callerRan = new CountDownLatch(2);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            ReservationMultiResponse.ReservationResult result = invocation
+                    .<TransactionCallback<ReservationMultiResponse.ReservationResult>>getArgument(0)
+                    .doInTransaction(null);
+            completed.add(result.getDate());
+            completedThreads.add(Thread.currentThread());
+            if (Thread.currentThread() == caller) {
+                callerRan.countDown();
+            }
+            return result;
+        });
+        doAnswer(invocation -> callerRan.await(5, TimeUnit.SECONDS))
+                .when(locks.get(dates.get(0))).tryLock(5, 3, TimeUnit.SECONDS);
+
+        // when
+        ReservationMultiResponse response = reserve(poolExecutor);
+
+        // then
+        assertThat(completedThreads).contains(caller);
+        assertThat(completed).containsExactlyInAnyOrderElementsOf(dates);
+        assertThat(response.getResults()).extracting(ReservationMultiResponse.ReservationResult::getDate)
+                .containsExactlyElementsOf(dates);
+        assertThat(response.getResults()).extracting(ReservationMultiResponse.ReservationResult::getStatus)
+                .containsExactly(ReservationOutcome.CREATED, ReservationOutcome.CREATED,
+                        ReservationOutcome.DUPLICATED, ReservationOutcome.CREATED);
+        assertThat(response.getSummary().getSucceeded()).isEqualTo(3);
+    }
+
+    private ReservationMultiResponse reserve(Executor executor) {
+        ReservationService reservationService = new ReservationService(crewRepository, userRepository,
+                mock(GuestRepository.class), reservationRepository,
+                redissonClient, transactionTemplate, reservationProperties, mock(ReservationSeatCounter.class),
+                mock(ReservationLottery.class), mock(ReservationWaitlist.class), mock(CrewDayStatsService.class),
+                mock(CrewVersionService.class), mock(ReservationChangeBus.class),
+                mock(ReservationDayDetailCache.class), executor);
+        return reservationService.reserve(10L, 1L, ReservationRequest.builder()
+                .crewId(1L)
+                .dates(dates)
+                .build());
+    }
+}
@@ -0,0 +1,234 @@
+package com.boardbuddies.boardbuddiesserver.service;
+
+import com.boardbuddies.boardbuddiesserver.config.ReservationProperties;
+import com.boardbuddies.boardbuddiesserver.domain.Crew;
+import com.boardbuddies.boardbuddiesserver.domain.Reservation;
+import com.boardbuddies.boardbuddiesserver.domain.ReservationStatus;
+import com.boardbuddies.boardbuddiesserver.domain.User;
+import com.boardbuddies.boardbuddiesserver.dto.auth.SocialProvider;
+import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationRequest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ ReservationService.class, ReservationProperties.class })
+class ReservationPromotionTest {
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private RedissonClient redissonClient;
+
+    @MockitoBean
+    private ReservationSeatCounter reservationSeatCounter;
+
+    @MockitoBean
+    private ReservationLottery reservationLottery;
+
+    @MockitoBean
+    private ReservationWaitlist reservationWaitlist;
+
+    @MockitoBean
+    private CrewDayStatsService crewDayStatsService;
+
+    @MockitoBean
+    private CrewVersionService crewVersionService;
+
+    @MockitoBean
+    private ReservationChangeBus reservationChangeBus;
+
+    @MockitoBean
+    private ReservationDayDetailCache reservationDayDetailCache;
+
+    @MockitoBean(name = "reservationExecutor")
+    private Executor reservationExecutor;
+
+    private Crew crew;
+    private int userSequence;
+
+    @BeforeEach
+    void setUp() {
+        crew = em.persist(Crew.builder()
+                .name("Crew")
+                .univ("Univ")
+                .crewPIN(1234)
+                .dailyCapacity(2)
+                .build());
+    }
+
+    @Test
+    @DisplayName("대기열 승격 - 날짜 수와 관계없이 3개 쿼리로 날짜별 남은 자리만큼 오래된 순 승격")
+    void promoteWaitingUsers_SetBased() {
+        // given
+        LocalDate day1 = LocalDate.now().plusDays(1);
+        LocalDate day2 = day1.plusDays(1);
+        LocalDate day3 = day1.plusDays(2);
+
+        reserve(day1, ReservationStatus.CONFIRMED);
+        Reservation day1First = reserve(day1, ReservationStatus.WAITING);
+        reserve(day1, ReservationStatus.WAITING);
+        reserve(day1, ReservationStatus.WAITING);
+
+        Reservation day2First = reserve(day2, ReservationStatus.WAITING);
+        Reservation day2Second = reserve(day2, ReservationStatus.WAITING);
+
+        reserve(day3, ReservationStatus.CONFIRMED);
+        reserve(day3, ReservationStatus.CONFIRMED);
+        reserve(day3, ReservationStatus.WAITING);
+
+        em.flush();
+        em.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        List<Reservation> promoted = reservationService.promoteWaitingUsers(crew);
+        em.flush();
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(promoted).extracting(Reservation::getId)
+                .containsExactlyInAnyOrder(day1First.getId(), day2First.getId(), day2Second.getId());
+        assertThat(promoted).allMatch(Reservation::isConfirmed);
+
+        em.clear();
+        assertThat(countByStatus(day1, ReservationStatus.CONFIRMED)).isEqualTo(2);
+        assertThat(countByStatus(day1, ReservationStatus.WAITING)).isEqualTo(2);
+        assertThat(countByStatus(day2, ReservationStatus.CONFIRMED)).isEqualTo(2);
+        assertThat(countByStatus(day3, ReservationStatus.WAITING)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기열 승격 - 남은 자리가 없으면 조회 1회로 종료")
+    void promoteWaitingUsers_NoRoom() {
+        // given
+        LocalDate day = LocalDate.now().plusDays(1);
+        reserve(day, ReservationStatus.CONFIRMED);
+        reserve(day, ReservationStatus.CONFIRMED);
+        reserve(day, ReservationStatus.WAITING);
+
+        em.flush();
+        em.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        List<Reservation> promoted = reservationService.promoteWaitingUsers(crew);
+        em.flush();
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(promoted).isEmpty();
+    }
+
+    @Test
+    @DisplayName("확정 예약 취소 - Redis 대기열이 비어 있으면 DB에서 가장 오래된 대기자 승격 후 대기열 재구성")
+    void cancel_EmptyWaitlist_PromotesFromDb() {
+        // given: Redis 대기열 유실 (first() == null)
+        LocalDate day = LocalDate.now().plusDays(1);
+        Reservation confirmed = reserve(day, ReservationStatus.CONFIRMED);
+        Reservation oldest = reserve(day, ReservationStatus.WAITING);
+        reserve(day, ReservationStatus.WAITING);
+        em.flush();
+        em.clear();
+
+        // when
+        cancel(confirmed);
+
+        // then
+        assertThat(em.find(Reservation.class, oldest.getId()).isConfirmed()).isTrue();
+        assertThat(countByStatus(day, ReservationStatus.WAITING)).isEqualTo(1);
+        verify(reservationWaitlist).rebuildAfterCommit(sameCrew(), eq(List.of(day)));
+    }
+
+    @Test
+    @DisplayName("확정 예약 취소 - 대기열 맨 앞이 이미 삭제된 예약이면 제거 후 DB에서 승격")
+    void cancel_StaleWaitlistEntry_PromotesFromDb() {
+        // given: 대기열에 DB에 없는 예약 ID만 남음
+        LocalDate day = LocalDate.now().plusDays(1);
+        Reservation confirmed = reserve(day, ReservationStatus.CONFIRMED);
+        Reservation waiting = reserve(day, ReservationStatus.WAITING);
+        em.flush();
+        em.clear();
+        given(reservationWaitlist.first(sameCrew(), eq(day))).willReturn(-1L);
+
+        // when
+        cancel(confirmed);
+
+        // then
+        verify(reservationWaitlist).remove(crew.getId(), day, -1L);
+        assertThat(em.find(Reservation.class, waiting.getId()).isConfirmed()).isTrue();
+        verify(reservationWaitlist).rebuildAfterCommit(sameCrew(), eq(List.of(day)));
+    }
+
+    private void cancel(Reservation reservation) {
+        reservationService.cancel(reservation.getUser().getId(), crew.getId(), ReservationRequest.builder()
+                .crewId(crew.getId())
+                .dates(List.of(reservation.getDate()))
+                .build());
+        em.flush();
+        em.clear();
+    }
+
+    /**
+     * 서비스가 다시 조회한 크루 (영속성 컨텍스트를 비워 다른 인스턴스)
+     */
+    private Crew sameCrew() {
+        return argThat(other -> other != null && crew.getId().equals(other.getId()));
+    }
+
+    private Reservation reserve(LocalDate date, ReservationStatus status) {
+        userSequence++;
+        User user = em.persist(User.builder()
+                .socialProvider(SocialProvider.KAKAO)
+                .socialId("social-" + userSequence)
+                .name("user" + userSequence)
+                .build());
+
+        return em.persist(Reservation.builder()
+                .user(user)
+                .crew(crew)
+                .date(date)
+                .status(status)
+                .build());
+    }
+
+    private long countByStatus(LocalDate date, ReservationStatus status) {
+        return em.getEntityManager()
+                .createQuery("SELECT COUNT(r) FROM Reservation r WHERE r.crew.id = :crewId AND r.date = :date " +
+                        "AND r.status = :status", Long.class)
+                .setParameter("crewId", crew.getId())
+                .setParameter("date", date)
+                .setParameter("status", status)
+                .getSingleResult();
+    }
+}
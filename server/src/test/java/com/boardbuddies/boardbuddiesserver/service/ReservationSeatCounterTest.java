@@ -0,0 +1,172 @@
+package com.boardbuddies.boardbuddiesserver.service;
+
+import com.boardbuddies.boardbuddiesserver.config.ReservationProperties;
+import com.boardbuddies.boardbuddiesserver.domain.Crew;
+import com.boardbuddies.boardbuddiesserver.domain.Guest;
+import com.boardbuddies.boardbuddiesserver.domain.ReservationStatus;
+import com.boardbuddies.boardbuddiesserver.domain.User;
+import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationHolder;
+import com.boardbuddies.boardbuddiesserver.repository.ReservationRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.Redisson;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 좌석 카운터 Lua 스크립트 (획득/반납/재구성) - Redis 컨테이너
+ * Docker가 없는 환경에서는 건너뜁니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ReservationSeatCounterTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static RedissonClient redissonClient;
+
+    private final LocalDate date = LocalDate.now().plusDays(7);
+    private final Crew crew = Crew.builder().id(1L).dailyCapacity(2).build();
+    private final User alice = User.builder().id(10L).build();
+    private final User bob = User.builder().id(11L).build();
+    private final User carol = User.builder().id(12L).build();
+    private final Guest guest = Guest.builder().id(100L).build();
+
+    private ReservationRepository reservationRepository;
+    private ReservationSeatCounter counter;
+
+    @BeforeAll
+    static void connect() {
+        Config config = new Config();
+        config.useSingleServer().setAddress("redis://" + redis.getHost() + ":" + redis.getMappedPort(6379));
+        redissonClient = Redisson.create(config);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        redissonClient.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redissonClient.getKeys().flushall();
+        reservationRepository = mock(ReservationRepository.class);
+        when(reservationRepository.findHoldersByCrewIdAndDate(crew.getId(), date)).thenReturn(List.of());
+        counter = new ReservationSeatCounter(redissonClient, reservationRepository, new ReservationProperties());
+    }
+
+    @Test
+    @DisplayName("획득 - 수용 인원까지 확정, 이후 대기, 같은 예약자는 중복")
+    void acquire_ConfirmsThenWaits() {
+        assertThat(counter.acquire(crew, date, alice, null)).isEqualTo(ReservationSeatCounter.Decision.CONFIRMED);
+        assertThat(counter.acquire(crew, date, bob, null)).isEqualTo(ReservationSeatCounter.Decision.CONFIRMED);
+        assertThat(counter.acquire(crew, date, carol, null)).isEqualTo(ReservationSeatCounter.Decision.WAITING);
+        assertThat(counter.acquire(crew, date, alice, null)).isEqualTo(ReservationSeatCounter.Decision.DUPLICATED);
+    }
+
+    @Test
+    @DisplayName("중복 판정 - 본인이 신청한 게스트 예약이 있으면 본인 예약은 중복 (락 엔진과 동일)")
+    void acquire_OwnGuestReservationBlocksMemberReservation() {
+        assertThat(counter.acquire(crew, date, alice, guest)).isEqualTo(ReservationSeatCounter.Decision.CONFIRMED);
+
+        assertThat(counter.acquire(crew, date, alice, null)).isEqualTo(ReservationSeatCounter.Decision.DUPLICATED);
+        assertThat(counter.acquire(crew, date, bob, guest)).isEqualTo(ReservationSeatCounter.Decision.DUPLICATED);
+    }
+
+    @Test
+    @DisplayName("반납 - 확정 좌석 반납 후 다음 신청은 확정, 같은 예약자는 다시 신청 가능")
+    void release_FreesSeat() {
+        // given
+        counter.acquire(crew, date, alice, null);
+        counter.acquire(crew, date, bob, null);
+
+        // when
+        counter.release(crew.getId(), date, alice, null, true, false);
+
+        // then
+        assertThat(counter.acquire(crew, date, carol, null)).isEqualTo(ReservationSeatCounter.Decision.CONFIRMED);
+        assertThat(counter.acquire(crew, date, alice, null)).isEqualTo(ReservationSeatCounter.Decision.WAITING);
+    }
+
+    @Test
+    @DisplayName("재구성 - DB 스냅샷 기준으로 인원을 다시 계산")
+    void rebuild_UsesSnapshot() {
+        // given
+        counter.acquire(crew, date, carol, null);
+        counter.release(crew.getId(), date, carol, null, true, false);
+        when(reservationRepository.findHoldersByCrewIdAndDate(crew.getId(), date)).thenReturn(List.of(
+                new ReservationHolder(alice.getId(), null, ReservationStatus.CONFIRMED),
+                new ReservationHolder(bob.getId(), null, ReservationStatus.CONFIRMED)));
+
+        // when
+        counter.rebuild(crew.getId(), date);
+
+        // then
+        assertThat(counter.acquire(crew, date, alice, null)).isEqualTo(ReservationSeatCounter.Decision.DUPLICATED);
+        assertThat(counter.acquire(crew, date, carol, null)).isEqualTo(ReservationSeatCounter.Decision.WAITING);
+    }
+
+    @Test
+    @DisplayName("재구성 - 스냅샷에 아직 없는(커밋 전) 획득은 유지")
+    void rebuild_KeepsInFlightAcquire() {
+        // given: alice 획득 후 저장 커밋 전, bob은 커밋 완료
+        counter.acquire(crew, date, alice, null);
+        counter.acquire(crew, date, bob, null);
+        when(reservationRepository.findHoldersByCrewIdAndDate(crew.getId(), date)).thenReturn(List.of(
+                new ReservationHolder(bob.getId(), null, ReservationStatus.CONFIRMED)));
+
+        // when
+        counter.rebuild(crew.getId(), date);
+
+        // then: 좌석 2개 모두 사용 중
+        assertThat(counter.acquire(crew, date, carol, null)).isEqualTo(ReservationSeatCounter.Decision.WAITING);
+        assertThat(counter.acquire(crew, date, alice, null)).isEqualTo(ReservationSeatCounter.Decision.DUPLICATED);
+    }
+
+    @Test
+    @DisplayName("재구성 후 롤백 보상 - 진행 중이던 좌석 반납")
+    void rebuild_ThenRollbackRelease() {
+        // given
+        counter.acquire(crew, date, alice, null);
+        counter.rebuild(crew.getId(), date);
+
+        // when: 저장 실패로 반납
+        counter.release(crew.getId(), date, alice, null, true, false);
+        counter.rebuild(crew.getId(), date);
+
+        // then
+        assertThat(counter.acquire(crew, date, bob, null)).isEqualTo(ReservationSeatCounter.Decision.CONFIRMED);
+        assertThat(counter.acquire(crew, date, carol, null)).isEqualTo(ReservationSeatCounter.Decision.CONFIRMED);
+    }
+
+    @Test
+    @DisplayName("획득 - 적재 락 대기 초과 시 예외 대신 BUSY (재시도 안내)")
+    void acquire_LoadLockTimeout_Busy() {
+        // given: 다른 스레드가 크루-날짜 예약 락 보유 중, 카운터 미적재
+        RLock lock = redissonClient.getLock("lock:reservation:" + crew.getId() + ":" + date);
+        CompletableFuture.runAsync(() -> lock.lock(30, TimeUnit.SECONDS)).join();
+
+        try {
+            // when & then
+            assertThat(counter.acquire(crew, date, alice, null)).isEqualTo(ReservationSeatCounter.Decision.BUSY);
+        } finally {
+            lock.forceUnlock();
+        }
+    }
+}
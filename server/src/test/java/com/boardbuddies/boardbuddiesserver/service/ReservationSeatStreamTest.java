@@ -0,0 +1,267 @@
+package com.boardbuddies.boardbuddiesserver.service;
+
+import com.boardbuddies.boardbuddiesserver.config.ReservationProperties;
+import com.boardbuddies.boardbuddiesserver.domain.Crew;
+import com.boardbuddies.boardbuddiesserver.domain.CrewDayStats;
+import com.boardbuddies.boardbuddiesserver.domain.CrewDayStatsId;
+import com.boardbuddies.boardbuddiesserver.domain.Role;
+import com.boardbuddies.boardbuddiesserver.domain.User;
+import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationChangeEvent;
+import com.boardbuddies.boardbuddiesserver.dto.reservation.ReservationSeatEvent;
+import com.boardbuddies.boardbuddiesserver.repository.CrewDayStatsRepository;
+import com.boardbuddies.boardbuddiesserver.repository.CrewRepository;
+import com.boardbuddies.boardbuddiesserver.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 좌석 현황 실시간 전송 (구독, 변경 묶음 전송, 끊어진 연결 정리)
+ */
+class ReservationSeatStreamTest {
+
+    private final LocalDate date = LocalDate.of(2025, 1, 15);
+    private final Crew crew = Crew.builder().id(1L).dailyCapacity(10).build();
+    private final User member = User.builder().id(10L).build();
+
+    private ReservationSeatStream stream;
+    private CrewDayStatsRepository crewDayStatsRepository;
+    private ReservationProperties reservationProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private Consumer<ReservationChangeEvent> changeListener;
+
+    /**
+     * 전송 풀 대신 쌓아 두었다가 runTasks()로 실행
+     */
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        member.joinCrew(crew, Role.MEMBER);
+        crewDayStatsRepository = mock(CrewDayStatsRepository.class);
+        givenStats(3, 1);
+
+        CrewRepository crewRepository = mock(CrewRepository.class);
+        UserRepository userRepository = mock(UserRepository.class);
+        when(crewRepository.findById(1L)).thenReturn(Optional.of(crew));
+        when(userRepository.findById(10L)).thenReturn(Optional.of(member));
+        when(userRepository.findById(11L)).thenReturn(Optional.of(User.builder().id(11L).build()));
+
+        reservationProperties = new ReservationProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        ReservationChangeBus reservationChangeBus = mock(ReservationChangeBus.class);
+        stream = newStream(crewRepository, userRepository, reservationChangeBus, tasks::add, false);
+        stream.registerMetrics();
+
+        ArgumentCaptor<Consumer<ReservationChangeEvent>> listener = ArgumentCaptor.forClass(Consumer.class);
+        verify(reservationChangeBus).addListener(listener.capture());
+        changeListener = listener.getValue();
+    }
+
+    @Test
+    @DisplayName("구독 - 연결 직후 현재 현황 전송")
+    void subscribe_SendsCurrentSeats() {
+        // when
+        stream.subscribe(10L, 1L, date);
+        runTasks();
+
+        // then
+        assertThat(emitters.get(0).seats()).singleElement().satisfies(event -> {
+            assertThat(event.getBooked()).isEqualTo(3);
+            assertThat(event.getWaitingCount()).isEqualTo(1);
+            assertThat(event.getCapacity()).isEqualTo(10);
+        });
+        assertThat(subscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("구독 - 크루 회원이 아니면 거절")
+    void subscribe_NotMember() {
+        assertThatThrownBy(() -> stream.subscribe(11L, 1L, date))
+                .hasMessage("해당 크루의 회원이 아닙니다.");
+        assertThat(subscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("변경 묶음 - 주기 안의 여러 변경은 조회 1회, 보내지 못한 현황은 최신 것만 전송")
+    void flush_CoalescesChanges() {
+        // given
+        stream.subscribe(10L, 1L, date);
+        runTasks();
+
+        // when: 같은 크루-날짜 변경 2건 후 전송, 전송 전에 다시 변경 후 전송
+        changed();
+        changed();
+        stream.flush();
+        givenStats(4, 1);
+        changed();
+        stream.flush();
+
+        // then: 조회는 구독 1회 + 전송 2회, 전송 작업은 1개만 대기
+        verify(crewDayStatsRepository, times(3)).findById(any(CrewDayStatsId.class));
+        assertThat(tasks).hasSize(1);
+        runTasks();
+        assertThat(emitters.get(0).seats()).extracting(ReservationSeatEvent::getBooked).containsExactly(3, 4);
+    }
+
+    @Test
+    @DisplayName("끊어진 연결 - 전송 실패 시 구독자에서 제외")
+    void send_Fails_RemovesEmitter() {
+        // given
+        stream.subscribe(10L, 1L, date);
+        runTasks();
+        emitters.get(0).fail = true;
+
+        // when
+        changed();
+        stream.flush();
+        runTasks();
+
+        // then
+        assertThat(subscriberCount()).isZero();
+        assertThat(meterRegistry.get("reservation.stream.dropped").counter().count()).isEqualTo(1);
+
+        // 이후 변경은 조회하지 않음
+        changed();
+        stream.flush();
+        verify(crewDayStatsRepository, times(2)).findById(any(CrewDayStatsId.class));
+    }
+
+    @Test
+    @DisplayName("느린 연결 - 전송이 제한 시간을 넘기면 연결 유지 주기에 구독자에서 제외")
+    void heartbeat_DropsStuckEmitter() throws InterruptedException {
+        // given: 실제 스레드에서 전송, 클라이언트가 읽지 않아 쓰기가 멈춤
+        reservationProperties.getStream().setSendTimeoutMillis(10);
+        meterRegistry = new SimpleMeterRegistry();
+        stream = newStream(mockCrewRepository(), mockUserRepository(), mock(ReservationChangeBus.class),
+                task -> new Thread(task).start(), true);
+        stream.registerMetrics();
+
+        stream.subscribe(10L, 1L, date);
+        RecordingEmitter emitter = emitters.get(0);
+        assertThat(emitter.entered.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(50);
+
+        try {
+            // when
+            stream.heartbeat();
+
+            // then
+            assertThat(subscriberCount()).isZero();
+            assertThat(meterRegistry.get("reservation.stream.dropped").counter().count()).isEqualTo(1);
+        } finally {
+            emitter.release.countDown();
+        }
+    }
+
+    private ReservationSeatStream newStream(CrewRepository crewRepository, UserRepository userRepository,
+            ReservationChangeBus reservationChangeBus, Executor executor, boolean blocking) {
+        return new ReservationSeatStream(crewDayStatsRepository, crewRepository, userRepository,
+                reservationProperties, meterRegistry, reservationChangeBus, executor) {
+            @Override
+            SseEmitter createEmitter(long timeoutMillis) {
+                RecordingEmitter emitter = new RecordingEmitter(blocking);
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    private CrewRepository mockCrewRepository() {
+        CrewRepository crewRepository = mock(CrewRepository.class);
+        when(crewRepository.findById(1L)).thenReturn(Optional.of(crew));
+        return crewRepository;
+    }
+
+    private UserRepository mockUserRepository() {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findById(10L)).thenReturn(Optional.of(member));
+        return userRepository;
+    }
+
+    private void givenStats(int confirmed, int waiting) {
+        when(crewDayStatsRepository.findById(new CrewDayStatsId(1L, date))).thenReturn(Optional.of(
+                CrewDayStats.builder().crewId(1L).date(date).confirmedCount(confirmed).waitingCount(waiting).build()));
+    }
+
+    private void changed() {
+        changeListener.accept(ReservationChangeEvent.builder()
+                .type(ReservationChangeEvent.Type.CREATED)
+                .crewId(1L)
+                .date(date)
+                .build());
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    private double subscriberCount() {
+        return meterRegistry.get("reservation.stream.subscribers").gauge().value();
+    }
+
+    /**
+     * 보낸 이벤트를 기록하는 연결 (fail이면 연결 종료, blocking이면 release 전까지 쓰기 멈춤)
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final boolean blocking;
+        private final List<Object> sent = new CopyOnWriteArrayList<>();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean fail;
+
+        RecordingEmitter(boolean blocking) {
+            this.blocking = blocking;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (fail) {
+                throw new IOException("Broken pipe");
+            }
+            if (blocking) {
+                entered.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            builder.build().forEach(data -> sent.add(data.getData()));
+        }
+
+        List<ReservationSeatEvent> seats() {
+            return sent.stream()
+                    .filter(ReservationSeatEvent.class::isInstance)
+                    .map(ReservationSeatEvent.class::cast)
+                    .toList();
+        }
+    }
+}
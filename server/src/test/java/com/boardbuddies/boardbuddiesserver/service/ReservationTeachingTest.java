@@ -0,0 +1,95 @@
+package com.boardbuddies.boardbuddiesserver.service;
+
+import com.boardbuddies.boardbuddiesserver.domain.Crew;
+import com.boardbuddies.boardbuddiesserver.domain.Reservation;
+import com.boardbuddies.boardbuddiesserver.domain.ReservationStatus;
+import com.boardbuddies.boardbuddiesserver.domain.Role;
+import com.boardbuddies.boardbuddiesserver.domain.User;
+import com.boardbuddies.boardbuddiesserver.repository.CrewRepository;
+import com.boardbuddies.boardbuddiesserver.repository.ReservationRepository;
+import com.boardbuddies.boardbuddiesserver.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 강습 신청/취소 (크루 데이터 버전 증가)
+ */
+@ExtendWith(MockitoExtension.class)
+class ReservationTeachingTest {
+
+    @InjectMocks
+    private ReservationService reservationService;
+
+    @Mock
+    private CrewRepository crewRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private CrewVersionService crewVersionService;
+
+    @Mock
+    private ReservationChangeBus reservationChangeBus;
+
+    private final Crew crew = Crew.builder().id(1L).build();
+    private final User user = User.builder().id(10L).build();
+    private Reservation reservation;
+
+    @BeforeEach
+    void setUp() {
+        user.joinCrew(crew, Role.MEMBER);
+        reservation = Reservation.builder()
+                .id(100L)
+                .user(user)
+                .crew(crew)
+                .date(LocalDate.of(2025, 1, 15))
+                .status(ReservationStatus.CONFIRMED)
+                .build();
+        given(crewRepository.findById(1L)).willReturn(Optional.of(crew));
+        given(userRepository.findById(10L)).willReturn(Optional.of(user));
+        given(reservationRepository.findById(100L)).willReturn(Optional.of(reservation));
+    }
+
+    @Test
+    @DisplayName("강습 신청 - 크루 데이터 버전 증가")
+    void applyTeaching_BumpsCrewVersion() {
+        // when
+        reservationService.applyTeaching(10L, 1L, 100L);
+
+        // then
+        assertThat(reservation.getTeaching()).isTrue();
+        verify(crewVersionService).bumpCrewAfterCommit(1L);
+        verify(reservationChangeBus).publishAfterCommit(anyList());
+    }
+
+    @Test
+    @DisplayName("강습 취소 - 크루 데이터 버전 증가")
+    void cancelTeaching_BumpsCrewVersion() {
+        // given
+        reservation.applyTeaching();
+
+        // when
+        reservationService.cancelTeaching(10L, 1L, 100L);
+
+        // then
+        assertThat(reservation.getTeaching()).isFalse();
+        verify(crewVersionService).bumpCrewAfterCommit(1L);
+    }
+}
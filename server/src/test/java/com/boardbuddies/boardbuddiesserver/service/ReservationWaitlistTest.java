@@ -0,0 +1,199 @@
+package com.boardbuddies.boardbuddiesserver.service;
+
+import com.boardbuddies.boardbuddiesserver.domain.Crew;
+import com.boardbuddies.boardbuddiesserver.domain.Reservation;
+import com.boardbuddies.boardbuddiesserver.domain.ReservationStatus;
+import com.boardbuddies.boardbuddiesserver.repository.ReservationRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.config.Config;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 대기열 (등록/제거/대기 번호, DB 기준 재구성, 재구성 중 등록) - Redis 컨테이너
+ * Docker가 없는 환경에서는 건너뜁니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ReservationWaitlistTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static RedissonClient redissonClient;
+
+    private final LocalDate date = LocalDate.now().plusDays(7);
+    private final Crew crew = Crew.builder().id(1L).build();
+    private final LocalDateTime base = LocalDateTime.now().withNano(0);
+
+    private ReservationRepository reservationRepository;
+    private ReservationWaitlist waitlist;
+
+    @BeforeAll
+    static void connect() {
+        Config config = new Config();
+        config.useSingleServer().setAddress("redis://" + redis.getHost() + ":" + redis.getMappedPort(6379));
+        redissonClient = Redisson.create(config);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        redissonClient.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redissonClient.getKeys().flushall();
+        reservationRepository = mock(ReservationRepository.class);
+        waitlist = new ReservationWaitlist(redissonClient, reservationRepository);
+    }
+
+    @Test
+    @DisplayName("첫 조회 - DB에서 적재, 등록 시각 순 (같으면 예약 ID 순) 대기 번호")
+    void position_LoadsFromDb() {
+        // given: 10번과 9번은 등록 시각이 같음 (0 채움으로 9번이 앞)
+        givenWaiting(waiting(10L, base), waiting(9L, base), waiting(3L, base.plusSeconds(1)));
+
+        // when & then
+        assertThat(waitlist.position(crew, date, 9L)).isEqualTo(1);
+        assertThat(waitlist.position(crew, date, 10L)).isEqualTo(2);
+        assertThat(waitlist.position(crew, date, 3L)).isEqualTo(3);
+        assertThat(waitlist.position(crew, date, 99L)).isNull();
+        assertThat(waitlist.first(crew, date)).isEqualTo(9L);
+        verify(reservationRepository, times(1))
+                .findByCrewIdAndDateAndStatusOrderByCreatedAtAscIdAsc(crew.getId(), date, ReservationStatus.WAITING);
+    }
+
+    @Test
+    @DisplayName("대기 등록 - 적재된 대기열 끝에 추가")
+    void add_AppendsToLoadedWaitlist() {
+        // given
+        givenWaiting(waiting(1L, base));
+        waitlist.rebuild(crew.getId(), date);
+
+        // when
+        waitlist.addAfterCommit(waiting(2L, base.plusSeconds(1)));
+
+        // then
+        assertThat(waitlist.position(crew, date, 2L)).isEqualTo(2);
+        verify(reservationRepository, times(1))
+                .findByCrewIdAndDateAndStatusOrderByCreatedAtAscIdAsc(crew.getId(), date, ReservationStatus.WAITING);
+    }
+
+    @Test
+    @DisplayName("대기 등록 - 적재되지 않은 대기열이면 추가 대신 DB 기준 재구성")
+    void add_NotLoaded_Rebuilds() {
+        // given: 이미 커밋되어 DB에 있는 대기 예약
+        Reservation added = waiting(2L, base.plusSeconds(1));
+        givenWaiting(waiting(1L, base), added);
+
+        // when
+        waitlist.addAfterCommit(added);
+
+        // then
+        assertThat(waitlist.position(crew, date, 1L)).isEqualTo(1);
+        assertThat(waitlist.position(crew, date, 2L)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("제거 - 뒤 순번이 당겨지고, 0 채움 이전 형식 멤버도 제거")
+    void remove_ShiftsPositions() {
+        // given
+        givenWaiting(waiting(1L, base), waiting(2L, base.plusSeconds(1)), waiting(3L, base.plusSeconds(2)));
+        waitlist.rebuild(crew.getId(), date);
+        redissonClient.getScoredSortedSet("waitlist:reservation:" + crew.getId() + ":" + date, StringCodec.INSTANCE)
+                .add(0, "4");
+
+        // when
+        waitlist.removeAfterCommit(crew.getId(), date, 1L);
+        waitlist.remove(crew.getId(), date, 4L);
+
+        // then
+        assertThat(waitlist.position(crew, date, 1L)).isNull();
+        assertThat(waitlist.first(crew, date)).isEqualTo(2L);
+        assertThat(waitlist.position(crew, date, 3L)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재구성 - DB에서 빠진 예약은 제거, 새 예약은 추가")
+    void rebuild_ReplacesWithDb() {
+        // given
+        givenWaiting(waiting(1L, base), waiting(2L, base.plusSeconds(1)));
+        waitlist.rebuild(crew.getId(), date);
+        givenWaiting(waiting(2L, base.plusSeconds(1)), waiting(5L, base.plusSeconds(2)));
+
+        // when
+        waitlist.rebuildAfterCommit(crew, List.of(date));
+
+        // then
+        assertThat(waitlist.position(crew, date, 1L)).isNull();
+        assertThat(waitlist.position(crew, date, 2L)).isEqualTo(1);
+        assertThat(waitlist.position(crew, date, 5L)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재구성 중 등록 - DB 조회 이후 커밋된 대기 등록이 덮어쓰기로 사라지지 않음")
+    void rebuild_ConcurrentAdd_KeepsAddedMember() throws Exception {
+        // given: 적재된 대기열, 재구성의 DB 조회는 등록 시도 후에 끝남
+        givenWaiting(waiting(1L, base));
+        waitlist.rebuild(crew.getId(), date);
+
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(reservationRepository.findByCrewIdAndDateAndStatusOrderByCreatedAtAscIdAsc(
+                crew.getId(), date, ReservationStatus.WAITING)).thenAnswer(invocation -> {
+                    reading.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return List.of(waiting(1L, base));
+                });
+
+        // when
+        CompletableFuture<Void> rebuild = CompletableFuture.runAsync(() -> waitlist.rebuild(crew.getId(), date));
+        assertThat(reading.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Void> add = CompletableFuture.runAsync(
+                () -> waitlist.addAfterCommit(waiting(2L, base.plusSeconds(1))));
+        Thread.sleep(200);
+        assertThat(add).isNotDone();
+        release.countDown();
+        CompletableFuture.allOf(rebuild, add).get(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(waitlist.position(crew, date, 1L)).isEqualTo(1);
+        assertThat(waitlist.position(crew, date, 2L)).isEqualTo(2);
+    }
+
+    private void givenWaiting(Reservation... reservations) {
+        when(reservationRepository.findByCrewIdAndDateAndStatusOrderByCreatedAtAscIdAsc(
+                crew.getId(), date, ReservationStatus.WAITING)).thenReturn(List.of(reservations));
+    }
+
+    private Reservation waiting(Long id, LocalDateTime createdAt) {
+        return Reservation.builder()
+                .id(id)
+                .crew(crew)
+                .date(date)
+                .status(ReservationStatus.WAITING)
+                .createdAt(createdAt)
+                .build();
+    }
+}
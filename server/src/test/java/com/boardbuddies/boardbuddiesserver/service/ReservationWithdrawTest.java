@@ -0,0 +1,90 @@
+package com.boardbuddies.boardbuddiesserver.service;
+
+import com.boardbuddies.boardbuddiesserver.config.ReservationProperties;
+import com.boardbuddies.boardbuddiesserver.domain.Crew;
+import com.boardbuddies.boardbuddiesserver.domain.Reservation;
+import com.boardbuddies.boardbuddiesserver.domain.ReservationStatus;
+import com.boardbuddies.boardbuddiesserver.domain.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 회원 탈퇴로 삭제한 예약 반영 (크루-날짜별 대기열, 좌석 카운터 재구성)
+ */
+@ExtendWith(MockitoExtension.class)
+class ReservationWithdrawTest {
+
+    @InjectMocks
+    private ReservationService reservationService;
+
+    @Mock
+    private ReservationProperties reservationProperties;
+
+    @Mock
+    private ReservationWaitlist reservationWaitlist;
+
+    @Mock
+    private ReservationSeatCounter reservationSeatCounter;
+
+    private final Crew crew = Crew.builder().id(1L).build();
+    private final Crew otherCrew = Crew.builder().id(2L).build();
+    private final User user = User.builder().id(10L).build();
+    private final LocalDate date = LocalDate.of(2025, 1, 15);
+
+    @Test
+    @DisplayName("카운터 엔진 - 크루별로 겹치지 않는 날짜의 대기열과 좌석 카운터 재구성")
+    void reservationsRemoved_RebuildsPerCrewDay() {
+        // given
+        given(reservationProperties.getEngine()).willReturn(ReservationProperties.Engine.COUNTER);
+        List<Reservation> reservations = List.of(
+                reservation(1L, crew, date, ReservationStatus.CONFIRMED),
+                reservation(2L, crew, date.plusDays(1), ReservationStatus.WAITING),
+                reservation(3L, crew, date, ReservationStatus.CONFIRMED),
+                reservation(4L, otherCrew, date, ReservationStatus.WAITING));
+
+        // when
+        reservationService.reservationsRemoved(reservations);
+
+        // then
+        verify(reservationWaitlist).rebuildAfterCommit(crew, List.of(date, date.plusDays(1)));
+        verify(reservationSeatCounter).rebuildAfterCommit(crew, List.of(date, date.plusDays(1)));
+        verify(reservationWaitlist).rebuildAfterCommit(otherCrew, List.of(date));
+        verify(reservationSeatCounter).rebuildAfterCommit(otherCrew, List.of(date));
+    }
+
+    @Test
+    @DisplayName("락 엔진 - 대기열만 재구성")
+    void reservationsRemoved_LockEngine_WaitlistOnly() {
+        // given
+        given(reservationProperties.getEngine()).willReturn(ReservationProperties.Engine.LOCK);
+
+        // when
+        reservationService.reservationsRemoved(List.of(reservation(1L, crew, date, ReservationStatus.WAITING)));
+
+        // then
+        verify(reservationWaitlist).rebuildAfterCommit(crew, List.of(date));
+        verify(reservationSeatCounter, never()).rebuildAfterCommit(any(), any());
+    }
+
+    private Reservation reservation(Long id, Crew crew, LocalDate date, ReservationStatus status) {
+        return Reservation.builder()
+                .id(id)
+                .user(user)
+                .crew(crew)
+                .date(date)
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,128 @@
+package com.boardbuddies.boardbuddiesserver.service;
+
+import com.boardbuddies.boardbuddiesserver.config.JwtProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RKeys;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.client.codec.StringCodec;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenBlacklistFilterTest {
+
+    private RKeys keys;
+    private RTopic topic;
+    private TokenBlacklistFilter filter;
+    private MessageListener<String> messageListener;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        keys = mock(RKeys.class);
+        topic = mock(RTopic.class);
+        when(redissonClient.getKeys()).thenReturn(keys);
+        when(redissonClient.getTopic(any(), eq(StringCodec.INSTANCE))).thenReturn(topic);
+        when(keys.getKeysByPattern(RedisTokenService.BLACKLIST_KEY_PREFIX + "*"))
+                .thenReturn(List.of(RedisTokenService.BLACKLIST_KEY_PREFIX + "seeded"));
+
+        filter = new TokenBlacklistFilter(redissonClient, new JwtProperties(), new SimpleMeterRegistry());
+        filter.init();
+
+        ArgumentCaptor<MessageListener<String>> captor = ArgumentCaptor.forClass(MessageListener.class);
+        verify(topic).addListener(eq(String.class), captor.capture());
+        messageListener = captor.getValue();
+    }
+
+    @Test
+    @DisplayName("시작 시 Redis 블랙리스트 적재 - 적재된 토큰만 Redis 확인 대상")
+    void seeded_MightContain() {
+        assertThat(filter.mightContain("seeded")).isTrue();
+        assertThat(filter.mightContain("unknown")).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 서버의 로그아웃 알림 수신 - Redis 확인 대상에 추가")
+    void message_Added() {
+        // when
+        messageListener.onMessage("token:blacklist", "other");
+
+        // then
+        assertThat(filter.mightContain("other")).isTrue();
+    }
+
+    @Test
+    @DisplayName("로그아웃 - 즉시 반영 후 다른 서버에 알림")
+    void add_PublishesAndContains() {
+        // when
+        filter.add("logout");
+
+        // then
+        assertThat(filter.mightContain("logout")).isTrue();
+        verify(topic).publish("logout");
+    }
+
+    @Test
+    @DisplayName("세대 교체 두 번 - 만료된(Redis에 없는) 토큰은 필터에서 제외")
+    void rotateTwice_DropsExpired() {
+        // given
+        filter.add("logout");
+        when(keys.getKeysByPattern(RedisTokenService.BLACKLIST_KEY_PREFIX + "*")).thenReturn(List.of());
+
+        // when
+        filter.rotate();
+        boolean afterFirst = filter.mightContain("logout");
+        filter.rotate();
+
+        // then
+        assertThat(afterFirst).isTrue();
+        assertThat(filter.mightContain("logout")).isFalse();
+    }
+
+    @Test
+    @DisplayName("세대 교체 중 Redis 조회 실패 - 빈 세대로 바꾸지 않고 기존 세대 유지")
+    void rotate_SeedFails_KeepsGenerations() {
+        // given
+        filter.add("logout");
+        when(keys.getKeysByPattern(RedisTokenService.BLACKLIST_KEY_PREFIX + "*"))
+                .thenThrow(new RuntimeException("redis down"));
+
+        // when: 두 번 실패해도 기존 세대의 토큰은 계속 Redis 확인 대상
+        filter.rotate();
+        filter.rotate();
+
+        // then
+        assertThat(filter.mightContain("logout")).isTrue();
+        assertThat(filter.mightContain("seeded")).isTrue();
+        assertThat(filter.mightContain("unknown")).isFalse();
+    }
+
+    @Test
+    @DisplayName("세대 교체 중 도착한 알림 - 교체 후 이전 세대에서 확인")
+    void rotate_MessageDuringSeed_Kept() {
+        // given: Redis를 읽는 동안 다른 서버의 로그아웃 알림 도착 (Redis 조회 결과에는 없음)
+        when(keys.getKeysByPattern(RedisTokenService.BLACKLIST_KEY_PREFIX + "*")).thenAnswer(invocation -> {
+            messageListener.onMessage("token:blacklist", "during");
+            return List.of();
+        });
+
+        // when
+        filter.rotate();
+
+        // then
+        assertThat(filter.mightContain("during")).isTrue();
+    }
+}
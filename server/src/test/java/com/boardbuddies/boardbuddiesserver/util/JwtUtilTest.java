@@ -0,0 +1,84 @@
+package com.boardbuddies.boardbuddiesserver.util;
+
+import com.boardbuddies.boardbuddiesserver.config.JwtProperties;
+import com.boardbuddies.boardbuddiesserver.domain.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 ID (jti 발급, jti가 없는 이전 토큰은 토큰 전체)
+ */
+class JwtUtilTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-util-token-id";
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+        jwtUtil = new JwtUtil(jwtProperties, new SimpleMeterRegistry());
+        jwtUtil.init();
+    }
+
+    @Test
+    @DisplayName("액세스 토큰 - 발급마다 다른 16자 jti")
+    void accessToken_HasTokenId() {
+        // when
+        String first = jwtUtil.generateAccessToken(10L, 1L, Role.MEMBER, 1L);
+        String second = jwtUtil.generateAccessToken(10L, 1L, Role.MEMBER, 1L);
+
+        // then
+        Claims claims = jwtUtil.parseToken(first);
+        assertThat(claims.getId()).hasSize(16);
+        assertThat(jwtUtil.getTokenId(claims, first)).isEqualTo(claims.getId());
+        assertThat(jwtUtil.parseToken(second).getId()).isNotEqualTo(claims.getId());
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 - 넘긴 토큰 ID를 jti로 사용")
+    void refreshToken_HasGivenTokenId() {
+        // given
+        String tokenId = jwtUtil.newTokenId();
+
+        // when
+        String refreshToken = jwtUtil.generateRefreshToken(10L, tokenId);
+
+        // then
+        Claims claims = jwtUtil.parseToken(refreshToken);
+        assertThat(tokenId).hasSize(16);
+        assertThat(claims.getId()).isEqualTo(tokenId);
+        assertThat(jwtUtil.getTokenId(claims, refreshToken)).isEqualTo(tokenId);
+    }
+
+    @Test
+    @DisplayName("jti가 없는 이전 토큰 - 토큰 ID는 토큰 전체")
+    void legacyToken_TokenIdIsWholeToken() {
+        // given
+        String legacyToken = Jwts.builder()
+                .subject("10")
+                .claim("type", "access")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 60000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        // when
+        Claims claims = jwtUtil.parseToken(legacyToken);
+
+        // then
+        assertThat(claims.getId()).isNull();
+        assertThat(jwtUtil.getTokenId(claims, legacyToken)).isEqualTo(legacyToken);
+    }
+}